@@ -0,0 +1,102 @@
+package com.confession.game.benchmark;
+
+import com.confession.game.global.filter.BannedTermAutomaton;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 금지어 검사 비용 비교 (메시지 하나당).
+ * <ul>
+ *     <li>naive: 금지어마다 contains (금지어 수 × 메시지 길이)</li>
+ *     <li>automaton: Aho-Corasick 오토마톤으로 한 번 훑기 (메시지 길이)</li>
+ * </ul>
+ * <pre>./gradlew jmh -Pjmh.includes=ContentFilterBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentFilterBenchmark {
+
+    private static final int MESSAGES = 1_024;
+    private static final int MESSAGE_LENGTH = 80;
+    // 금지어가 들어간 메시지 비율
+    private static final double DIRTY_RATIO = 0.05;
+
+    @Param({"10000"})
+    public int terms;
+
+    @Param({"naive", "automaton"})
+    public String mode;
+
+    private List<String> bannedTerms;
+    private BannedTermAutomaton automaton;
+    private String[] messages;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+
+        bannedTerms = new ArrayList<>(terms);
+        for (int i = 0; i < terms; i++) {
+            bannedTerms.add(randomText(random, 2 + random.nextInt(4), false));
+        }
+        automaton = BannedTermAutomaton.compile(bannedTerms);
+
+        messages = new String[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            String message = randomText(random, MESSAGE_LENGTH, true);
+            if (random.nextDouble() < DIRTY_RATIO) {
+                int at = random.nextInt(MESSAGE_LENGTH / 2);
+                message = message.substring(0, at) + bannedTerms.get(random.nextInt(terms)) + message.substring(at);
+            }
+            messages[i] = message;
+        }
+    }
+
+    @Benchmark
+    public String filter() {
+        String message = messages[next++ & (MESSAGES - 1)];
+        if ("naive".equals(mode)) {
+            return naiveMask(message);
+        }
+        return automaton.mask(message, '*');
+    }
+
+    private String naiveMask(String message) {
+        String lower = message.toLowerCase(Locale.ROOT);
+        char[] masked = null;
+        for (String term : bannedTerms) {
+            int at = lower.indexOf(term);
+            while (at >= 0) {
+                if (masked == null) {
+                    masked = message.toCharArray();
+                }
+                for (int i = at; i < at + term.length(); i++) {
+                    masked[i] = '*';
+                }
+                at = lower.indexOf(term, at + 1);
+            }
+        }
+        return masked == null ? message : new String(masked);
+    }
+
+    /**
+     * 자주 쓰는 한글 음절 범위에서 고른 글자. spaces 면 띄어쓰기도 섞는다.
+     */
+    private static String randomText(Random random, int length, boolean spaces) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(spaces && random.nextInt(8) == 0 ? ' ' : (char) ('가' + random.nextInt(600)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,136 @@
+package com.confession.game.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.confession.game.domain.room.entity.Room;
+import com.confession.game.domain.room.repository.RoomRepository;
+import com.confession.game.domain.room.service.RoomService;
+import com.confession.game.global.config.GameProperties;
+import com.confession.game.global.handler.WebSocketHandler;
+import com.confession.game.global.handler.WebSocketHandlerFixture;
+import com.confession.game.global.memory.TextSlabPool;
+import com.confession.game.global.timer.HashedWheelTimer;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.TextMessage;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그 설정에 따른 핸들러 처리량(메시지/초) 비교.
+ * <ul>
+ *     <li>legacy: DEBUG 레벨, 본문 기록, 동기 appender (변경 전 설정)</li>
+ *     <li>tuned: INFO 레벨, 본문 생략, 샘플링, 비동기 appender</li>
+ * </ul>
+ * <pre>./gradlew jmh -Pjmh.includes=HandlerLoggingBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandlerLoggingBenchmark {
+
+    private static final int PLAYERS = 6;
+
+    @Param({"legacy", "tuned"})
+    public String mode;
+
+    private WebSocketHandler handler;
+    private HashedWheelTimer roundTimer;
+    private final List<BenchmarkWebSocketSession> sessions = new ArrayList<>();
+    private TextMessage chatFrame;
+    private TextMessage voteFrame;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        boolean legacy = "legacy".equals(mode);
+        configureLogging(legacy);
+
+        GameProperties gameProperties = new GameProperties();
+        gameProperties.getLogging().setLogMessageBodies(legacy);
+        gameProperties.getLogging().setSampledLinesPerSecond(legacy ? Integer.MAX_VALUE : 10);
+        gameProperties.getAdmission().setEnabled(false);
+
+        roundTimer = new HashedWheelTimer(100, 512);
+        roundTimer.start();
+
+        RoomService roomService = new RoomService(new RoomRepository(), gameProperties,
+                new TextSlabPool(gameProperties), event -> {
+        }, roundTimer);
+        handler = WebSocketHandlerFixture.create(roomService, gameProperties);
+
+        for (int i = 0; i < PLAYERS; i++) {
+            BenchmarkWebSocketSession session = new BenchmarkWebSocketSession("session-" + i);
+            sessions.add(session);
+            handler.handleMessage(session, new TextMessage(
+                    "{\"type\":\"join-room\",\"data\":{\"roomId\":\"bench\",\"playerId\":\"player-" + i
+                            + "\",\"playerName\":\"플레이어" + i + "\"}}"));
+        }
+        handler.handleMessage(sessions.get(0), new TextMessage("{\"type\":\"start-game\",\"data\":{}}"));
+
+        Room room = roomService.getRoom("bench");
+        sessions.removeIf(session -> room.getPlayers().get(room.getCurrentTarget()).getSessionId().equals(session.getId()));
+
+        chatFrame = new TextMessage("{\"type\":\"send-chat-message\",\"data\":{\"message\":\"벤치마크용 채팅 메시지입니다\"}}");
+        voteFrame = new TextMessage("{\"type\":\"vote\",\"data\":{\"agree\":true}}");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        roundTimer.stop();
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).reset();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public void chatAndVote() throws Exception {
+        BenchmarkWebSocketSession session = sessions.get(next++ % sessions.size());
+        handler.handleMessage(session, chatFrame);
+        handler.handleMessage(session, voteFrame);
+    }
+
+    private static void configureLogging(boolean legacy) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} - %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(context);
+        sink.setEncoder(encoder);
+        sink.setOutputStream(OutputStream.nullOutputStream());
+        sink.start();
+
+        Appender<ILoggingEvent> appender = sink;
+        if (!legacy) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(0);
+            async.setNeverBlock(true);
+            async.addAppender(sink);
+            async.start();
+            appender = async;
+        }
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        context.getLogger("com.confession.game").setLevel(legacy ? Level.DEBUG : Level.INFO);
+    }
+}
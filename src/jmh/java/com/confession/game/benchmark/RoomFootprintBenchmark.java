@@ -0,0 +1,165 @@
+package com.confession.game.benchmark;
+
+import com.confession.game.domain.room.entity.Room;
+
+import java.lang.ref.Reference;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이전 방 모델(문자열 키 투표 맵, LocalDateTime, UUID)과 현재 방 모델의 힙 사용량을 비교한다.
+ * <pre>./gradlew footprintBenchmark</pre>
+ */
+public class RoomFootprintBenchmark {
+
+    private static final int ROOMS = 10_000;
+    private static final int PLAYERS_PER_ROOM = 6;
+    private static final int CONFESSIONS_PER_ROOM = 4;
+
+    public static void main(String[] args) throws InterruptedException {
+        int rooms = args.length > 0 ? Integer.parseInt(args[0]) : ROOMS;
+
+        long legacyBytes = measure(() -> buildLegacyRooms(rooms));
+        long compactBytes = measure(() -> buildCompactRooms(rooms));
+
+        System.out.printf("rooms=%d players/room=%d confessions/room=%d%n", rooms, PLAYERS_PER_ROOM, CONFESSIONS_PER_ROOM);
+        System.out.printf("legacy : %,d bytes total, %,d bytes/room%n", legacyBytes, legacyBytes / rooms);
+        System.out.printf("compact: %,d bytes total, %,d bytes/room%n", compactBytes, compactBytes / rooms);
+        System.out.printf("saved  : %.1f%%%n", 100.0 * (legacyBytes - compactBytes) / legacyBytes);
+    }
+
+    private static long measure(java.util.function.Supplier<Object> builder) throws InterruptedException {
+        long before = usedHeap();
+        Object retained = builder.get();
+        try {
+            return usedHeap() - before;
+        } finally {
+            // 측정이 끝날 때까지 객체가 수집되지 않도록 유지
+            Reference.reachabilityFence(retained);
+        }
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static List<Room> buildCompactRooms(int rooms) {
+        List<Room> result = new ArrayList<>(rooms);
+        for (int r = 0; r < rooms; r++) {
+            Room room = Room.builder().roomId("room-" + r).build();
+            for (int p = 0; p < PLAYERS_PER_ROOM; p++) {
+                room.addPlayer(playerId(r, p), "플레이어" + p, "session-" + r + "-" + p);
+            }
+            room.startGame();
+
+            for (int c = 0; c < CONFESSIONS_PER_ROOM; c++) {
+                String sender = nonTarget(room.getCurrentTarget(), r, c);
+                String confessionId = room.addConfession(sender, message(c)).getId();
+                room.addExplanation(confessionId, explanation(c));
+            }
+            for (int p = 0; p < PLAYERS_PER_ROOM; p++) {
+                String voter = playerId(r, p);
+                if (!voter.equals(room.getCurrentTarget())) {
+                    room.vote(voter, true);
+                }
+            }
+            result.add(room);
+        }
+        return result;
+    }
+
+    private static List<LegacyRoom> buildLegacyRooms(int rooms) {
+        List<LegacyRoom> result = new ArrayList<>(rooms);
+        for (int r = 0; r < rooms; r++) {
+            LegacyRoom room = new LegacyRoom("room-" + r);
+            for (int p = 0; p < PLAYERS_PER_ROOM; p++) {
+                String id = playerId(r, p);
+                room.players.put(id, new LegacyPlayer(id, "플레이어" + p, "session-" + r + "-" + p));
+            }
+            room.currentTarget = playerId(r, 0);
+            room.targetHistory.add(room.currentTarget);
+
+            for (int c = 0; c < CONFESSIONS_PER_ROOM; c++) {
+                LegacyConfession confession = new LegacyConfession(UUID.randomUUID().toString(),
+                        nonTarget(room.currentTarget, r, c), message(c), LocalDateTime.now());
+                confession.explanation = explanation(c);
+                room.confessions.add(confession);
+            }
+            for (String voter : room.players.keySet()) {
+                if (!voter.equals(room.currentTarget)) {
+                    room.votes.put(voter, true);
+                }
+            }
+            result.add(room);
+        }
+        return result;
+    }
+
+    private static String playerId(int room, int player) {
+        return "player-" + room + "-" + player;
+    }
+
+    private static String nonTarget(String target, int room, int index) {
+        String candidate = playerId(room, 1 + index % (PLAYERS_PER_ROOM - 1));
+        return candidate.equals(target) ? playerId(room, 0) : candidate;
+    }
+
+    private static String message(int index) {
+        return "고해성사 메시지 " + index;
+    }
+
+    private static String explanation(int index) {
+        return "해명 " + index;
+    }
+
+    // ---- 변경 전 모델 ----
+
+    private static class LegacyPlayer {
+        final String id;
+        final String name;
+        final String sessionId;
+
+        LegacyPlayer(String id, String name, String sessionId) {
+            this.id = id;
+            this.name = name;
+            this.sessionId = sessionId;
+        }
+    }
+
+    private static class LegacyConfession {
+        final String id;
+        final String senderId;
+        final String message;
+        String explanation;
+        final LocalDateTime timestamp;
+
+        LegacyConfession(String id, String senderId, String message, LocalDateTime timestamp) {
+            this.id = id;
+            this.senderId = senderId;
+            this.message = message;
+            this.timestamp = timestamp;
+        }
+    }
+
+    private static class LegacyRoom {
+        final String roomId;
+        final Map<String, LegacyPlayer> players = new ConcurrentHashMap<>();
+        String currentTarget;
+        final List<String> targetHistory = new ArrayList<>();
+        final List<LegacyConfession> confessions = new ArrayList<>();
+        final Map<String, Boolean> votes = new ConcurrentHashMap<>();
+
+        LegacyRoom(String roomId) {
+            this.roomId = roomId;
+        }
+    }
+}
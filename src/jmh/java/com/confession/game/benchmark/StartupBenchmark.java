@@ -0,0 +1,133 @@
+package com.confession.game.benchmark;
+
+import com.confession.game.ConfessionGameApplication;
+import com.confession.game.domain.room.service.RoomService;
+import com.confession.game.global.handler.WebSocketHandler;
+import com.confession.game.global.lifecycle.SyntheticGameDriver;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 워밍업 유무에 따른 기동 지표 비교. 모드마다 새 JVM 을 띄워 측정한다.
+ * <ul>
+ *     <li>ready: JVM 시작부터 애플리케이션 준비 완료(ApplicationReadyEvent)까지</li>
+ *     <li>steady: JVM 시작부터 라운드 지연(구간 p50)이 안정 상태의 1.2배 안으로 들어온 시점까지</li>
+ *     <li>first p50: 준비 완료 직후 첫 구간의 라운드 지연</li>
+ * </ul>
+ * <pre>./gradlew startupBenchmark</pre>
+ */
+public class StartupBenchmark {
+
+    private static final int FORKS = 3;
+    private static final int WINDOWS = 40;
+    private static final int ROUNDS_PER_WINDOW = 25;
+    private static final int STEADY_WINDOWS = 5;
+    private static final double STEADY_TOLERANCE = 1.2;
+    private static final String RESULT_PREFIX = "RESULT ";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && "child".equals(args[0])) {
+            runChild(Boolean.parseBoolean(args[1]));
+            return;
+        }
+
+        int forks = args.length > 0 ? Integer.parseInt(args[0]) : FORKS;
+        System.out.printf("forks=%d windows=%d rounds/window=%d%n", forks, WINDOWS, ROUNDS_PER_WINDOW);
+        System.out.printf("%-8s %12s %12s %16s %16s%n", "mode", "ready(ms)", "steady(ms)", "first p50(us)", "steady p50(us)");
+        for (boolean warmup : new boolean[]{false, true}) {
+            long[] sums = new long[4];
+            for (int fork = 0; fork < forks; fork++) {
+                long[] result = fork(warmup);
+                for (int i = 0; i < sums.length; i++) {
+                    sums[i] += result[i];
+                }
+            }
+            System.out.printf("%-8s %12d %12d %16d %16d%n", warmup ? "warmup" : "cold",
+                    sums[0] / forks, sums[1] / forks, sums[2] / forks, sums[3] / forks);
+        }
+    }
+
+    private static long[] fork(boolean warmup) throws Exception {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                StartupBenchmark.class.getName(), "child", Boolean.toString(warmup))
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+
+        long[] result = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    result = Arrays.stream(line.substring(RESULT_PREFIX.length()).split(" "))
+                            .mapToLong(Long::parseLong)
+                            .toArray();
+                }
+            }
+        }
+        if (process.waitFor() != 0 || result == null) {
+            throw new IllegalStateException("측정 프로세스가 결과 없이 종료되었습니다.");
+        }
+        return result;
+    }
+
+    private static void runChild(boolean warmup) throws Exception {
+        long jvmStartedAt = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+        ConfigurableApplicationContext context = new SpringApplication(ConfessionGameApplication.class).run(
+                "--server.port=0",
+                "--game.warmup.enabled=" + warmup,
+                "--game.drain.enabled=false",
+                "--logging.level.root=WARN");
+        // run 은 ApplicationRunner(워밍업)와 준비 완료 알림까지 끝난 뒤 반환된다
+        long readyMillis = System.currentTimeMillis() - jvmStartedAt;
+
+        SyntheticGameDriver driver = new SyntheticGameDriver(
+                context.getBean(WebSocketHandler.class), context.getBean(RoomService.class));
+        long[] windowP50 = new long[WINDOWS];
+        long[] windowEndMillis = new long[WINDOWS];
+        long[] samples = new long[ROUNDS_PER_WINDOW];
+        for (int w = 0; w < WINDOWS; w++) {
+            for (int r = 0; r < ROUNDS_PER_WINDOW; r++) {
+                long startedAt = System.nanoTime();
+                driver.playRound("bench-" + w + "-" + r, 4);
+                samples[r] = System.nanoTime() - startedAt;
+            }
+            Arrays.sort(samples);
+            windowP50[w] = samples[ROUNDS_PER_WINDOW / 2];
+            windowEndMillis[w] = System.currentTimeMillis();
+        }
+
+        List<Long> tail = new ArrayList<>();
+        for (int w = WINDOWS - STEADY_WINDOWS; w < WINDOWS; w++) {
+            tail.add(windowP50[w]);
+        }
+        tail.sort(null);
+        long steadyP50 = tail.get(tail.size() / 2);
+
+        int steadyWindow = WINDOWS - 1;
+        for (int w = 0; w < WINDOWS; w++) {
+            if (windowP50[w] <= steadyP50 * STEADY_TOLERANCE) {
+                steadyWindow = w;
+                break;
+            }
+        }
+        // 준비 완료 직후 첫 구간부터 안정 상태라면 준비 완료 시점을 그대로 쓴다
+        long steadyMillis = steadyWindow == 0 ? readyMillis : windowEndMillis[steadyWindow - 1] - jvmStartedAt;
+
+        System.out.println(RESULT_PREFIX + readyMillis + " " + steadyMillis + " "
+                + windowP50[0] / 1_000 + " " + steadyP50 / 1_000);
+        context.close();
+        System.exit(0);
+    }
+}
@@ -0,0 +1,252 @@
+package com.confession.game.benchmark;
+
+import com.confession.game.ConfessionGameApplication;
+import com.confession.game.global.capture.CaptureReader;
+import com.confession.game.global.capture.CaptureRecord;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 캡처 파일(game.capture)을 원래 간격대로, 또는 speed 배 빠르게 서버에 다시 보내 지연과 처리량을 잰다.
+ * 같은 캡처를 빌드마다 재생해 실제 트래픽 모양에서의 성능을 비교한다.
+ * <ul>
+ *     <li>latency: 명령을 보낸 뒤 같은 연결로 첫 프레임을 받을 때까지. 다른 플레이어 때문에 온 브로드캐스트가 먼저 오면 짧게 잡힌다</li>
+ *     <li>errors: 받은 error 프레임 수. 무작위 대상 선정이나 매칭 방 ID 처럼 서버가 정하는 값이 캡처 때와 달라 거절된 명령도 포함된다</li>
+ * </ul>
+ * <pre>./gradlew trafficReplay -Pcapture=captures/capture-1700000000000.cap [-Pspeed=4] [-Ptarget=ws://host:8080/ws]</pre>
+ * target 을 생략하면 이 JVM 에서 새 서버를 띄워 그 서버로 보낸다.
+ */
+public class TrafficReplay {
+
+    // 마지막 기록을 보낸 뒤 응답이 이만큼 멈추면 끝낸다
+    private static final long QUIET_MILLIS = 1_000;
+    private static final long MAX_DRAIN_MILLIS = 10_000;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder failedConnections = new LongAdder();
+    private final AtomicLong lastReceivedAt = new AtomicLong();
+    private final Latencies latencies = new Latencies();
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0 || args[0].isEmpty()) {
+            System.err.println("사용법: TrafficReplay <캡처 파일> [speed=1] [target=ws://host:port/ws]");
+            System.exit(2);
+        }
+        Path capture = Path.of(args[0]);
+        double speed = args.length > 1 && !args[1].isEmpty() ? Double.parseDouble(args[1]) : 1.0;
+        String target = args.length > 2 && !args[2].isEmpty() ? args[2] : null;
+        if (speed <= 0) {
+            throw new IllegalArgumentException("speed 는 0 보다 커야 합니다.");
+        }
+
+        ConfigurableApplicationContext context = null;
+        if (target == null) {
+            context = new SpringApplication(ConfessionGameApplication.class).run(
+                    "--server.port=0",
+                    "--game.capture.enabled=false",
+                    "--game.drain.enabled=false",
+                    "--logging.level.root=WARN");
+            target = "ws://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/ws";
+        }
+
+        new TrafficReplay().replay(capture, URI.create(target), speed);
+
+        if (context != null) {
+            context.close();
+        }
+        System.exit(0);
+    }
+
+    private void replay(Path capture, URI target, double speed) throws Exception {
+        Map<Integer, Connection> connections = new HashMap<>();
+        long capturedNanos = 0;
+        long startedAt = System.nanoTime();
+
+        try (CaptureReader reader = new CaptureReader(capture)) {
+            CaptureRecord record;
+            while ((record = reader.next()) != null) {
+                capturedNanos = record.offsetNanos();
+                waitUntil(startedAt + (long) (record.offsetNanos() / speed));
+
+                switch (record.kind()) {
+                    case OPEN -> connections.put(record.connection(), open(target, record.value()));
+                    case MESSAGE -> {
+                        Connection connection = connections.get(record.connection());
+                        if (connection != null) {
+                            connection.send(record.value());
+                        }
+                    }
+                    case CLOSE -> {
+                        Connection connection = connections.remove(record.connection());
+                        if (connection != null) {
+                            connection.close();
+                        }
+                    }
+                }
+            }
+        }
+        long sendingNanos = System.nanoTime() - startedAt;
+
+        // 보낸 명령의 응답이 다 올 때까지 기다린 뒤 남은 연결을 닫는다
+        CompletableFuture.allOf(connections.values().stream()
+                .map(Connection::sending)
+                .toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+        long drainDeadline = System.currentTimeMillis() + MAX_DRAIN_MILLIS;
+        lastReceivedAt.accumulateAndGet(System.currentTimeMillis(), Math::max);
+        while (System.currentTimeMillis() - lastReceivedAt.get() < QUIET_MILLIS
+                && System.currentTimeMillis() < drainDeadline) {
+            Thread.sleep(50);
+        }
+        connections.values().forEach(Connection::close);
+
+        report(capture, speed, capturedNanos, sendingNanos);
+    }
+
+    private void report(Path capture, double speed, long capturedNanos, long sendingNanos) {
+        long[] sorted = latencies.sorted();
+        double seconds = Math.max(sendingNanos, 1) / 1e9;
+        System.out.printf("capture=%s speed=%.2fx%n", capture, speed);
+        System.out.printf("captured %.1fs -> replayed %.1fs (lag %+.1f%%)%n", capturedNanos / 1e9, seconds,
+                capturedNanos == 0 ? 0 : (sendingNanos * speed / capturedNanos - 1) * 100);
+        System.out.printf("sent=%d (%.0f/s) received=%d (%.0f/s) errors=%d failedConnections=%d%n",
+                sent.sum(), sent.sum() / seconds, received.sum(), received.sum() / seconds,
+                errors.sum(), failedConnections.sum());
+        System.out.printf("latency(us) samples=%d p50=%d p90=%d p99=%d max=%d%n", sorted.length,
+                percentile(sorted, 0.5), percentile(sorted, 0.9), percentile(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+    }
+
+    private Connection open(URI target, String query) {
+        URI uri = query == null || query.isEmpty() ? target : URI.create(target + "?" + query);
+        Connection connection = new Connection();
+        connection.socket = client.newWebSocketBuilder()
+                .buildAsync(uri, connection)
+                .whenComplete((socket, e) -> {
+                    if (e != null) {
+                        failedConnections.increment();
+                    }
+                });
+        connection.sending = connection.socket;
+        return connection;
+    }
+
+    private void countErrors(String frame) {
+        try {
+            JsonNode node = objectMapper.readTree(frame);
+            if ("batch".equals(node.path("type").asText())) {
+                node.path("data").forEach(this::countError);
+            } else {
+                countError(node);
+            }
+        } catch (Exception e) {
+            errors.increment();
+        }
+    }
+
+    private void countError(JsonNode node) {
+        if ("error".equals(node.path("type").asText())) {
+            errors.increment();
+        }
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static long percentile(long[] sorted, double q) {
+        if (sorted.length == 0) return 0;
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(q * sorted.length) - 1)];
+    }
+
+    /**
+     * 재생 중인 연결 하나. 보내기는 앞 전송이 끝난 뒤 이어 붙여 순서를 지킨다.
+     */
+    private final class Connection implements WebSocket.Listener {
+
+        private CompletableFuture<WebSocket> socket;
+        private CompletableFuture<?> sending;
+
+        // 응답을 아직 받지 못한 명령의 전송 시각
+        private final Queue<Long> outstanding = new ConcurrentLinkedQueue<>();
+        private final StringBuilder partial = new StringBuilder();
+
+        void send(String payload) {
+            sending = sending.thenCompose(ignored -> {
+                outstanding.add(System.nanoTime());
+                sent.increment();
+                return socket.join().sendText(payload, true);
+            });
+        }
+
+        void close() {
+            sending = sending.thenCompose(ignored -> socket.join().sendClose(WebSocket.NORMAL_CLOSURE, ""))
+                    .exceptionally(e -> null);
+        }
+
+        CompletableFuture<?> sending() {
+            return sending;
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            partial.append(data);
+            if (last) {
+                Long sentAt = outstanding.poll();
+                if (sentAt != null) {
+                    latencies.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentAt));
+                }
+                received.increment();
+                lastReceivedAt.accumulateAndGet(System.currentTimeMillis(), Math::max);
+                countErrors(partial.toString());
+                partial.setLength(0);
+            }
+            webSocket.request(1);
+            return null;
+        }
+    }
+
+    private static final class Latencies {
+
+        private long[] values = new long[1_024];
+        private int size;
+
+        synchronized void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
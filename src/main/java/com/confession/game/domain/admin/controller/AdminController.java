@@ -0,0 +1,102 @@
+package com.confession.game.domain.admin.controller;
+
+import com.confession.game.domain.admin.service.AdminService;
+import com.confession.game.domain.room.entity.Room;
+import com.confession.game.global.config.GameProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "game.admin", name = "enabled", havingValue = "true")
+// StreamingResponseBody 는 서블릿 스택(Spring MVC)에서만 쓸 수 있다
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AdminController {
+
+    private static final String TOKEN_HEADER = "X-Admin-Token";
+
+    private final AdminService adminService;
+    private final GameProperties gameProperties;
+
+    /**
+     * 모든 방 요약. 요청 스레드가 아닌 비동기 스레드에서 한 방씩 응답에 쓴다.
+     */
+    @GetMapping("/rooms")
+    public ResponseEntity<StreamingResponseBody> getRooms(
+            @RequestParam(required = false) Room.GameState state,
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token) {
+        HttpStatus rejected = rejectToken(token);
+        if (rejected != null) {
+            return ResponseEntity.status(rejected).build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> adminService.writeRooms(out, state));
+    }
+
+    @GetMapping("/rooms/{roomId}")
+    public ResponseEntity<byte[]> getRoom(
+            @PathVariable String roomId,
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token) {
+        HttpStatus rejected = rejectToken(token);
+        if (rejected != null) {
+            return ResponseEntity.status(rejected).build();
+        }
+
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(adminService.getEncodedRoom(roomId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * 방을 강제로 닫는다. 연결은 끊지 않는다.
+     */
+    @DeleteMapping("/rooms/{roomId}")
+    public ResponseEntity<Void> closeRoom(
+            @PathVariable String roomId,
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token) {
+        HttpStatus rejected = rejectToken(token);
+        if (rejected != null) {
+            return ResponseEntity.status(rejected).build();
+        }
+
+        return adminService.closeRoom(roomId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * @return 통과면 null. 토큰을 설정하지 않았으면 403 (열어 둔 채로 두지 않는다), 틀리면 401
+     */
+    private HttpStatus rejectToken(String token) {
+        String expected = gameProperties.getAdmin().getToken();
+        if (expected == null || expected.isBlank()) {
+            return HttpStatus.FORBIDDEN;
+        }
+        // 길이 외의 정보가 응답 시간으로 드러나지 않도록 상수 시간 비교
+        boolean matches = token != null && MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+        return matches ? null : HttpStatus.UNAUTHORIZED;
+    }
+}
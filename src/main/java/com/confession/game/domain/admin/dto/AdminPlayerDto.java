@@ -0,0 +1,28 @@
+package com.confession.game.domain.admin.dto;
+
+import com.confession.game.domain.player.entity.Player;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminPlayerDto {
+    private String id;
+    private String name;
+    // 재접속을 기다리는(복원된) 플레이어는 null
+    private String sessionId;
+    private int slot;
+
+    public static AdminPlayerDto from(Player player) {
+        return AdminPlayerDto.builder()
+                .id(player.getId())
+                .name(player.getName())
+                .sessionId(player.getSessionId())
+                .slot(player.getSlot())
+                .build();
+    }
+}
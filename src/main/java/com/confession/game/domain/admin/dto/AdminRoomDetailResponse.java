@@ -0,0 +1,42 @@
+package com.confession.game.domain.admin.dto;
+
+import com.confession.game.global.handler.WebSocketHandler;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminRoomDetailResponse {
+    private String roomId;
+    private String gameState;
+    private String roundPhase;
+    private long phaseDeadline;
+    private String currentTarget;
+    private int targetHistorySize;
+    private int confessionCount;
+    private long revision;
+    // 읽는 동안 방이 바뀌지 않았으면 true. false 면 서로 다른 시점의 값이 섞였을 수 있다
+    private boolean consistent;
+    private List<AdminPlayerDto> players;
+    private int spectatorCount;
+    // 이 노드에서 방에 참가 중인 연결
+    private List<WebSocketHandler.SessionView> sessions;
+    private QueueDepths queues;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class QueueDepths {
+        // 이 노드 전체 값
+        private int matchmakingWaiting;
+        private int journalQueued;
+        private int pendingPartialMessages;
+    }
+}
@@ -0,0 +1,19 @@
+package com.confession.game.domain.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminRoomDto {
+    private String roomId;
+    private String gameState;
+    private String roundPhase;
+    private int playerCount;
+    private int spectatorCount;
+    private long revision;
+}
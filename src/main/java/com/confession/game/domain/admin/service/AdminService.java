@@ -0,0 +1,156 @@
+package com.confession.game.domain.admin.service;
+
+import com.confession.game.domain.admin.dto.AdminPlayerDto;
+import com.confession.game.domain.admin.dto.AdminRoomDetailResponse;
+import com.confession.game.domain.admin.dto.AdminRoomDto;
+import com.confession.game.domain.player.entity.Player;
+import com.confession.game.domain.room.entity.Room;
+import com.confession.game.domain.room.repository.RoomRepository;
+import com.confession.game.global.common.BaseResponse;
+import com.confession.game.global.handler.Matchmaker;
+import com.confession.game.global.handler.SpectatorRegistry;
+import com.confession.game.global.handler.WebSocketHandler;
+import com.confession.game.global.journal.GameEventJournal;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 운영용 방 조회와 강제 종료.
+ * <p>
+ * 방을 읽을 때 Room 의 락을 잡지 않는다. 동시 접근에 안전한 플레이어 맵과 필드를 그대로 읽고,
+ * Room 의 revision 을 시퀀스 락으로 써서 읽는 도중이거나 읽기 전후에 쓰기가 있었으면 다시 읽는다.
+ * 그래서 조회가 게임 진행을 기다리게 하지 않는다.
+ * 방 목록은 한 방씩 인코딩해 바로 응답 스트림에 쓰므로 방 수만큼의 목록을 메모리에 만들지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminService {
+
+    private static final int MAX_READ_ATTEMPTS = 3;
+    private static final int FLUSH_EVERY_ROOMS = 1_024;
+
+    private final RoomRepository roomRepository;
+    private final WebSocketHandler webSocketHandler;
+    private final SpectatorRegistry spectatorRegistry;
+    private final Matchmaker matchmaker;
+    private final ObjectProvider<GameEventJournal> gameEventJournal;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * 방 목록을 {"type":"admin-rooms","data":{"rooms":[...],"count":n}} 형태로 스트림에 쓴다.
+     *
+     * @param state null 이면 모든 방
+     */
+    public void writeRooms(OutputStream out, Room.GameState state) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // 스트림은 호출한 쪽(서블릿 컨테이너)이 닫는다
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeStringField("type", "admin-rooms");
+            generator.writeObjectFieldStart("data");
+            generator.writeArrayFieldStart("rooms");
+
+            int count = 0;
+            // ConcurrentHashMap 순회는 복사 없이 진행되며, 도중에 생기거나 사라진 방은 포함될 수도 안 될 수도 있다
+            for (Room room : roomRepository.findAll()) {
+                if (state != null && room.getGameState() != state) continue;
+
+                generator.writeObject(summary(room));
+                if (++count % FLUSH_EVERY_ROOMS == 0) {
+                    generator.flush();
+                }
+            }
+
+            generator.writeEndArray();
+            generator.writeNumberField("count", count);
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException 없는 방
+     */
+    public AdminRoomDetailResponse describeRoom(String roomId) {
+        Room room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new IllegalArgumentException("방을 찾을 수 없습니다: " + roomId));
+
+        AdminRoomDetailResponse.AdminRoomDetailResponseBuilder view;
+        boolean consistent;
+        int attempts = 0;
+        do {
+            long revision = room.getRevision();
+            view = readRoom(room).revision(revision);
+            consistent = room.isUnchangedSince(revision);
+        } while (!consistent && ++attempts < MAX_READ_ATTEMPTS);
+
+        GameEventJournal journal = gameEventJournal.getIfAvailable();
+        return view
+                .consistent(consistent)
+                .spectatorCount(spectatorRegistry.countSpectators(roomId))
+                .sessions(webSocketHandler.describeSessions(roomId))
+                .queues(AdminRoomDetailResponse.QueueDepths.builder()
+                        .matchmakingWaiting(matchmaker.waitingCount())
+                        .journalQueued(journal != null ? journal.queuedCount() : 0)
+                        .pendingPartialMessages(webSocketHandler.pendingPartialMessages())
+                        .build())
+                .build();
+    }
+
+    public byte[] getEncodedRoom(String roomId) {
+        try {
+            return objectMapper.writeValueAsBytes(BaseResponse.of("admin-room", describeRoom(roomId)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("방 정보 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * @return 방이 없었으면 false
+     */
+    public boolean closeRoom(String roomId) {
+        return webSocketHandler.closeRoom(roomId);
+    }
+
+    private AdminRoomDto summary(Room room) {
+        return AdminRoomDto.builder()
+                .roomId(room.getRoomId())
+                .gameState(name(room.getGameState()))
+                .roundPhase(name(room.getRoundPhase()))
+                .playerCount(room.getPlayers().size())
+                .spectatorCount(spectatorRegistry.countSpectators(room.getRoomId()))
+                .revision(room.getRevision())
+                .build();
+    }
+
+    private AdminRoomDetailResponse.AdminRoomDetailResponseBuilder readRoom(Room room) {
+        // 고해성사, 대상자 이력 목록은 락 밖에서 순회하지 않고 크기만 읽는다
+        List<AdminPlayerDto> players = room.getPlayers().values().stream()
+                .sorted(Comparator.comparingInt(Player::getSlot))
+                .map(AdminPlayerDto::from)
+                .toList();
+
+        return AdminRoomDetailResponse.builder()
+                .roomId(room.getRoomId())
+                .gameState(name(room.getGameState()))
+                .roundPhase(name(room.getRoundPhase()))
+                .phaseDeadline(room.getPhaseDeadline())
+                .currentTarget(room.getCurrentTarget())
+                .targetHistorySize(room.getTargetHistory().size())
+                .confessionCount(room.getConfessions().size())
+                .players(players);
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.confession.game.domain.chat.dto;
+
+import com.confession.game.domain.chat.entity.ChatHistory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatHistoryResponse {
+    private List<ChatMessageDto> messages;
+    private long nextCursor;
+    private boolean hasMore;
+
+    public static ChatHistoryResponse from(ChatHistory.Page page) {
+        return ChatHistoryResponse.builder()
+                .messages(page.messages().stream()
+                        .map(ChatMessageDto::from)
+                        .toList())
+                .nextCursor(page.nextCursor())
+                .hasMore(page.hasMore())
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.confession.game.domain.chat.dto;
+
+import com.confession.game.domain.chat.entity.ChatMessage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageDto {
+    private long sequence;
+    private String senderId;
+    private String senderName;
+    private String message;
+    private long timestamp;
+
+    public static ChatMessageDto from(ChatMessage chatMessage) {
+        return ChatMessageDto.builder()
+                .sequence(chatMessage.getSequence())
+                .senderId(chatMessage.getSenderId())
+                .senderName(chatMessage.getSenderName())
+                .message(chatMessage.getMessage())
+                .timestamp(chatMessage.getTimestamp())
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.confession.game.domain.chat.entity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 라운드 단위 채팅 기록을 보관하는 고정 크기 링 버퍼.
+ * 가득 차면 가장 오래된 메시지를 덮어쓰며, 메시지마다 락을 잡지 않는다.
+ */
+public class ChatHistory {
+
+    public static final int DEFAULT_CAPACITY = 128;
+
+    private final int mask;
+    private final AtomicReferenceArray<ChatMessage> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    // 현재 라운드의 첫 시퀀스. 이보다 작은 메시지는 이전 라운드로 간주한다.
+    private volatile long roundStart;
+
+    public ChatHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ChatHistory(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("채팅 기록 크기는 1 이상이어야 합니다.");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    public ChatMessage append(String senderId, String senderName, String message, long timestamp) {
+        long seq = sequence.getAndIncrement();
+        ChatMessage chatMessage = ChatMessage.builder()
+                .sequence(seq)
+                .senderId(senderId)
+                .senderName(senderName)
+                .message(message)
+                .timestamp(timestamp)
+                .build();
+
+        slots.set(slotIndex(seq), chatMessage);
+        return chatMessage;
+    }
+
+    /**
+     * before 커서보다 오래된 메시지를 최신순으로 최대 limit 개 찾아 시간순으로 돌려준다.
+     * before 가 null 이면 가장 최근 메시지부터 조회한다.
+     */
+    public Page fetch(Long before, int limit) {
+        long head = sequence.get();
+        long end = before == null ? head : Math.min(before, head);
+        long floor = Math.max(roundStart, head - slots.length());
+
+        List<ChatMessage> messages = new ArrayList<>(Math.max(0, Math.min(limit, slots.length())));
+        long seq = end - 1;
+        for (; seq >= floor && messages.size() < limit; seq--) {
+            ChatMessage chatMessage = slots.get(slotIndex(seq));
+            // 아직 기록 중이거나 이미 덮어써진 슬롯은 건너뛴다.
+            if (chatMessage != null && chatMessage.getSequence() == seq) {
+                messages.add(chatMessage);
+            }
+        }
+        Collections.reverse(messages);
+
+        long nextCursor = messages.isEmpty() ? end : messages.get(0).getSequence();
+        return new Page(messages, nextCursor, seq >= floor);
+    }
+
+    /**
+     * 새 라운드를 시작한다. 슬롯을 비우지 않고 시작 시퀀스만 옮긴다.
+     */
+    public void clear() {
+        this.roundStart = sequence.get();
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    private int slotIndex(long seq) {
+        return (int) (seq & mask);
+    }
+
+    public record Page(List<ChatMessage> messages, long nextCursor, boolean hasMore) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.confession.game.domain.chat.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ChatMessage {
+    private final long sequence;  // 방 단위로 단조 증가하는 커서 값
+    private final String senderId;
+    private final String senderName;
+    private final String message;
+    private final long timestamp;
+}
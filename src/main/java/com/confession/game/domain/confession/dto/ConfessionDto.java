@@ -6,8 +6,6 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalDateTime;
-
 @Getter
 @Builder
 @NoArgsConstructor
@@ -16,7 +14,7 @@ public class ConfessionDto {
     private String id;
     private String message;
     private String explanation;
-    private LocalDateTime timestamp;
+    private long timestamp;
 
     public static ConfessionDto from(Confession confession) {
         return ConfessionDto.builder()
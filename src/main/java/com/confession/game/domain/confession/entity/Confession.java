@@ -1,12 +1,12 @@
 package com.confession.game.domain.confession.entity;
 
+import com.confession.game.global.memory.TextArena;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalDateTime;
-
 @Getter
 @Builder
 @NoArgsConstructor
@@ -14,11 +14,48 @@ import java.time.LocalDateTime;
 public class Confession {
     private String id;
     private String senderId;  // 서버에서만 관리 (익명성 보장)
+
+    @Getter(AccessLevel.NONE)
     private String message;
+
+    @Getter(AccessLevel.NONE)
     private String explanation;
-    private LocalDateTime timestamp;
+
+    private long timestamp;  // epoch millis
+
+    // 힙 밖 아레나에 저장된 경우의 참조 (아레나를 쓰지 않으면 NO_REF)
+    private TextArena arena;
+    private int arenaGeneration;
+
+    @Builder.Default
+    private long messageRef = TextArena.NO_REF;
+
+    @Builder.Default
+    private long explanationRef = TextArena.NO_REF;
+
+    public String getMessage() {
+        return messageRef == TextArena.NO_REF ? message : arena.read(messageRef, arenaGeneration);
+    }
+
+    public String getExplanation() {
+        return explanationRef == TextArena.NO_REF ? explanation : arena.read(explanationRef, arenaGeneration);
+    }
+
+    public boolean isMessageOffHeap() {
+        return messageRef != TextArena.NO_REF;
+    }
 
     public void addExplanation(String explanation) {
+        if (arena != null && arena.generation() == arenaGeneration) {
+            long ref = arena.store(explanation);
+            if (ref != TextArena.NO_REF) {
+                this.explanationRef = ref;
+                this.explanation = null;
+                return;
+            }
+        }
+
+        this.explanationRef = TextArena.NO_REF;
         this.explanation = explanation;
     }
 }
@@ -22,6 +22,8 @@ public class RoomStateResponse {
     private List<String> targetHistory;
     private List<ConfessionDto> confessions;
     private VoteStatus votes;
+    private String phase;
+    private long phaseDeadline;
 
     @Getter
     @Builder
@@ -45,9 +47,38 @@ public class RoomStateResponse {
                         .map(ConfessionDto::from)
                         .toList())
                 .votes(VoteStatus.builder()
-                        .count(room.getVotes().size())
+                        .count(room.getVoteCount())
                         .required(room.getPlayers().size() - 1)
                         .build())
+                .phase(phaseName(room))
+                .phaseDeadline(room.getPhaseDeadline())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 관전자용 공개 상태. 고해성사 내용은 포함하지 않는다.
+     */
+    public static RoomStateResponse publicFrom(Room room) {
+        return RoomStateResponse.builder()
+                .roomId(room.getRoomId())
+                .players(room.getPlayers().values().stream()
+                        .map(PlayerDto::from)
+                        .toList())
+                .gameState(room.getGameState().name())
+                .currentTarget(room.getCurrentTarget())
+                .targetHistory(room.getTargetHistory())
+                .confessions(List.of())
+                .votes(VoteStatus.builder()
+                        .count(room.getVoteCount())
+                        .required(room.getPlayers().size() - 1)
+                        .build())
+                .phase(phaseName(room))
+                .phaseDeadline(room.getPhaseDeadline())
+                .build();
+    }
+
+    private static String phaseName(Room room) {
+        Room.RoundPhase phase = room.getRoundPhase();
+        return phase != null ? phase.name().toLowerCase() : null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.confession.game.domain.lobby.controller;
+
+import com.confession.game.domain.lobby.service.LobbyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/lobby")
+@RequiredArgsConstructor
+public class LobbyController {
+
+    private final LobbyService lobbyService;
+
+    /**
+     * 참가 가능한 방 목록. 목록이 바뀌지 않았으면 If-None-Match 로 304 를 돌려준다.
+     */
+    @GetMapping("/rooms")
+    public ResponseEntity<byte[]> getRooms(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer minPlayers,
+            @RequestParam(required = false) Integer maxPlayers,
+            @RequestParam(defaultValue = "" + LobbyService.DEFAULT_PAGE_SIZE) int limit,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+
+        String eTag = "\"" + lobbyService.version() + "\"";
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(304).eTag(eTag).build();
+        }
+
+        byte[] body = lobbyService.getEncodedRooms(after, minPlayers, maxPlayers, limit);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
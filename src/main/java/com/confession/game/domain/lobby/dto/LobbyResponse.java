@@ -0,0 +1,20 @@
+package com.confession.game.domain.lobby.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LobbyResponse {
+    private List<LobbyRoomDto> rooms;
+    // 다음 페이지 요청 시 after 로 넘길 방 ID (없으면 null)
+    private String nextCursor;
+    private boolean hasMore;
+    private long version;
+}
@@ -0,0 +1,25 @@
+package com.confession.game.domain.lobby.dto;
+
+import com.confession.game.domain.room.entity.Room;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LobbyRoomDto {
+    private String roomId;
+    private int playerCount;
+    private int maxPlayers;
+
+    public static LobbyRoomDto from(Room room, int maxPlayers) {
+        return LobbyRoomDto.builder()
+                .roomId(room.getRoomId())
+                .playerCount(room.getPlayers().size())
+                .maxPlayers(maxPlayers)
+                .build();
+    }
+}
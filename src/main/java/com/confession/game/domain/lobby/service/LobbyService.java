@@ -0,0 +1,174 @@
+package com.confession.game.domain.lobby.service;
+
+import com.confession.game.domain.lobby.dto.LobbyResponse;
+import com.confession.game.domain.lobby.dto.LobbyRoomDto;
+import com.confession.game.domain.room.entity.Room;
+import com.confession.game.domain.room.event.RoomEvent;
+import com.confession.game.domain.room.repository.RoomRepository;
+import com.confession.game.global.common.BaseResponse;
+import com.confession.game.global.config.GameProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 참가 가능한(WAITING) 방 목록.
+ * <p>
+ * RoomService 가 발행하는 참가/퇴장/시작 이벤트마다 해당 방 하나만 다시 반영하므로
+ * 조회 시 RoomRepository 전체를 훑지 않는다. 인코딩한 응답은 목록이 바뀔 때까지 재사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LobbyService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CACHED_PAGES = 256;
+
+    private final RoomRepository roomRepository;
+    private final GameProperties gameProperties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // roomId -> 목록 항목. 방 단위 갱신은 compute 로 원자적으로 처리한다
+    private final Map<String, LobbyRoomDto> entries = new ConcurrentHashMap<>();
+
+    // 커서 기반 페이지네이션을 위한 정렬된 방 ID
+    private final NavigableSet<String> roomIds = new ConcurrentSkipListSet<>();
+
+    // 목록이 바뀔 때마다 증가. 캐시 무효화와 ETag 에 쓴다
+    private final AtomicLong version = new AtomicLong();
+
+    private final Map<PageKey, CachedPage> cache = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onRoomEvent(RoomEvent event) {
+        switch (event.type()) {
+            case JOIN, LEAVE, START, ROOM_DELETED -> refresh(event.roomId());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 방 하나의 현재 상태를 목록에 반영한다.
+     */
+    public void refresh(String roomId) {
+        entries.compute(roomId, (id, previous) -> {
+            LobbyRoomDto current = roomRepository.findById(id)
+                    .map(this::toEntry)
+                    .orElse(null);
+
+            if (current == null) {
+                roomIds.remove(id);
+            } else {
+                roomIds.add(id);
+            }
+            if (!sameEntry(previous, current)) {
+                version.incrementAndGet();
+            }
+            return current;
+        });
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public LobbyResponse getRooms(String after, Integer minPlayers, Integer maxPlayers, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long currentVersion = version.get();
+
+        NavigableSet<String> candidates = after != null ? roomIds.tailSet(after, false) : roomIds;
+        List<LobbyRoomDto> rooms = new ArrayList<>(pageSize);
+        boolean hasMore = false;
+
+        for (String roomId : candidates) {
+            LobbyRoomDto entry = entries.get(roomId);
+            if (entry == null || !matches(entry, minPlayers, maxPlayers)) {
+                continue;
+            }
+            if (rooms.size() == pageSize) {
+                hasMore = true;
+                break;
+            }
+            rooms.add(entry);
+        }
+
+        return LobbyResponse.builder()
+                .rooms(rooms)
+                .nextCursor(hasMore ? rooms.get(rooms.size() - 1).getRoomId() : null)
+                .hasMore(hasMore)
+                .version(currentVersion)
+                .build();
+    }
+
+    /**
+     * 인코딩된 응답. 목록이 바뀌지 않았다면 직렬화 없이 캐시된 바이트를 그대로 돌려준다.
+     */
+    public byte[] getEncodedRooms(String after, Integer minPlayers, Integer maxPlayers, int limit) {
+        PageKey key = new PageKey(after, minPlayers, maxPlayers, limit);
+        long currentVersion = version.get();
+
+        CachedPage cached = cache.get(key);
+        if (cached != null && cached.version() == currentVersion) {
+            return cached.body();
+        }
+
+        LobbyResponse response = getRooms(after, minPlayers, maxPlayers, limit);
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(BaseResponse.of("lobby", response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("로비 응답 직렬화 실패", e);
+        }
+
+        if (cache.size() >= MAX_CACHED_PAGES) {
+            cache.clear();
+        }
+        cache.put(key, new CachedPage(response.getVersion(), body));
+        return body;
+    }
+
+    private LobbyRoomDto toEntry(Room room) {
+        // 방 메서드와 같은 락으로 읽어 인원 수와 상태가 어긋나지 않게 한다
+        synchronized (room) {
+            if (room.getGameState() != Room.GameState.WAITING || room.isEmpty()) {
+                return null;
+            }
+            return LobbyRoomDto.from(room, gameProperties.getRoom().getMaxPlayers());
+        }
+    }
+
+    private boolean matches(LobbyRoomDto entry, Integer minPlayers, Integer maxPlayers) {
+        return (minPlayers == null || entry.getPlayerCount() >= minPlayers)
+                && (maxPlayers == null || entry.getPlayerCount() <= maxPlayers);
+    }
+
+    private boolean sameEntry(LobbyRoomDto previous, LobbyRoomDto current) {
+        if (previous == null || current == null) {
+            return previous == current;
+        }
+        return previous.getPlayerCount() == current.getPlayerCount()
+                && previous.getMaxPlayers() == current.getMaxPlayers();
+    }
+
+    private record PageKey(String after, Integer minPlayers, Integer maxPlayers, int limit) {
+    }
+
+    private record CachedPage(long version, byte[] body) {
+    }
+}
@@ -13,6 +13,7 @@ public class Player {
     private String id;
     private String name;
     private String sessionId;
+    private int slot;  // 방 안에서 재사용되는 조밀한 인덱스 (투표 배열 위치)
 
     public void updateSessionId(String sessionId) {
         this.sessionId = sessionId;
@@ -1,13 +1,18 @@
 package com.confession.game.domain.room.entity;
 
+import com.confession.game.domain.chat.entity.ChatHistory;
+import com.confession.game.domain.chat.entity.ChatMessage;
 import com.confession.game.domain.confession.entity.Confession;
 import com.confession.game.domain.player.entity.Player;
+import com.confession.game.global.memory.TextArena;
+import com.confession.game.global.timer.HashedWheelTimer;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalDateTime;
+import java.lang.invoke.VarHandle;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -16,6 +21,13 @@ import java.util.concurrent.ConcurrentHashMap;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Room {
+    private static final int INITIAL_SLOTS = 8;
+
+    // 슬롯별 투표 상태
+    private static final byte NOT_VOTED = 0;
+    private static final byte AGREE = 1;
+    private static final byte DISAGREE = 2;
+
     private String roomId;
 
     @Builder.Default
@@ -32,41 +44,111 @@ public class Room {
     @Builder.Default
     private List<Confession> confessions = new ArrayList<>();
 
+    // 플레이어 슬롯 번호로 인덱싱하는 투표 배열. 플레이어 ID 문자열을 키로 다시 저장하지 않는다.
+    @Getter(AccessLevel.NONE)
     @Builder.Default
-    private Map<String, Boolean> votes = new ConcurrentHashMap<>();
+    private byte[] voteSlots = new byte[INITIAL_SLOTS];
 
-    public Player addPlayer(String playerId, String playerName, String sessionId) {
-        Player player = players.get(playerId);
-        if (player != null) {
-            player.updateSessionId(sessionId);
-            return player;
-        }
+    @Getter(AccessLevel.NONE)
+    @Builder.Default
+    private BitSet occupiedSlots = new BitSet();
 
-        player = Player.builder()
-                .id(playerId)
-                .name(playerName)
-                .sessionId(sessionId)
-                .build();
+    @Getter(AccessLevel.NONE)
+    private int voteCount;
 
-        players.put(playerId, player);
-        return player;
-    }
+    @Getter(AccessLevel.NONE)
+    private int disagreeCount;
+
+    @Getter(AccessLevel.NONE)
+    private long confessionSequence;
+
+    @Builder.Default
+    private ChatHistory chatHistory = new ChatHistory();
+
+    // 진행 중인 라운드 단계와 마감 시각(epoch millis, 0 이면 제한 없음). WAITING 상태에서는 null
+    private RoundPhase roundPhase;
+
+    private long phaseDeadline;
+
+    // 단계가 바뀔 때마다 증가. 이미 지난 단계의 타이머가 뒤늦게 실행되어도 무시하기 위해 쓴다
+    @Getter(AccessLevel.NONE)
+    private long phaseVersion;
 
-    public void removePlayer(String playerId) {
-        players.remove(playerId);
+    @Getter(AccessLevel.NONE)
+    private HashedWheelTimer.Timeout phaseTimer;
 
-        if (playerId.equals(currentTarget)) {
-            resetGame();
+    // 시퀀스 락. 방 상태를 바꾸는 동안 홀수, 다 바꾸면 짝수가 된다. 락 안에서만 쓰고 락 없이 읽는다
+    private volatile long revision;
+
+    // 락 안에서 쓰기가 중첩된 깊이. 가장 바깥 쓰기의 시작과 끝에서만 revision 을 올린다
+    @Getter(AccessLevel.NONE)
+    private int writeDepth;
+
+    // 방이 삭제되면 true. 락 안에서만 쓰며, 닫힌 방에는 참가하지 않고 저장소에 다시 넣지 않는다
+    private volatile boolean closed;
+
+    // 설정 시 고해성사/해명 텍스트를 힙 밖에 저장 (null 이면 힙에 저장)
+    @Getter(AccessLevel.NONE)
+    private TextArena textArena;
+
+    public synchronized Player addPlayer(String playerId, String playerName, String sessionId) {
+        beginWrite();
+        try {
+            Player player = players.get(playerId);
+            if (player != null) {
+                player.updateSessionId(sessionId);
+                return player;
+            }
+
+            int slot = occupiedSlots.nextClearBit(0);
+            occupiedSlots.set(slot);
+            if (slot >= voteSlots.length) {
+                voteSlots = Arrays.copyOf(voteSlots, Math.max(slot + 1, voteSlots.length * 2));
+            }
+
+            player = Player.builder()
+                    .id(playerId)
+                    .name(playerName)
+                    .sessionId(sessionId)
+                    .slot(slot)
+                    .build();
+
+            players.put(playerId, player);
+            return player;
+        } finally {
+            endWrite();
+        }
+    }
+
+    public synchronized void removePlayer(String playerId) {
+        beginWrite();
+        try {
+            Player removed = players.remove(playerId);
+            if (removed != null) {
+                clearVote(removed.getSlot());
+                occupiedSlots.clear(removed.getSlot());
+            }
+
+            if (playerId.equals(currentTarget)) {
+                resetGame();
+            }
+        } finally {
+            endWrite();
         }
     }
 
-    public void startGame() {
+    public synchronized void startGame() {
         if (players.size() < 2) {
             throw new IllegalStateException("최소 2명 이상의 플레이어가 필요합니다.");
         }
 
-        this.gameState = GameState.PLAYING;
-        selectRandomTarget();
+        beginWrite();
+        try {
+            this.gameState = GameState.PLAYING;
+            selectRandomTarget();
+        } finally {
+            endWrite();
+        }
     }
 
     private void selectRandomTarget() {
@@ -81,74 +163,333 @@ public class Room {
         }
 
         Random random = new Random();
-        this.currentTarget = availablePlayers.get(random.nextInt(availablePlayers.size()));
-        this.targetHistory.add(currentTarget);
-        this.confessions.clear();
-        this.votes.clear();
+        assignTarget(availablePlayers.get(random.nextInt(availablePlayers.size())));
     }
 
-    public void selectNextTarget(String targetId) {
+    public synchronized void selectNextTarget(String targetId) {
         if (targetHistory.contains(targetId)) {
             throw new IllegalArgumentException("이미 고해성사 대상이 된 플레이어입니다.");
         }
 
-        if (!players.containsKey(targetId)) {
+        Player target = players.get(targetId);
+        if (target == null) {
             throw new IllegalArgumentException("존재하지 않는 플레이어입니다.");
         }
 
+        // 요청마다 새로 파싱된 문자열 대신 플레이어가 가진 ID 인스턴스를 공유
+        beginWrite();
+        try {
+            assignTarget(target.getId());
+        } finally {
+            endWrite();
+        }
+    }
+
+    private void assignTarget(String targetId) {
         this.currentTarget = targetId;
         this.targetHistory.add(targetId);
-        this.confessions.clear();
-        this.votes.clear();
+        clearConfessions();
+        clearVotes();
+        this.chatHistory.clear();
+        enterPhase(RoundPhase.CONFESSION);
     }
 
-    public Confession addConfession(String senderId, String message) {
+    public synchronized Confession addConfession(String senderId, String message) {
+        Player sender = players.get(senderId);
+        long messageRef = textArena != null ? textArena.store(message) : TextArena.NO_REF;
+
         Confession confession = Confession.builder()
-                .id(UUID.randomUUID().toString())
-                .senderId(senderId)
-                .message(message)
-                .timestamp(LocalDateTime.now())
+                .id(Long.toString(++confessionSequence, Character.MAX_RADIX))
+                .senderId(sender != null ? sender.getId() : senderId)
+                .message(messageRef == TextArena.NO_REF ? message : null)
+                .timestamp(System.currentTimeMillis())
+                .arena(textArena)
+                .arenaGeneration(textArena != null ? textArena.generation() : 0)
+                .messageRef(messageRef)
                 .build();
 
-        confessions.add(confession);
+        beginWrite();
+        try {
+            confessions.add(confession);
+        } finally {
+            endWrite();
+        }
         return confession;
     }
 
-    public void addExplanation(String confessionId, String explanation) {
+    public synchronized void addExplanation(String confessionId, String explanation) {
         Confession confession = confessions.stream()
                 .filter(c -> c.getId().equals(confessionId))
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("고해성사 메시지를 찾을 수 없습니다."));
 
-        confession.addExplanation(explanation);
+        beginWrite();
+        try {
+            confession.addExplanation(explanation);
+            if (roundPhase == RoundPhase.CONFESSION) {
+                enterPhase(RoundPhase.EXPLANATION);
+            }
+        } finally {
+            endWrite();
+        }
+    }
+
+    public ChatMessage addChatMessage(String senderId, String message) {
+        Player sender = players.get(senderId);
+        if (sender == null) {
+            throw new IllegalArgumentException("존재하지 않는 플레이어입니다.");
+        }
+
+        return chatHistory.append(sender.getId(), sender.getName(), message, System.currentTimeMillis());
     }
 
-    public VoteResult vote(String playerId, boolean agree) {
-        votes.put(playerId, agree);
+    public synchronized VoteResult vote(String playerId, boolean agree) {
+        Player player = players.get(playerId);
+        if (player == null) {
+            throw new IllegalArgumentException("존재하지 않는 플레이어입니다.");
+        }
 
+        beginWrite();
+        try {
+            int slot = player.getSlot();
+            byte previous = voteSlots[slot];
+            if (previous == NOT_VOTED) {
+                voteCount++;
+            } else if (previous == DISAGREE) {
+                disagreeCount--;
+            }
+
+            voteSlots[slot] = agree ? AGREE : DISAGREE;
+            if (!agree) {
+                disagreeCount++;
+            }
+
+            VoteResult result = currentVoteResult(voteCount >= players.size() - 1);
+
+            if (roundPhase == RoundPhase.CONFESSION || roundPhase == RoundPhase.EXPLANATION) {
+                enterPhase(RoundPhase.VOTING);
+            }
+            if (result.isComplete() && roundPhase == RoundPhase.VOTING) {
+                enterPhase(RoundPhase.SELECTION);
+            }
+            return result;
+        } finally {
+            endWrite();
+        }
+    }
+
+    private VoteResult currentVoteResult(boolean complete) {
         int requiredVotes = players.size() - 1; // 대상 제외
-        boolean complete = votes.size() >= requiredVotes;
-        boolean allAgree = votes.values().stream().allMatch(v -> v);
 
         return VoteResult.builder()
                 .complete(complete)
-                .allAgree(allAgree)
-                .votes(votes.size())
+                .allAgree(disagreeCount == 0)
+                .votes(voteCount)
                 .required(requiredVotes)
                 .build();
     }
 
-    public void resetGame() {
-        this.gameState = GameState.WAITING;
-        this.currentTarget = null;
-        this.confessions.clear();
-        this.votes.clear();
+    public synchronized int getVoteCount() {
+        return voteCount;
+    }
+
+    /**
+     * 현재 투표 현황의 스냅샷 (플레이어 ID -> 동의 여부).
+     */
+    public synchronized Map<String, Boolean> getVotes() {
+        Map<String, Boolean> votes = new HashMap<>();
+        for (Player player : players.values()) {
+            byte vote = voteSlots[player.getSlot()];
+            if (vote != NOT_VOTED) {
+                votes.put(player.getId(), vote == AGREE);
+            }
+        }
+        return votes;
+    }
+
+    public synchronized void resetGame() {
+        beginWrite();
+        try {
+            this.gameState = GameState.WAITING;
+            this.currentTarget = null;
+            clearConfessions();
+            clearVotes();
+            this.chatHistory.clear();
+            enterPhase(null);
+        } finally {
+            endWrite();
+        }
+    }
+
+    public synchronized PhaseSnapshot phaseSnapshot() {
+        return new PhaseSnapshot(roundPhase, phaseVersion, phaseDeadline);
+    }
+
+    /**
+     * 현재 단계의 마감 시각과 타이머를 등록한다. 그 사이 단계가 바뀌었다면 타이머를 취소하고 false 를 반환한다.
+     */
+    public synchronized boolean attachPhaseTimer(long version, long deadline, HashedWheelTimer.Timeout timer) {
+        if (version != phaseVersion) {
+            if (timer != null) {
+                timer.cancel();
+            }
+            return false;
+        }
+
+        beginWrite();
+        try {
+            cancelPhaseTimer();
+            this.phaseDeadline = deadline;
+            this.phaseTimer = timer;
+        } finally {
+            endWrite();
+        }
+        return true;
+    }
+
+    /**
+     * 제한 시간이 지난 단계를 다음 단계로 넘긴다. 정상 진행과 같은 전이를 거치며,
+     * 그 사이 단계가 이미 바뀌었다면 null 을 반환한다.
+     */
+    public synchronized PhaseExpiry expirePhase(long version) {
+        if (version != phaseVersion || roundPhase == null || gameState != GameState.PLAYING) {
+            return null;
+        }
+
+        RoundPhase expired = roundPhase;
+        beginWrite();
+        try {
+            this.phaseTimer = null;
+            switch (expired) {
+                case CONFESSION -> {
+                    enterPhase(RoundPhase.EXPLANATION);
+                    return new PhaseExpiry(expired, null, null);
+                }
+                case EXPLANATION -> {
+                    enterPhase(RoundPhase.VOTING);
+                    return new PhaseExpiry(expired, null, null);
+                }
+                case VOTING -> {
+                    // 투표하지 않은 플레이어는 기권으로 보고 지금까지의 투표로 마감
+                    VoteResult result = currentVoteResult(true);
+                    enterPhase(RoundPhase.SELECTION);
+                    return new PhaseExpiry(expired, result, null);
+                }
+                case SELECTION -> {
+                    String previousTarget = currentTarget;
+                    assignTarget(pickNextTarget());
+                    return new PhaseExpiry(expired, null, previousTarget);
+                }
+                default -> throw new IllegalStateException("알 수 없는 라운드 단계: " + expired);
+            }
+        } finally {
+            endWrite();
+        }
+    }
+
+    private String pickNextTarget() {
+        List<String> candidates = players.keySet().stream()
+                .filter(id -> !targetHistory.contains(id))
+                .toList();
+
+        if (candidates.isEmpty()) {
+            // 모두 한 번씩 대상이 되었으면 한 바퀴를 새로 시작하되, 방금 대상자는 제외
+            targetHistory.clear();
+            candidates = players.keySet().stream()
+                    .filter(id -> players.size() == 1 || !id.equals(currentTarget))
+                    .toList();
+        }
+
+        return candidates.get(new Random().nextInt(candidates.size()));
+    }
+
+    private void enterPhase(RoundPhase phase) {
+        cancelPhaseTimer();
+        this.roundPhase = phase;
+        this.phaseDeadline = 0;
+        this.phaseVersion++;
+    }
+
+    private void cancelPhaseTimer() {
+        if (phaseTimer != null) {
+            phaseTimer.cancel();
+            phaseTimer = null;
+        }
     }
 
     public boolean isEmpty() {
         return players.isEmpty();
     }
 
+    /**
+     * 방이 삭제될 때 호출한다. 방을 닫고 힙 밖 텍스트 슬랩을 한꺼번에 반납한다.
+     */
+    public synchronized void release() {
+        this.closed = true;
+        clearConfessions();
+        cancelPhaseTimer();
+    }
+
+    /**
+     * 플레이어가 없으면 방을 닫는다. 비었는지 확인하는 것과 닫는 것이 같은 락 안에서 일어나므로
+     * 그 사이 참가한 플레이어가 삭제되는 방에 남지 않는다.
+     *
+     * @return 이번 호출로 닫혔으면 true
+     */
+    public synchronized boolean releaseIfEmpty() {
+        if (closed || !players.isEmpty()) {
+            return false;
+        }
+        release();
+        return true;
+    }
+
+    private void beginWrite() {
+        if (writeDepth++ == 0) {
+            this.revision++;
+        }
+    }
+
+    private void endWrite() {
+        if (--writeDepth == 0) {
+            this.revision++;
+        }
+    }
+
+    /**
+     * 락 없이 읽은 값이 한 시점의 상태인지 확인한다. 읽기 전에 얻은 revision 이 짝수(쓰는 중이 아님)이고
+     * 읽은 뒤에도 그대로면 그 사이 쓰기가 없었다.
+     */
+    public boolean isUnchangedSince(long revision) {
+        // 앞선 필드 읽기가 아래 revision 읽기 뒤로 밀리지 않게 한다
+        VarHandle.acquireFence();
+        return (revision & 1) == 0 && this.revision == revision;
+    }
+
+    private void clearConfessions() {
+        this.confessions.clear();
+        if (textArena != null) {
+            textArena.reset();
+        }
+    }
+
+    private void clearVote(int slot) {
+        byte previous = voteSlots[slot];
+        if (previous != NOT_VOTED) {
+            voteCount--;
+            if (previous == DISAGREE) {
+                disagreeCount--;
+            }
+            voteSlots[slot] = NOT_VOTED;
+        }
+    }
+
+    private void clearVotes() {
+        Arrays.fill(voteSlots, NOT_VOTED);
+        this.voteCount = 0;
+        this.disagreeCount = 0;
+    }
+
     @Getter
     @Builder
     @AllArgsConstructor
@@ -162,4 +503,20 @@ public class Room {
     public enum GameState {
         WAITING, PLAYING
     }
-}
\ No newline at end of file
+
+    /**
+     * 라운드 진행 단계. 고해성사 -> 해명 -> 투표 -> 다음 대상 선택 순으로만 진행한다.
+     */
+    public enum RoundPhase {
+        CONFESSION, EXPLANATION, VOTING, SELECTION
+    }
+
+    public record PhaseSnapshot(RoundPhase phase, long version, long deadline) {
+    }
+
+    /**
+     * 시간 초과로 넘어간 단계. 투표 마감이면 voteResult, 대상 자동 선택이면 previousTarget 이 채워진다.
+     */
+    public record PhaseExpiry(RoundPhase expired, VoteResult voteResult, String previousTarget) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.confession.game.domain.room.event;
+
+/**
+ * RoomService 가 상태를 바꿀 때마다 발행하는 도메인 이벤트.
+ * 분석용으로 쓰이므로 메시지 본문 대신 길이만 담는다.
+ */
+public record RoomEvent(
+        Type type,
+        long timestamp,
+        String roomId,
+        String playerId,
+        String targetId,
+        String confessionId,
+        Boolean agree,
+        Integer length
+) {
+
+    /**
+     * 준비 완료 전 워밍업이 만드는 가상 방의 ID 접두사. 통계와 저널은 이 방들의 이벤트를 세지 않는다.
+     * 예약된 접두사이므로 클라이언트의 join-room 은 거절된다.
+     */
+    public static final String SYNTHETIC_ROOM_PREFIX = "warmup-";
+
+    public static boolean isSyntheticRoom(String roomId) {
+        return roomId != null && roomId.startsWith(SYNTHETIC_ROOM_PREFIX);
+    }
+
+    public static RoomEvent joined(String roomId, String playerId) {
+        return new RoomEvent(Type.JOIN, System.currentTimeMillis(), roomId, playerId, null, null, null, null);
+    }
+
+    public static RoomEvent left(String roomId, String playerId) {
+        return new RoomEvent(Type.LEAVE, System.currentTimeMillis(), roomId, playerId, null, null, null, null);
+    }
+
+    public static RoomEvent roomDeleted(String roomId) {
+        return new RoomEvent(Type.ROOM_DELETED, System.currentTimeMillis(), roomId, null, null, null, null, null);
+    }
+
+    public static RoomEvent started(String roomId, String targetId) {
+        return new RoomEvent(Type.START, System.currentTimeMillis(), roomId, null, targetId, null, null, null);
+    }
+
+    /**
+     * 고해성사는 익명이므로 보낸 사람을 담지 않는다. 저널처럼 밖에 남는 기록에서도 작성자를 알 수 없게 한다.
+     */
+    public static RoomEvent confession(String roomId, String confessionId, int length) {
+        return new RoomEvent(Type.CONFESSION, System.currentTimeMillis(), roomId, null, null, confessionId, null, length);
+    }
+
+    public static RoomEvent explanation(String roomId, String playerId, String confessionId, int length) {
+        return new RoomEvent(Type.EXPLANATION, System.currentTimeMillis(), roomId, playerId, null, confessionId, null, length);
+    }
+
+    public static RoomEvent voted(String roomId, String playerId, boolean agree) {
+        return new RoomEvent(Type.VOTE, System.currentTimeMillis(), roomId, playerId, null, null, agree, null);
+    }
+
+    public static RoomEvent targetChanged(String roomId, String playerId, String targetId) {
+        return new RoomEvent(Type.TARGET_CHANGE, System.currentTimeMillis(), roomId, playerId, targetId, null, null, null);
+    }
+
+    public enum Type {
+        JOIN, LEAVE, ROOM_DELETED, START, CONFESSION, EXPLANATION, VOTE, TARGET_CHANGE
+    }
+}
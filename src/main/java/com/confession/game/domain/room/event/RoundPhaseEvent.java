@@ -0,0 +1,20 @@
+package com.confession.game.domain.room.event;
+
+import com.confession.game.domain.room.entity.Room;
+
+/**
+ * 라운드 단계가 바뀔 때 발행된다. 정상 진행이면 expiry 가 null, 시간 초과로 넘어갔으면 넘어간 단계 정보가 담긴다.
+ *
+ * @param deadline 새 단계의 마감 시각 (epoch millis, 0 이면 제한 없음)
+ */
+public record RoundPhaseEvent(
+        String roomId,
+        Room.RoundPhase phase,
+        long deadline,
+        Room.PhaseExpiry expiry
+) {
+
+    public boolean timedOut() {
+        return expiry != null;
+    }
+}
@@ -3,18 +3,63 @@ package com.confession.game.domain.room.repository;
 import com.confession.game.domain.room.entity.Room;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Repository
 public class RoomRepository {
 
     private final Map<String, Room> rooms = new ConcurrentHashMap<>();
 
+    // 저장된 방 수. 새 방은 이 값으로 자리를 먼저 예약한 뒤에만 넣는다
+    private final AtomicInteger roomCount = new AtomicInteger();
+
+    /**
+     * 방 수가 maxRooms 보다 적을 때만 새 방을 넣는다. 한도 확인과 자리 예약을 한 번에 하므로
+     * 여러 스레드가 동시에 서로 다른 방을 만들어도 한도를 넘지 않는다.
+     *
+     * @return 저장소에 남은 방 (같은 ID 로 먼저 만들어진 방이 살아 있으면 그 방). 한도에 도달했으면 null
+     */
+    public Room create(Room room, int maxRooms) {
+        return rooms.compute(room.getRoomId(), (id, existing) -> {
+            if (existing != null) {
+                // 닫힌 방을 대신하는 경우는 자리 수가 그대로다
+                return existing.isClosed() ? room : existing;
+            }
+            int count;
+            do {
+                count = roomCount.get();
+                if (count >= maxRooms) {
+                    return null;
+                }
+            } while (!roomCount.compareAndSet(count, count + 1));
+            return room;
+        });
+    }
+
+    /**
+     * 방을 저장한다. 닫힌 방은 다시 넣지 않고, 같은 ID 로 먼저 저장된 다른 방이 살아 있으면 그 방을 유지한다.
+     *
+     * @return 저장소에 남은 방. 닫힌 방을 처음 저장하려 했으면 null
+     */
     public Room save(Room room) {
-        rooms.put(room.getRoomId(), room);
-        return room;
+        return rooms.compute(room.getRoomId(), (id, existing) -> {
+            Room saved;
+            if (existing == null || existing == room) {
+                saved = room.isClosed() ? null : room;
+            } else {
+                saved = existing.isClosed() && !room.isClosed() ? room : existing;
+            }
+            if (existing == null && saved != null) {
+                roomCount.incrementAndGet();
+            } else if (existing != null && saved == null) {
+                roomCount.decrementAndGet();
+            }
+            return saved;
+        });
     }
 
     public Optional<Room> findById(String roomId) {
@@ -22,10 +67,29 @@ public class RoomRepository {
     }
 
     public void deleteById(String roomId) {
-        rooms.remove(roomId);
+        if (rooms.remove(roomId) != null) {
+            roomCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 저장소의 방이 이 인스턴스일 때만 지운다. 같은 ID 로 새로 만들어진 방은 지우지 않는다.
+     */
+    public void delete(Room room) {
+        if (rooms.remove(room.getRoomId(), room)) {
+            roomCount.decrementAndGet();
+        }
     }
 
     public boolean existsById(String roomId) {
         return rooms.containsKey(roomId);
     }
+
+    public int count() {
+        return roomCount.get();
+    }
+
+    public Collection<Room> findAll() {
+        return rooms.values();
+    }
 }
\ No newline at end of file
@@ -1,27 +1,62 @@
 package com.confession.game.domain.room.service;
 
+import com.confession.game.domain.chat.entity.ChatHistory;
+import com.confession.game.domain.chat.entity.ChatMessage;
 import com.confession.game.domain.confession.entity.Confession;
 import com.confession.game.domain.player.entity.Player;
 import com.confession.game.domain.room.entity.Room;
+import com.confession.game.domain.room.event.RoomEvent;
+import com.confession.game.domain.room.event.RoundPhaseEvent;
 import com.confession.game.domain.room.repository.RoomRepository;
+import com.confession.game.global.config.GameProperties;
+import com.confession.game.global.exception.AdmissionRejectedException;
+import com.confession.game.global.logging.LogSampler;
+import com.confession.game.global.memory.TextArena;
+import com.confession.game.global.memory.TextSlabPool;
+import com.confession.game.global.timer.HashedWheelTimer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RoomService {
 
+    private static final int MAX_CHAT_PAGE_SIZE = 100;
+
     private final RoomRepository roomRepository;
+    private final GameProperties gameProperties;
+    private final TextSlabPool textSlabPool;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HashedWheelTimer roundTimer;
+
+    private final LogSampler chatLogSampler = new LogSampler();
+    private final LogSampler voteLogSampler = new LogSampler();
+
+    // 드레인 중. 방마다 라운드 경계(대기, 다음 대상 선택)에 닿으면 새 라운드를 시작하지 않는다
+    private volatile boolean roundsFrozen;
 
     public Room getOrCreateRoom(String roomId) {
         return roomRepository.findById(roomId)
                 .orElseGet(() -> {
                     Room newRoom = Room.builder()
                             .roomId(roomId)
+                            .textArena(gameProperties.getTextArena().isEnabled()
+                                    ? new TextArena(textSlabPool) : null)
                             .build();
-                    return roomRepository.save(newRoom);
+                    // 한도 확인과 저장을 저장소가 한 번에 한다 (따로 하면 동시에 만든 방들이 한도를 넘는다)
+                    Room saved = roomRepository.create(newRoom, gameProperties.getNode().getMaxRooms());
+                    if (saved == null) {
+                        throw new AdmissionRejectedException(AdmissionRejectedException.Reason.SERVER_BUSY,
+                                "서버의 방 개수가 한도에 도달했습니다.");
+                    }
+                    return saved;
                 });
     }
 
@@ -31,9 +66,29 @@ public class RoomService {
     }
 
     public Player joinRoom(String roomId, String playerId, String playerName, String sessionId) {
-        Room room = getOrCreateRoom(roomId);
-        Player player = room.addPlayer(playerId, playerName, sessionId);
+        Room room;
+        Player player;
+        while (true) {
+            room = getOrCreateRoom(roomId);
+
+            // 인원 확인과 추가 사이에 다른 참가자가 끼어들지 않도록 방 단위로 묶는다
+            synchronized (room) {
+                if (room.isClosed()) {
+                    // 마지막 플레이어가 나가 삭제되는 중인 방. 저장소에서 치우고 새 방으로 다시 시도한다
+                    roomRepository.delete(room);
+                    continue;
+                }
+                if (!room.getPlayers().containsKey(playerId)
+                        && room.getPlayers().size() >= gameProperties.getRoom().getMaxPlayers()) {
+                    throw new AdmissionRejectedException(AdmissionRejectedException.Reason.ROOM_FULL,
+                            "방 인원이 가득 찼습니다.");
+                }
+                player = room.addPlayer(playerId, playerName, sessionId);
+            }
+            break;
+        }
         roomRepository.save(room);
+        eventPublisher.publishEvent(RoomEvent.joined(roomId, playerId));
 
         log.info("플레이어 {} ({})가 방 {}에 참가했습니다.", playerName, playerId, roomId);
         return player;
@@ -41,22 +96,110 @@ public class RoomService {
 
     public void leaveRoom(String roomId, String playerId) {
         Room room = getRoom(roomId);
-        room.removePlayer(playerId);
+        long phaseVersion;
+        // 버전을 읽은 뒤 타이머 만료가 끼어들면 만료가 넘긴 단계를 퇴장이 한 번 더 알리게 된다
+        synchronized (room) {
+            phaseVersion = room.phaseSnapshot().version();
+            room.removePlayer(playerId);
+        }
+        eventPublisher.publishEvent(RoomEvent.left(roomId, playerId));
 
-        if (room.isEmpty()) {
-            roomRepository.deleteById(roomId);
+        if (room.releaseIfEmpty()) {
+            roomRepository.delete(room);
+            eventPublisher.publishEvent(RoomEvent.roomDeleted(roomId));
             log.info("방 {}이(가) 삭제되었습니다.", roomId);
         } else {
             roomRepository.save(room);
+            onPhaseChanged(room, phaseVersion, null);
         }
 
         log.info("플레이어 {}가 방 {}을(를) 나갔습니다.", playerId, roomId);
     }
 
+    /**
+     * 플레이어가 남아 있어도 방을 삭제한다 (운영자 강제 종료).
+     *
+     * @return 방이 없었으면 false
+     */
+    public boolean closeRoom(String roomId) {
+        Room room = roomRepository.findById(roomId).orElse(null);
+        if (room == null) {
+            return false;
+        }
+
+        // 먼저 닫아서 동시에 참가하려던 플레이어가 새 방으로 다시 시도하게 한다
+        room.release();
+        roomRepository.delete(room);
+        for (String playerId : room.getPlayers().keySet()) {
+            eventPublisher.publishEvent(RoomEvent.left(roomId, playerId));
+        }
+        eventPublisher.publishEvent(RoomEvent.roomDeleted(roomId));
+        log.info("방 {}이(가) 강제로 종료되었습니다.", roomId);
+        return true;
+    }
+
+    /**
+     * 드레인으로 내보낸 방을 대기(WAITING) 상태로 되살린다. 플레이어는 재접속 전까지 세션 없이 남는다.
+     *
+     * @param playerNames playerId -> playerName (참가 순서 유지)
+     * @return 같은 ID 의 방이 이미 있어 복원하지 않았으면 false
+     */
+    public boolean restoreRoom(String roomId, Map<String, String> playerNames, List<String> targetHistory) {
+        if (playerNames.isEmpty() || roomRepository.findById(roomId).isPresent()) {
+            return false;
+        }
+
+        Room room = Room.builder()
+                .roomId(roomId)
+                .targetHistory(new ArrayList<>(targetHistory))
+                .textArena(gameProperties.getTextArena().isEnabled()
+                        ? new TextArena(textSlabPool) : null)
+                .build();
+        playerNames.forEach((playerId, playerName) -> room.addPlayer(playerId, playerName, null));
+        roomRepository.save(room);
+
+        for (String playerId : playerNames.keySet()) {
+            eventPublisher.publishEvent(RoomEvent.joined(roomId, playerId));
+        }
+        return true;
+    }
+
+    /**
+     * 복원 후 재접속하지 않은(세션이 없는) 플레이어를 내보낸다.
+     *
+     * @return 내보낸 플레이어 수
+     */
+    public int evictUnclaimedPlayers(String roomId) {
+        Room room = roomRepository.findById(roomId).orElse(null);
+        if (room == null) {
+            return 0;
+        }
+
+        List<String> unclaimed = room.getPlayers().values().stream()
+                .filter(player -> player.getSessionId() == null)
+                .map(Player::getId)
+                .toList();
+        for (String playerId : unclaimed) {
+            leaveRoom(roomId, playerId);
+        }
+        return unclaimed.size();
+    }
+
+    /**
+     * 이후로는 새 라운드를 시작하지 않는다. 진행 중인 라운드는 계속 진행되어 다음 대상 선택 단계에서 멈춘다.
+     */
+    public void freezeRounds() {
+        roundsFrozen = true;
+    }
+
     public void startGame(String roomId) {
+        checkRoundsNotFrozen();
         Room room = getRoom(roomId);
+        long phaseVersion = room.phaseSnapshot().version();
         room.startGame();
         roomRepository.save(room);
+        eventPublisher.publishEvent(RoomEvent.started(roomId, room.getCurrentTarget()));
+        onPhaseChanged(room, phaseVersion, null);
 
         log.info("방 {}에서 게임 시작. 대상: {}", roomId, room.getCurrentTarget());
     }
@@ -64,39 +207,99 @@ public class RoomService {
     public Confession sendConfession(String roomId, String senderId, String message) {
         Room room = getRoom(roomId);
 
-        if (senderId.equals(room.getCurrentTarget())) {
-            throw new IllegalArgumentException("대상자는 고해성사 메시지를 보낼 수 없습니다.");
+        Confession confession;
+        // 대상자 확인과 추가 사이에 대상이 바뀌지 않도록 방 단위로 묶는다
+        synchronized (room) {
+            if (senderId.equals(room.getCurrentTarget())) {
+                throw new IllegalArgumentException("대상자는 고해성사 메시지를 보낼 수 없습니다.");
+            }
+            confession = room.addConfession(senderId, message);
         }
-
-        Confession confession = room.addConfession(senderId, message);
         roomRepository.save(room);
+        eventPublisher.publishEvent(RoomEvent.confession(roomId, confession.getId(), message.length()));
 
-        log.info("고해성사 메시지 전송: {}", message);
+        log.info("고해성사 메시지 전송: 방 {}, {}자", roomId, message.length());
+        if (gameProperties.getLogging().isLogMessageBodies()) {
+            log.info("고해성사 본문: {}", message);
+        }
         return confession;
     }
 
     public void sendExplanation(String roomId, String playerId, String confessionId, String explanation) {
         Room room = getRoom(roomId);
 
-        if (!playerId.equals(room.getCurrentTarget())) {
-            throw new IllegalArgumentException("대상자만 해명할 수 있습니다.");
+        long phaseVersion;
+        synchronized (room) {
+            if (!playerId.equals(room.getCurrentTarget())) {
+                throw new IllegalArgumentException("대상자만 해명할 수 있습니다.");
+            }
+            phaseVersion = room.phaseSnapshot().version();
+            room.addExplanation(confessionId, explanation);
         }
-
-        room.addExplanation(confessionId, explanation);
         roomRepository.save(room);
+        eventPublisher.publishEvent(RoomEvent.explanation(roomId, playerId, confessionId, explanation.length()));
+        onPhaseChanged(room, phaseVersion, null);
 
-        log.info("해명 전송: {}", explanation);
+        log.info("해명 전송: 방 {}, {}자", roomId, explanation.length());
+        if (gameProperties.getLogging().isLogMessageBodies()) {
+            log.info("해명 본문: {}", explanation);
+        }
     }
 
-    public Room.VoteResult vote(String roomId, String playerId, boolean agree) {
+    public ChatMessage sendChatMessage(String roomId, String senderId, String message) {
         Room room = getRoom(roomId);
+        ChatMessage chatMessage = room.addChatMessage(senderId, message);
+
+        if (log.isInfoEnabled()) {
+            long suppressed = chatLogSampler.tryAcquire(gameProperties.getLogging().getSampledLinesPerSecond());
+            if (suppressed != LogSampler.SUPPRESSED) {
+                log.info("채팅 메시지: 방 {}, {}자 (생략 {}건)", roomId, message.length(), suppressed);
+            }
+        }
+        return chatMessage;
+    }
+
+    public ChatHistory.Page getChatHistory(String roomId, String playerId, Long before, int limit) {
+        Room room = getRoom(roomId);
+
+        if (!room.getPlayers().containsKey(playerId)) {
+            throw new IllegalArgumentException("존재하지 않는 플레이어입니다.");
+        }
 
         if (playerId.equals(room.getCurrentTarget())) {
-            throw new IllegalArgumentException("대상자는 투표할 수 없습니다.");
+            throw new IllegalArgumentException("대상자는 채팅 기록을 볼 수 없습니다.");
         }
 
-        Room.VoteResult result = room.vote(playerId, agree);
+        int pageSize = Math.max(1, Math.min(limit, MAX_CHAT_PAGE_SIZE));
+        return room.getChatHistory().fetch(before, pageSize);
+    }
+
+    public Room.VoteResult vote(String roomId, String playerId, boolean agree) {
+        Room room = getRoom(roomId);
+
+        long phaseVersion;
+        Room.VoteResult result;
+        // 대상자가 바뀌거나 게임이 리셋되는 사이에 투표가 끼어들면 필요 인원보다 많은 표가 쌓일 수 있다
+        synchronized (room) {
+            if (room.getGameState() != Room.GameState.PLAYING) {
+                throw new IllegalStateException("게임이 진행 중이 아닙니다.");
+            }
+            if (playerId.equals(room.getCurrentTarget())) {
+                throw new IllegalArgumentException("대상자는 투표할 수 없습니다.");
+            }
+            phaseVersion = room.phaseSnapshot().version();
+            result = room.vote(playerId, agree);
+        }
         roomRepository.save(room);
+        eventPublisher.publishEvent(RoomEvent.voted(roomId, playerId, agree));
+        onPhaseChanged(room, phaseVersion, null);
+
+        if (log.isInfoEnabled()) {
+            long suppressed = voteLogSampler.tryAcquire(gameProperties.getLogging().getSampledLinesPerSecond());
+            if (suppressed != LogSampler.SUPPRESSED) {
+                log.info("투표: 방 {}, {}/{} (생략 {}건)", roomId, result.getVotes(), result.getRequired(), suppressed);
+            }
+        }
 
         if (result.isComplete()) {
             log.info("투표 완료. 모두 동의: {}", result.isAllAgree());
@@ -106,15 +309,84 @@ public class RoomService {
     }
 
     public void selectNextTarget(String roomId, String currentPlayerId, String targetId) {
+        checkRoundsNotFrozen();
         Room room = getRoom(roomId);
 
-        if (!currentPlayerId.equals(room.getCurrentTarget())) {
-            throw new IllegalArgumentException("현재 대상자만 다음 대상을 선택할 수 있습니다.");
+        long phaseVersion;
+        synchronized (room) {
+            if (!currentPlayerId.equals(room.getCurrentTarget())) {
+                throw new IllegalArgumentException("현재 대상자만 다음 대상을 선택할 수 있습니다.");
+            }
+            phaseVersion = room.phaseSnapshot().version();
+            room.selectNextTarget(targetId);
         }
-
-        room.selectNextTarget(targetId);
         roomRepository.save(room);
+        eventPublisher.publishEvent(RoomEvent.targetChanged(roomId, currentPlayerId, targetId));
+        onPhaseChanged(room, phaseVersion, null);
 
         log.info("새로운 대상 선택됨: {}", targetId);
     }
-}
\ No newline at end of file
+
+    /**
+     * 공유 타이머에서 호출된다. 단계가 그대로라면 정상 진행과 같은 전이로 다음 단계로 넘긴다.
+     * 요청 처리와 달리 바깥에서 방 락을 잡아 주는 쪽이 없으므로, 단계 변경부터 알림 발행까지 여기서 방 락을 쥔다.
+     * 그래야 알림이 같은 방의 다음 변경보다 먼저 송신 순서를 잡는다.
+     */
+    public void expirePhase(String roomId, long phaseVersion) {
+        Room room = roomRepository.findById(roomId).orElse(null);
+        if (room == null) {
+            return;
+        }
+
+        synchronized (room) {
+            if (room.isClosed()) {
+                return;
+            }
+            if (roundsFrozen && room.phaseSnapshot().phase() == Room.RoundPhase.SELECTION) {
+                // 드레인 중에는 다음 대상을 자동으로 정하지 않고 라운드 경계에 머문다
+                return;
+            }
+
+            Room.PhaseExpiry expiry = room.expirePhase(phaseVersion);
+            if (expiry == null) {
+                return;
+            }
+
+            roomRepository.save(room);
+            if (expiry.expired() == Room.RoundPhase.SELECTION) {
+                eventPublisher.publishEvent(RoomEvent.targetChanged(roomId, expiry.previousTarget(), room.getCurrentTarget()));
+            }
+            log.info("방 {} {} 단계 시간 초과", roomId, expiry.expired());
+
+            onPhaseChanged(room, phaseVersion, expiry);
+        }
+    }
+
+    private void checkRoundsNotFrozen() {
+        if (roundsFrozen) {
+            throw new IllegalStateException("서버 종료를 준비 중이라 새 라운드를 시작할 수 없습니다.");
+        }
+    }
+
+    private void onPhaseChanged(Room room, long previousVersion, Room.PhaseExpiry expiry) {
+        Room.PhaseSnapshot snapshot = room.phaseSnapshot();
+        if (snapshot.version() == previousVersion || snapshot.phase() == null) {
+            return;
+        }
+
+        long deadline = 0;
+        long timeoutMillis = gameProperties.getRound().timeoutMillis(snapshot.phase());
+        if (timeoutMillis > 0) {
+            String roomId = room.getRoomId();
+            long version = snapshot.version();
+            deadline = System.currentTimeMillis() + timeoutMillis;
+            HashedWheelTimer.Timeout timer = roundTimer.newTimeout(() -> expirePhase(roomId, version), timeoutMillis);
+            if (!room.attachPhaseTimer(version, deadline, timer)) {
+                // 타이머를 거는 사이 다른 요청이 단계를 넘겼다. 그 요청이 새 단계를 알린다
+                return;
+            }
+        }
+
+        eventPublisher.publishEvent(new RoundPhaseEvent(room.getRoomId(), snapshot.phase(), deadline, expiry));
+    }
+}
@@ -0,0 +1,42 @@
+package com.confession.game.domain.stats.controller;
+
+import com.confession.game.domain.stats.service.GameStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final GameStatsService gameStatsService;
+
+    /**
+     * 전체 게임 통계.
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> getStats() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(gameStatsService.getEncodedStats());
+    }
+
+    /**
+     * 방 하나의 통계. 통계가 없는 방이면 404.
+     */
+    @GetMapping("/rooms/{roomId}")
+    public ResponseEntity<byte[]> getRoomStats(@PathVariable String roomId) {
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(gameStatsService.getEncodedRoomStats(roomId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
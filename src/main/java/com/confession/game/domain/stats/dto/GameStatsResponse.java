@@ -0,0 +1,25 @@
+package com.confession.game.domain.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameStatsResponse {
+    // 통계를 모으고 있는 방 수
+    private int trackedRooms;
+    private long roundsCompleted;
+    private long roundsLastHour;
+    private long confessions;
+    private long explanations;
+    private long votes;
+    private double agreeRate;
+    // 라운드(대상자 한 명)마다 받은 고해성사 수
+    private HistogramDto confessionsPerRound;
+    // 고해성사를 받고 해명하기까지 걸린 시간
+    private HistogramDto explanationLatencyMillis;
+}
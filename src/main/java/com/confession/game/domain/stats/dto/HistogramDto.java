@@ -0,0 +1,36 @@
+package com.confession.game.domain.stats.dto;
+
+import com.confession.game.global.metrics.FixedHistogram;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistogramDto {
+    private long count;
+    private double mean;
+    private long p50;
+    private long p90;
+    private long p99;
+    private long max;
+    // 구간 상한. counts 는 이보다 하나 많으며 마지막 값은 가장 큰 상한을 넘은 기록 수
+    private long[] bounds;
+    private long[] counts;
+
+    public static HistogramDto from(FixedHistogram.Snapshot snapshot) {
+        return HistogramDto.builder()
+                .count(snapshot.count())
+                .mean(snapshot.mean())
+                .p50(snapshot.percentile(0.5))
+                .p90(snapshot.percentile(0.9))
+                .p99(snapshot.percentile(0.99))
+                .max(snapshot.max())
+                .bounds(snapshot.bounds())
+                .counts(snapshot.counts())
+                .build();
+    }
+}
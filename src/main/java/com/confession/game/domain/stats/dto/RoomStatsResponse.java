@@ -0,0 +1,21 @@
+package com.confession.game.domain.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomStatsResponse {
+    private String roomId;
+    private long roundsCompleted;
+    private long confessions;
+    private long explanations;
+    private long votes;
+    private double agreeRate;
+    private double averageExplanationLatencyMillis;
+    private int currentRoundConfessions;
+}
@@ -0,0 +1,224 @@
+package com.confession.game.domain.stats.service;
+
+import com.confession.game.domain.room.event.RoomEvent;
+import com.confession.game.domain.stats.dto.GameStatsResponse;
+import com.confession.game.domain.stats.dto.HistogramDto;
+import com.confession.game.domain.stats.dto.RoomStatsResponse;
+import com.confession.game.global.common.BaseResponse;
+import com.confession.game.global.metrics.FixedHistogram;
+import com.confession.game.global.metrics.SlidingWindowCounter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 방별, 전체 게임 통계.
+ * <p>
+ * RoomService 가 발행하는 이벤트마다 카운터와 히스토그램을 조금씩 갱신하므로,
+ * 조회할 때 RoomRepository 의 방을 훑지 않고 살아 있는 방 수와 관계없이 일정한 비용으로 읽는다.
+ * 라운드는 대상자 한 명이 해명하고 다음 대상자가 정해질 때까지다.
+ */
+@Service
+public class GameStatsService {
+
+    private static final long[] CONFESSIONS_PER_ROUND_BOUNDS = {0, 1, 2, 3, 5, 8, 13, 21};
+    private static final long[] EXPLANATION_LATENCY_BOUNDS_MILLIS =
+            {1_000, 5_000, 10_000, 30_000, 60_000, 120_000, 300_000, 600_000};
+
+    private final LongAdder roundsCompleted = new LongAdder();
+    private final LongAdder confessions = new LongAdder();
+    private final LongAdder explanations = new LongAdder();
+    private final LongAdder votes = new LongAdder();
+    private final LongAdder agreeVotes = new LongAdder();
+
+    private final FixedHistogram confessionsPerRound = new FixedHistogram(CONFESSIONS_PER_ROUND_BOUNDS);
+    private final FixedHistogram explanationLatency = new FixedHistogram(EXPLANATION_LATENCY_BOUNDS_MILLIS);
+
+    // 최근 1시간의 라운드 완료 수 (1분 칸 60개)
+    private final SlidingWindowCounter roundsLastHour = new SlidingWindowCounter(60, TimeUnit.MINUTES.toMillis(1));
+
+    // roomId -> 방별 통계. 참가(JOIN)로 만들고 방이 삭제되면 지운다
+    private final Map<String, RoomStats> rooms = new ConcurrentHashMap<>();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @EventListener
+    public void onRoomEvent(RoomEvent event) {
+        if (RoomEvent.isSyntheticRoom(event.roomId())) {
+            // 워밍업 라운드는 실제 게임이 아니므로 세지 않는다
+            return;
+        }
+        // 삭제 뒤 늦게 도착한 이벤트가 방별 통계를 다시 만들지 않도록 참가 때만 만들고 나머지는 있는 것만 쓴다
+        RoomStats room = event.type() == RoomEvent.Type.JOIN
+                ? rooms.computeIfAbsent(event.roomId(), id -> new RoomStats())
+                : rooms.get(event.roomId());
+        switch (event.type()) {
+            case START -> {
+                if (room != null) {
+                    room.startRound(event.timestamp());
+                }
+            }
+            case CONFESSION -> {
+                confessions.increment();
+                if (room != null) {
+                    room.onConfession(event.confessionId(), event.timestamp());
+                }
+            }
+            case EXPLANATION -> {
+                explanations.increment();
+                long latency = room != null ? room.onExplanation(event.confessionId(), event.timestamp()) : -1;
+                if (latency >= 0) {
+                    explanationLatency.record(latency);
+                }
+            }
+            case VOTE -> {
+                votes.increment();
+                if (Boolean.TRUE.equals(event.agree())) {
+                    agreeVotes.increment();
+                }
+                if (room != null) {
+                    room.onVote(Boolean.TRUE.equals(event.agree()));
+                }
+            }
+            case TARGET_CHANGE -> {
+                int roundConfessions = room != null ? room.completeRound(event.timestamp()) : -1;
+                if (roundConfessions >= 0) {
+                    roundsCompleted.increment();
+                    roundsLastHour.increment(event.timestamp());
+                    confessionsPerRound.record(roundConfessions);
+                }
+            }
+            case ROOM_DELETED -> rooms.remove(event.roomId());
+            default -> {
+            }
+        }
+    }
+
+    public GameStatsResponse getStats() {
+        long totalVotes = votes.sum();
+        return GameStatsResponse.builder()
+                .trackedRooms(rooms.size())
+                .roundsCompleted(roundsCompleted.sum())
+                .roundsLastHour(roundsLastHour.sum(System.currentTimeMillis()))
+                .confessions(confessions.sum())
+                .explanations(explanations.sum())
+                .votes(totalVotes)
+                .agreeRate(totalVotes == 0 ? 0 : (double) agreeVotes.sum() / totalVotes)
+                .confessionsPerRound(HistogramDto.from(confessionsPerRound.snapshot()))
+                .explanationLatencyMillis(HistogramDto.from(explanationLatency.snapshot()))
+                .build();
+    }
+
+    /**
+     * @throws IllegalArgumentException 통계가 없는 방 (없거나 아직 이벤트가 없는 방)
+     */
+    public RoomStatsResponse getRoomStats(String roomId) {
+        RoomStats stats = rooms.get(roomId);
+        if (stats == null) {
+            throw new IllegalArgumentException("방을 찾을 수 없습니다: " + roomId);
+        }
+        return stats.toResponse(roomId);
+    }
+
+    public byte[] getEncodedStats() {
+        return encode("stats", getStats());
+    }
+
+    public byte[] getEncodedRoomStats(String roomId) {
+        return encode("room-stats", getRoomStats(roomId));
+    }
+
+    private byte[] encode(String type, Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(BaseResponse.of(type, response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("통계 응답 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 한 방의 누적값과 진행 중인 라운드. 같은 방 이벤트는 드물게만 겹치므로 방 단위로 동기화한다.
+     */
+    private static final class RoomStats {
+        private long roundsCompleted;
+        private long confessions;
+        private long explanations;
+        private long votes;
+        private long agreeVotes;
+        private long explanationLatencyTotal;
+
+        // 진행 중인 라운드. 시작을 보지 못했으면(복원된 방 등) roundStartedAt 은 0
+        private long roundStartedAt;
+        private int roundConfessions;
+        // 아직 해명하지 않은 고해성사 ID -> 받은 시각
+        private final Map<String, Long> pendingConfessions = new HashMap<>();
+
+        synchronized void startRound(long timestamp) {
+            roundStartedAt = timestamp;
+            roundConfessions = 0;
+            pendingConfessions.clear();
+        }
+
+        synchronized void onConfession(String confessionId, long timestamp) {
+            confessions++;
+            roundConfessions++;
+            pendingConfessions.put(confessionId, timestamp);
+        }
+
+        /**
+         * @return 고해성사를 받고 해명하기까지 걸린 시간. 받은 시각을 모르면 -1
+         */
+        synchronized long onExplanation(String confessionId, long timestamp) {
+            explanations++;
+            Long receivedAt = pendingConfessions.remove(confessionId);
+            if (receivedAt == null) {
+                return -1;
+            }
+            long latency = Math.max(0, timestamp - receivedAt);
+            explanationLatencyTotal += latency;
+            return latency;
+        }
+
+        synchronized void onVote(boolean agree) {
+            votes++;
+            if (agree) {
+                agreeVotes++;
+            }
+        }
+
+        /**
+         * 라운드를 마치고 다음 라운드를 시작한다.
+         *
+         * @return 끝난 라운드의 고해성사 수. 시작을 보지 못한 라운드면 -1
+         */
+        synchronized int completeRound(long timestamp) {
+            int completed = roundStartedAt > 0 ? roundConfessions : -1;
+            if (completed >= 0) {
+                roundsCompleted++;
+            }
+            startRound(timestamp);
+            return completed;
+        }
+
+        synchronized RoomStatsResponse toResponse(String roomId) {
+            return RoomStatsResponse.builder()
+                    .roomId(roomId)
+                    .roundsCompleted(roundsCompleted)
+                    .confessions(confessions)
+                    .explanations(explanations)
+                    .votes(votes)
+                    .agreeRate(votes == 0 ? 0 : (double) agreeVotes / votes)
+                    .averageExplanationLatencyMillis(
+                            explanations == 0 ? 0 : (double) explanationLatencyTotal / explanations)
+                    .currentRoundConfessions(roundConfessions)
+                    .build();
+        }
+    }
+}
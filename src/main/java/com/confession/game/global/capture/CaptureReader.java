@@ -0,0 +1,85 @@
+package com.confession.game.global.capture;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * CaptureWriter 가 쓴 파일을 처음부터 순서대로 읽는다.
+ */
+public class CaptureReader implements Closeable {
+
+    private final DataInputStream in;
+    private final long startedAtMillis;
+    private long offsetMicros;
+
+    public CaptureReader(Path file) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+        byte[] magic = new byte[CaptureWriter.MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, CaptureWriter.MAGIC)) {
+            in.close();
+            throw new IllegalArgumentException("캡처 파일이 아닙니다: " + file);
+        }
+        int version = in.readUnsignedByte();
+        if (version != CaptureWriter.VERSION) {
+            in.close();
+            throw new IllegalArgumentException("지원하지 않는 캡처 파일 버전입니다: " + version);
+        }
+        this.startedAtMillis = in.readLong();
+    }
+
+    public long startedAtMillis() {
+        return startedAtMillis;
+    }
+
+    /**
+     * @return 파일 끝이면 null. 기록 도중 잘린 파일은 잘린 기록 앞까지만 읽는다
+     */
+    public CaptureRecord next() throws IOException {
+        int kindOrdinal = in.read();
+        if (kindOrdinal < 0) {
+            return null;
+        }
+        if (kindOrdinal >= CaptureRecord.Kind.values().length) {
+            throw new IOException("알 수 없는 기록 종류: " + kindOrdinal);
+        }
+        try {
+            CaptureRecord.Kind kind = CaptureRecord.Kind.values()[kindOrdinal];
+            offsetMicros += readVarLong();
+            int connection = (int) readVarLong();
+            String value = null;
+            if (kind != CaptureRecord.Kind.CLOSE) {
+                byte[] bytes = new byte[(int) readVarLong()];
+                in.readFully(bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return new CaptureRecord(offsetMicros * 1_000, connection, kind, value);
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 varint");
+    }
+}
@@ -0,0 +1,15 @@
+package com.confession.game.global.capture;
+
+/**
+ * 캡처 파일의 기록 하나.
+ *
+ * @param offsetNanos 캡처 시작부터 지난 시간
+ * @param connection  캡처 안에서 연결을 구분하는 번호 (0 부터)
+ * @param value       OPEN 이면 연결 URL 의 쿼리(없으면 빈 문자열), MESSAGE 면 명령 JSON, CLOSE 면 null
+ */
+public record CaptureRecord(long offsetNanos, int connection, Kind kind, String value) {
+
+    public enum Kind {
+        OPEN, MESSAGE, CLOSE
+    }
+}
@@ -0,0 +1,73 @@
+package com.confession.game.global.capture;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 캡처 파일 형식.
+ * <pre>
+ * 헤더: "CGTC" 버전(1바이트) 시작시각(epoch millis, 8바이트)
+ * 기록: 종류(1바이트) 직전 기록과의 간격(마이크로초, varint) 연결 번호(varint) [길이(varint) UTF-8 바이트]
+ * </pre>
+ * 값은 OPEN, MESSAGE 에만 있다. 간격과 번호가 대부분 1~2바이트라 기록당 오버헤드가 작다.
+ */
+class CaptureWriter implements Closeable {
+
+    static final byte[] MAGIC = {'C', 'G', 'T', 'C'};
+    static final int VERSION = 1;
+
+    private final DataOutputStream out;
+    private long previousMicros;
+    private long writtenBytes;
+
+    CaptureWriter(Path file, long startedAtMillis) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(startedAtMillis);
+    }
+
+    void write(CaptureRecord record) throws IOException {
+        // 여러 스레드가 큐에 넣은 순서와 시각이 살짝 어긋날 수 있으므로 간격은 0 아래로 내려가지 않게 한다
+        long micros = Math.max(previousMicros, record.offsetNanos() / 1_000);
+        out.writeByte(record.kind().ordinal());
+        writeVarLong(micros - previousMicros);
+        writeVarLong(record.connection());
+        if (record.value() != null) {
+            byte[] bytes = record.value().getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            out.write(bytes);
+        }
+        previousMicros = micros;
+    }
+
+    void flush() throws IOException {
+        out.flush();
+    }
+
+    long size() {
+        return out.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+}
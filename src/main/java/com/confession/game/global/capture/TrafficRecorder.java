@@ -0,0 +1,225 @@
+package com.confession.game.global.capture;
+
+import com.confession.game.global.config.GameProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 받은 명령을 시각과 함께 캡처 파일에 기록한다 (game.capture.enabled).
+ * <p>
+ * 핸들러는 큐에 넣기만 하고 인코딩과 파일 쓰기는 백그라운드 스레드가 한다.
+ * 큐가 가득 차거나 파일이 최대 크기에 이르면 기록을 버리며, 게임 스레드는 기다리지 않는다.
+ * 꺼져 있으면 모든 메서드가 바로 반환한다.
+ */
+@Slf4j
+@Component
+public class TrafficRecorder {
+
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    // 본문을 가리는 필드 (data 아래)
+    private static final String[] TEXT_FIELDS = {"message", "explanation"};
+
+    private final GameProperties.Capture config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+
+    // sessionId -> 캡처 안의 연결 번호
+    private final Map<String, Integer> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger nextConnection = new AtomicInteger();
+
+    private volatile boolean running;
+    private Thread writerThread;
+    private long startedAtNanos;
+    private Path file;
+
+    public TrafficRecorder(GameProperties gameProperties) {
+        this.config = gameProperties.getCapture();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.isEnabled()) return;
+
+        long startedAtMillis = System.currentTimeMillis();
+        startedAtNanos = System.nanoTime();
+        file = Path.of(config.getDirectory(), "capture-" + startedAtMillis + ".cap");
+
+        CaptureWriter writer;
+        try {
+            writer = new CaptureWriter(file, startedAtMillis);
+        } catch (IOException e) {
+            log.error("캡처 파일을 만들 수 없어 캡처를 끕니다: {}", file, e);
+            return;
+        }
+
+        running = true;
+        writerThread = new Thread(() -> writeLoop(writer), "traffic-capture");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("트래픽 캡처 시작: {}", file);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            LockSupport.unpark(writerThread);
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    public boolean isRecording() {
+        return running;
+    }
+
+    public void opened(WebSocketSession session) {
+        if (!running) return;
+
+        URI uri = session.getUri();
+        String query = uri != null && uri.getRawQuery() != null ? uri.getRawQuery() : "";
+        int connection = nextConnection.getAndIncrement();
+        connections.put(session.getId(), connection);
+        offer(new Pending(System.nanoTime(), connection, CaptureRecord.Kind.OPEN, null, query));
+    }
+
+    /**
+     * 파싱된 명령(또는 배치 배열)을 기록한다. 명령 트리는 이후 바뀌지 않아야 한다.
+     * 캡처를 시작한 뒤 열린 연결만 기록하므로 워밍업의 합성 세션이나 그 전부터 있던 연결은 빠진다.
+     */
+    public void received(WebSocketSession session, JsonNode command) {
+        if (!running) return;
+
+        Integer connection = connections.get(session.getId());
+        if (connection != null) {
+            offer(new Pending(System.nanoTime(), connection, CaptureRecord.Kind.MESSAGE, command, null));
+        }
+    }
+
+    public void closed(WebSocketSession session) {
+        if (!running) return;
+
+        Integer connection = connections.remove(session.getId());
+        if (connection != null) {
+            offer(new Pending(System.nanoTime(), connection, CaptureRecord.Kind.CLOSE, null, null));
+        }
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public long writtenCount() {
+        return written.sum();
+    }
+
+    private void offer(Pending pending) {
+        if (queued.incrementAndGet() > config.getQueueCapacity()) {
+            queued.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        queue.offer(pending);
+    }
+
+    private void writeLoop(CaptureWriter writer) {
+        boolean full = false;
+        while (running || !queue.isEmpty()) {
+            Pending pending = queue.poll();
+            if (pending == null) {
+                flush(writer);
+                LockSupport.parkNanos(FLUSH_INTERVAL_NANOS);
+                continue;
+            }
+            queued.decrementAndGet();
+
+            if (full) {
+                dropped.increment();
+                continue;
+            }
+            try {
+                writer.write(toRecord(pending));
+                written.increment();
+                if (writer.size() >= config.getMaxFileBytes()) {
+                    full = true;
+                    log.warn("캡처 파일이 최대 크기에 이르러 기록을 멈춥니다: {}", file);
+                }
+            } catch (IOException e) {
+                dropped.increment();
+                log.error("캡처 기록 실패", e);
+            }
+        }
+
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.error("캡처 파일 닫기 실패", e);
+        }
+    }
+
+    private void flush(CaptureWriter writer) {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            log.error("캡처 파일 flush 실패", e);
+        }
+    }
+
+    private CaptureRecord toRecord(Pending pending) throws IOException {
+        String value = pending.command() != null ? encode(pending.command()) : pending.value();
+        return new CaptureRecord(pending.nanoTime() - startedAtNanos, pending.connection(), pending.kind(), value);
+    }
+
+    private String encode(JsonNode command) throws IOException {
+        if (!config.isRedactText()) {
+            return objectMapper.writeValueAsString(command);
+        }
+
+        JsonNode copy = command.deepCopy();
+        if (copy.isArray()) {
+            copy.forEach(TrafficRecorder::redact);
+        } else {
+            redact(copy);
+        }
+        return objectMapper.writeValueAsString(copy);
+    }
+
+    /**
+     * 본문을 같은 길이의 대체 문자로 바꾼다. 재생할 때 메시지 크기는 그대로 유지된다.
+     */
+    private static void redact(JsonNode command) {
+        if (!(command.get("data") instanceof ObjectNode data)) return;
+
+        for (String field : TEXT_FIELDS) {
+            JsonNode text = data.get(field);
+            if (text != null && text.isTextual()) {
+                data.put(field, "x".repeat(text.asText().length()));
+            }
+        }
+    }
+
+    private record Pending(long nanoTime, int connection, CaptureRecord.Kind kind, JsonNode command, String value) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.confession.game.global.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 사이의 방 이벤트 전송 계층. 방 하나가 토픽 하나이며,
+ * 발행된 프레임은 그 방을 구독한 노드마다 한 번씩만 전달된다 (발행한 노드 자신은 제외).
+ */
+public interface BroadcastTransport {
+
+    /**
+     * 노드를 연결한다. 다른 노드가 발행한 프레임 중 구독한 방의 것만 receiver 로 전달된다.
+     */
+    Endpoint connect(String nodeId, Consumer<RoomFrame> receiver);
+
+    interface Endpoint {
+
+        void subscribe(String roomId);
+
+        void unsubscribe(String roomId);
+
+        void publish(RoomFrame frame);
+
+        void close();
+    }
+}
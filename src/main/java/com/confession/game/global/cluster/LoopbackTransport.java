@@ -0,0 +1,88 @@
+package com.confession.game.global.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 한 JVM 안의 노드끼리 프레임을 주고받는 전송 계층. 테스트와 로컬 다중 노드 실행용이다.
+ * <p>
+ * 발행한 스레드에서 바로 각 노드의 receiver 를 호출하며, 같은 RoomFrame 인스턴스를 모든 노드가 공유한다.
+ */
+@Slf4j
+public class LoopbackTransport implements BroadcastTransport {
+
+    private static final LoopbackTransport SHARED = new LoopbackTransport();
+
+    // roomId -> nodeId -> receiver
+    private final Map<String, Map<String, Consumer<RoomFrame>>> subscribers = new ConcurrentHashMap<>();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+
+    /**
+     * JVM 전체에서 공유하는 인스턴스. 같은 프로세스에 띄운 여러 애플리케이션 컨텍스트를 잇는다.
+     */
+    public static LoopbackTransport shared() {
+        return SHARED;
+    }
+
+    @Override
+    public Endpoint connect(String nodeId, Consumer<RoomFrame> receiver) {
+        return new Endpoint() {
+            @Override
+            public void subscribe(String roomId) {
+                subscribers.computeIfAbsent(roomId, key -> new ConcurrentHashMap<>()).put(nodeId, receiver);
+            }
+
+            @Override
+            public void unsubscribe(String roomId) {
+                subscribers.computeIfPresent(roomId, (key, nodes) -> {
+                    nodes.remove(nodeId);
+                    return nodes.isEmpty() ? null : nodes;
+                });
+            }
+
+            @Override
+            public void publish(RoomFrame frame) {
+                published.increment();
+                Map<String, Consumer<RoomFrame>> nodes = subscribers.get(frame.roomId());
+                if (nodes == null) return;
+
+                for (Map.Entry<String, Consumer<RoomFrame>> node : nodes.entrySet()) {
+                    if (node.getKey().equals(nodeId)) continue;
+                    delivered.increment();
+                    try {
+                        node.getValue().accept(frame);
+                    } catch (RuntimeException e) {
+                        log.warn("노드 {} 로 방 {} 이벤트 전달 실패", node.getKey(), frame.roomId(), e);
+                    }
+                }
+            }
+
+            @Override
+            public void close() {
+                for (String roomId : subscribers.keySet()) {
+                    unsubscribe(roomId);
+                }
+            }
+        };
+    }
+
+    /**
+     * 발행된 프레임 수.
+     */
+    public long publishedCount() {
+        return published.sum();
+    }
+
+    /**
+     * 노드에 전달된 프레임 수 (발행 하나가 구독 노드 수만큼 전달된다).
+     */
+    public long deliveredCount() {
+        return delivered.sum();
+    }
+}
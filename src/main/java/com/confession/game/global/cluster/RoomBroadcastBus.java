@@ -0,0 +1,87 @@
+package com.confession.game.global.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 같은 방의 연결이 여러 노드에 흩어져 있을 때 방 이벤트를 다른 노드로 전달하는 버스.
+ * <p>
+ * 노드는 로컬 연결(플레이어 또는 관전자)이 있는 방만 구독하고, 방 이벤트는 수신자 수와 관계없이
+ * 노드마다 한 번만 발행한다. 다른 노드에서 온 프레임은 {@link RoomFrame} 이벤트로 다시 발행되어
+ * 핸들러가 로컬 연결에만 전달한다. 전송 계층이 없으면 단일 노드로 동작하며 아무 일도 하지 않는다.
+ * 방 상태는 옮기지 않으므로, 방 저장소를 공유하지 않는 지금은 같은 JVM 안의 테스트에서만 쓴다.
+ */
+@Slf4j
+public class RoomBroadcastBus {
+
+    private final String nodeId;
+    private final BroadcastTransport.Endpoint endpoint;
+
+    // 이 노드가 구독 중인 방
+    private final Map<String, Boolean> subscribedRooms = new ConcurrentHashMap<>();
+
+    public RoomBroadcastBus(String nodeId, BroadcastTransport transport, ApplicationEventPublisher eventPublisher) {
+        this.nodeId = nodeId;
+        this.endpoint = transport != null ? transport.connect(nodeId, eventPublisher::publishEvent) : null;
+        if (endpoint != null) {
+            log.info("브로드캐스트 버스 연결: 노드 {}", nodeId);
+        }
+    }
+
+    public boolean isClustered() {
+        return endpoint != null;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 다른 노드의 같은 방 연결에 전달한다. 로컬 연결에는 호출한 쪽이 직접 보낸다.
+     */
+    public void publish(RoomFrame frame) {
+        if (endpoint != null) {
+            endpoint.publish(frame);
+        }
+    }
+
+    /**
+     * 로컬 연결 유무에 맞춰 방 구독을 갱신한다. 같은 방의 갱신은 차례로 실행되고 그 시점의 상태를 다시 읽으므로,
+     * 참가/퇴장이 겹쳐도 마지막 갱신이 최종 상태를 반영한다.
+     */
+    public void refresh(String roomId, BooleanSupplier hasLocalSessions) {
+        if (endpoint == null) return;
+
+        subscribedRooms.compute(roomId, (key, subscribed) -> {
+            boolean local = hasLocalSessions.getAsBoolean();
+            if (local && subscribed == null) {
+                endpoint.subscribe(roomId);
+                return Boolean.TRUE;
+            }
+            if (!local && subscribed != null) {
+                endpoint.unsubscribe(roomId);
+                return null;
+            }
+            return subscribed;
+        });
+    }
+
+    public boolean isSubscribed(String roomId) {
+        return subscribedRooms.containsKey(roomId);
+    }
+
+    public int subscribedRoomCount() {
+        return subscribedRooms.size();
+    }
+
+    public void close() {
+        if (endpoint != null) {
+            endpoint.close();
+            subscribedRooms.clear();
+        }
+    }
+}
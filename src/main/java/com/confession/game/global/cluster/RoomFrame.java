@@ -0,0 +1,54 @@
+package com.confession.game.global.cluster;
+
+/**
+ * 노드 사이로 전달되는 방 이벤트. 이미 인코딩된 JSON 을 그대로 싣고 다니므로
+ * 받는 노드는 다시 직렬화하지 않고 프레임 하나를 만들어 로컬 수신자 전원에게 보낸다.
+ *
+ * @param playerId {@link Audience#PLAYERS_EXCEPT} 에서는 제외할 플레이어, {@link Audience#PLAYER} 에서는 받을 플레이어
+ */
+public record RoomFrame(String roomId, String json, Audience audience, String playerId) {
+
+    public enum Audience {
+        PLAYERS,
+        PLAYERS_AND_SPECTATORS,
+        SPECTATORS,
+        PLAYERS_EXCEPT,
+        PLAYER
+    }
+
+    public static RoomFrame toRoom(String roomId, String json, boolean withSpectators) {
+        return new RoomFrame(roomId, json, withSpectators ? Audience.PLAYERS_AND_SPECTATORS : Audience.PLAYERS, null);
+    }
+
+    public static RoomFrame toSpectators(String roomId, String json) {
+        return new RoomFrame(roomId, json, Audience.SPECTATORS, null);
+    }
+
+    public static RoomFrame toPlayersExcept(String roomId, String json, String excludedPlayerId) {
+        return new RoomFrame(roomId, json, Audience.PLAYERS_EXCEPT, excludedPlayerId);
+    }
+
+    public static RoomFrame toPlayer(String roomId, String json, String playerId) {
+        return new RoomFrame(roomId, json, Audience.PLAYER, playerId);
+    }
+
+    public boolean toPlayers() {
+        return audience != Audience.SPECTATORS;
+    }
+
+    public boolean toSpectators() {
+        return audience == Audience.PLAYERS_AND_SPECTATORS || audience == Audience.SPECTATORS;
+    }
+
+    /**
+     * 이 플레이어가 받을 프레임인지.
+     */
+    public boolean includes(String candidatePlayerId) {
+        return switch (audience) {
+            case PLAYERS, PLAYERS_AND_SPECTATORS -> true;
+            case SPECTATORS -> false;
+            case PLAYERS_EXCEPT -> !candidatePlayerId.equals(playerId);
+            case PLAYER -> candidatePlayerId.equals(playerId);
+        };
+    }
+}
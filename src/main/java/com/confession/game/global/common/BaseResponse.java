@@ -1,5 +1,6 @@
 package com.confession.game.global.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,14 +10,26 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class BaseResponse<T> {
     private String type;
+
+    // 방에 속한 이벤트면 해당 방 ID. 한 연결에서 여러 방을 쓸 때 클라이언트가 이벤트를 구분한다
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String roomId;
+
     private T data;
 
     public static <T> BaseResponse<T> of(String type, T data) {
-        return new BaseResponse<>(type, data);
+        return new BaseResponse<>(type, null, data);
     }
 
     public static <T> BaseResponse<T> error(String message) {
-        return new BaseResponse<>("error", (T) new ErrorData(message));
+        return new BaseResponse<>("error", null, (T) new ErrorData(message));
+    }
+
+    /**
+     * 같은 내용에 방 ID 를 붙인 응답.
+     */
+    public BaseResponse<T> inRoom(String roomId) {
+        return new BaseResponse<>(type, roomId, data);
     }
 
     @Getter
@@ -24,4 +37,4 @@ public class BaseResponse<T> {
     public static class ErrorData {
         private String message;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.confession.game.global.config;
+
+import com.confession.game.global.cluster.BroadcastTransport;
+import com.confession.game.global.cluster.LoopbackTransport;
+import com.confession.game.global.cluster.RoomBroadcastBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+
+@Slf4j
+@Configuration
+public class ClusterConfig {
+
+    /**
+     * 같은 JVM 안의 노드끼리 잇는 루프백 전송 계층. 테스트 전용이다.
+     * <p>
+     * 방 저장소(RoomRepository)는 노드마다 메모리에 따로 있어 공유되지 않는다. 이벤트는 다른 노드로 전달되지만
+     * 다른 노드에 만들어진 방에 참가하거나 그 방의 상태를 읽을 수는 없으므로, 실제 여러 프로세스에 켜면 안 된다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "game.cluster", name = "enabled", havingValue = "true")
+    public BroadcastTransport broadcastTransport() {
+        log.warn("game.cluster.enabled 는 테스트 전용입니다. 방 저장소가 노드 간에 공유되지 않습니다.");
+        return LoopbackTransport.shared();
+    }
+
+    /**
+     * 전송 계층이 없으면(game.cluster.enabled=false) 단일 노드로 동작한다.
+     */
+    @Bean(destroyMethod = "close")
+    public RoomBroadcastBus roomBroadcastBus(GameProperties gameProperties,
+                                             ObjectProvider<BroadcastTransport> transport,
+                                             ApplicationEventPublisher eventPublisher) {
+        String nodeId = gameProperties.getCluster().getNodeId();
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = UUID.randomUUID().toString();
+        }
+        return new RoomBroadcastBus(nodeId, transport.getIfAvailable(), eventPublisher);
+    }
+}
@@ -0,0 +1,256 @@
+package com.confession.game.global.config;
+
+import com.confession.game.domain.room.entity.Room;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@ConfigurationProperties(prefix = "game")
+public class GameProperties {
+
+    private final RoomLimit room = new RoomLimit();
+    private final NodeLimit node = new NodeLimit();
+    private final Admission admission = new Admission();
+    private final TextArenaConfig textArena = new TextArenaConfig();
+    private final Journal journal = new Journal();
+    private final Logging logging = new Logging();
+    private final Round round = new Round();
+    private final Matchmaking matchmaking = new Matchmaking();
+    private final Drain drain = new Drain();
+    private final Warmup warmup = new Warmup();
+    private final Cluster cluster = new Cluster();
+    private final ContentFilterConfig contentFilter = new ContentFilterConfig();
+    private final Inbound inbound = new Inbound();
+    private final Admin admin = new Admin();
+    private final Capture capture = new Capture();
+    private final Reactive reactive = new Reactive();
+    private final Pipeline pipeline = new Pipeline();
+
+    @Getter
+    @Setter
+    public static class RoomLimit {
+        private int maxPlayers = 20;
+        private int maxSpectators = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class NodeLimit {
+        private int maxRooms = 10_000;
+        private int maxSessions = 50_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Admission {
+        private boolean enabled = true;
+        // 메시지를 받고 처리를 마칠 때까지 걸린 시간(파이프라인이면 링 대기 포함)의 이동평균이 이 값을 넘으면 신규 참가를 거절
+        private long latencyThresholdMillis = 50;
+        // 처리 중이거나 수신 링에서 기다리는 메시지 수가 이 값을 넘으면 신규 참가를 거절
+        private int maxInFlight = 256;
+        private long retryAfterMillis = 1_000;
+    }
+
+    @Getter
+    @Setter
+    public static class TextArenaConfig {
+        // 고해성사/해명 텍스트를 힙 밖 슬랩에 저장할지 여부
+        private boolean enabled = false;
+        private int slabSize = 64 * 1024;
+        private int maxPooledSlabs = 1_024;
+    }
+
+    @Getter
+    @Setter
+    public static class Journal {
+        private boolean enabled = false;
+        private String directory = "journal";
+        private Format format = Format.NDJSON;
+        private int queueCapacity = 65_536;
+        private int batchSize = 512;
+        private long flushIntervalMillis = 200;
+        private long maxFileBytes = 64L * 1024 * 1024;
+        // 큐가 가득 찼을 때: DROP 은 즉시 버리고, BLOCK 은 blockTimeoutMillis 까지 기다린 뒤 버린다
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+        private long blockTimeoutMillis = 5;
+
+        public enum Format {
+            NDJSON, BINARY
+        }
+
+        public enum OverflowPolicy {
+            DROP, BLOCK
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Logging {
+        // 고해성사/해명/채팅 본문과 원본 페이로드를 로그에 남길지 여부 (운영에서는 끄는 것을 권장)
+        private boolean logMessageBodies = false;
+        // 채팅, 투표처럼 빈도가 높은 로그의 초당 최대 줄 수
+        private int sampledLinesPerSecond = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class Round {
+        // 단계별 제한 시간. 0 이하이면 해당 단계는 시간 제한이 없다
+        private boolean enabled = true;
+        private long confessionSeconds = 120;
+        private long explanationSeconds = 180;
+        private long votingSeconds = 60;
+        private long selectionSeconds = 30;
+        // 공유 타이밍 휠 설정
+        private long tickMillis = 100;
+        private int wheelSize = 512;
+        // 만료된 단계를 넘기고 알리는 스레드 수. 휠 스레드는 만료 판정만 한다
+        private int expiryThreads = 2;
+
+        public long timeoutMillis(Room.RoundPhase phase) {
+            if (!enabled || phase == null) {
+                return 0;
+            }
+
+            long seconds = switch (phase) {
+                case CONFESSION -> confessionSeconds;
+                case EXPLANATION -> explanationSeconds;
+                case VOTING -> votingSeconds;
+                case SELECTION -> selectionSeconds;
+            };
+            return Math.max(seconds, 0) * 1_000;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Matchmaking {
+        // 한 방에 묶는 인원
+        private int matchSize = 4;
+        // 대기가 길어지면 이 인원만 모여도 방을 만든다
+        private int minSize = 2;
+        private long maxWaitMillis = 10_000;
+        private long tickMillis = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Drain {
+        // 켜면 종료 시 exportFile 에 방 상태를 쓴다. 배포 환경에서만 켠다
+        private boolean enabled = false;
+        // 종료 시 진행 중인 라운드가 끝나기를 기다리는 최대 시간
+        private long timeoutSeconds = 20;
+        private long pollIntervalMillis = 200;
+        // 클라이언트에게 알려 줄 재접속 대기 시간
+        private long reconnectAfterMillis = 5_000;
+        // 방 상태를 내보내고, 다음 프로세스가 시작할 때 읽어 들이는 파일
+        private String exportFile = "drain/rooms.json";
+        // 이전 프로세스가 남긴 파일을 읽어 방을 복원한다. 오래된 파일을 되살리지 않도록 명시적으로 켤 때만
+        private boolean restoreOnStartup = false;
+        // 복원된 방에서 이 시간 안에 재접속하지 않은 플레이어는 내보낸다
+        private long reconnectGraceSeconds = 60;
+    }
+
+    @Getter
+    @Setter
+    public static class Warmup {
+        // 준비 완료 전에 가상 방으로 전체 게임 흐름을 돌려 JIT 컴파일을 끝내 둔다
+        private boolean enabled = true;
+        private int rounds = 300;
+        private int playersPerRoom = 4;
+        // rounds 를 다 채우지 못해도 이 시간이 지나면 중단
+        private long maxMillis = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Cluster {
+        // 여러 노드에 흩어진 같은 방의 연결에 브로드캐스트 버스로 이벤트를 전달.
+        // 테스트 전용: 전송 계층이 같은 JVM 안의 LoopbackTransport 뿐이고 방 저장소는 노드마다 따로이므로
+        // 실제 여러 프로세스에 켜면 다른 노드의 방에 참가할 수 없다
+        private boolean enabled = false;
+        // 비어 있으면 기동할 때마다 임의로 정한다
+        private String nodeId = "";
+    }
+
+    @Getter
+    @Setter
+    public static class ContentFilterConfig {
+        // 채팅, 고해성사, 해명에서 금지어를 거른다
+        private boolean enabled = true;
+        // 한 줄에 금지어 하나. 빈 줄과 # 으로 시작하는 줄은 무시한다
+        private String termsFile = "filter/banned-terms.txt";
+        // 이 간격으로 파일 변경을 확인해 다시 읽는다 (0 이면 기동 때만 읽음)
+        private long reloadIntervalMillis = 5_000;
+        private Action action = Action.MASK;
+        private char maskChar = '*';
+
+        public enum Action {
+            // 금지어 글자를 maskChar 로 가려서 전달
+            MASK,
+            // 메시지를 거절
+            REJECT
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Inbound {
+        // 컨테이너가 한 번에 버퍼링하는 텍스트 크기(글자). 더 긴 메시지는 조각으로 나뉘어 핸들러에 전달된다
+        private int bufferSize = 8 * 1024;
+        // 한 메시지(배치 포함)의 최대 길이(글자). 넘으면 나머지 조각을 받지 않고 거절
+        private int maxMessageChars = 64 * 1024;
+        // 채팅, 고해성사, 해명 본문 하나의 최대 길이(글자)
+        private int maxTextChars = 4_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Admin {
+        // 운영용 방 조회/강제 종료 API (/api/admin)
+        private boolean enabled = false;
+        // X-Admin-Token 헤더가 이 값과 같아야 한다. 비어 있으면 모든 요청을 403 으로 거절한다
+        private String token = "";
+    }
+
+    @Getter
+    @Setter
+    public static class Capture {
+        // 받은 명령을 시각과 함께 파일에 기록 (재생 도구로 같은 부하를 다시 보낼 수 있다)
+        private boolean enabled = false;
+        private String directory = "captures";
+        // 채팅, 고해성사, 해명 본문을 같은 길이의 대체 문자로 바꿔 기록
+        private boolean redactText = true;
+        // 큐가 가득 차면 기록을 버린다. 캡처 때문에 게임 스레드가 기다리지 않는다
+        private int queueCapacity = 65_536;
+        // 파일이 이 크기에 이르면 기록을 멈춘다
+        private long maxFileBytes = 256L * 1024 * 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class Reactive {
+        // reactive 프로필(WebFlux)에서 연결마다 송신 대기열에 쌓을 수 있는 프레임 수.
+        // 넘치면 수신이 느린 연결로 보고 끊는다
+        private int outboundCapacity = 256;
+        // 송신 대기열이 이보다 길면 그 연결의 다음 수신 프레임을 읽지 않는다 (TCP 로 역압)
+        private int readPauseFrames = 128;
+    }
+
+    @Getter
+    @Setter
+    public static class Pipeline {
+        // 수신 메시지를 디코드 -> 방 처리 -> 송신 단계 스레드로 나눠 처리한다. 끄면 컨테이너 스레드에서 바로 처리한다
+        private boolean enabled = false;
+        // 수신 링과 송신 링의 슬롯 수 (2의 거듭제곱). 가득 차면 컨테이너 스레드가 기다린다
+        private int ringSize = 8192;
+        private int decoders = 1;
+        // 연결 ID 로 나누는 방 처리 스레드 수
+        private int roomWorkers = 4;
+        // 받는 연결 ID 로 나누는 송신 스레드 수
+        private int senders = 2;
+        // 단계마다 한 번에 처리하는 최대 슬롯 수. 방 처리 단계는 한 묶음의 응답을 송신 슬롯 하나에 모은다
+        private int maxBatch = 64;
+    }
+}
@@ -0,0 +1,89 @@
+package com.confession.game.global.config;
+
+import com.confession.game.global.handler.ReactiveWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.config.CorsRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.handler.SimpleUrlHandlerMapping;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.server.WebSocketService;
+import org.springframework.web.reactive.socket.server.support.HandshakeWebSocketService;
+import org.springframework.web.reactive.socket.server.upgrade.ReactorNettyRequestUpgradeStrategy;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.server.WebsocketServerSpec;
+
+import java.util.Map;
+
+/**
+ * reactive 프로필(spring.main.web-application-type=reactive)에서 쓰는 WebFlux 설정.
+ * 서블릿 스택의 WebConfig, WebSocketConfig, ReadinessHandshakeInterceptor 와 같은 일을 한다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    // UTF-8 에서 한 글자는 최대 3바이트
+    private static final int MAX_BYTES_PER_CHAR = 3;
+
+    private final ReactiveWebSocketHandler reactiveWebSocketHandler;
+    private final GameProperties gameProperties;
+    private final ApplicationAvailability applicationAvailability;
+
+    @Override
+    public void addCorsMappings(CorsRegistry registry) {
+        registry.addMapping("/**")
+                .allowedOrigins("*")
+                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                .allowedHeaders("*")
+                .maxAge(3600);
+    }
+
+    @Bean
+    public HandlerMapping webSocketHandlerMapping() {
+        // 어노테이션 컨트롤러보다 먼저 /ws 를 잡는다
+        SimpleUrlHandlerMapping mapping = new SimpleUrlHandlerMapping(Map.of("/ws", reactiveWebSocketHandler), -1);
+        CorsConfiguration cors = new CorsConfiguration();
+        cors.addAllowedOrigin("*");
+        mapping.setCorsConfigurations(Map.of("/ws", cors));
+        return mapping;
+    }
+
+    /**
+     * 준비 완료(ACCEPTING_TRAFFIC) 전후에는 업그레이드하지 않고 503 으로 거절한다.
+     */
+    @Override
+    public WebSocketService getWebSocketService() {
+        // 조각난 메시지는 여기까지 모아서 한 번에 넘긴다. 글자 수 한도는 핸들러가 확인하고 error 로 알린다
+        int maxFrameBytes = Math.multiplyExact(gameProperties.getInbound().getMaxMessageChars(), MAX_BYTES_PER_CHAR);
+        ReactorNettyRequestUpgradeStrategy upgradeStrategy = new ReactorNettyRequestUpgradeStrategy(
+                () -> WebsocketServerSpec.builder().maxFramePayloadLength(maxFrameBytes));
+
+        return new HandshakeWebSocketService(upgradeStrategy) {
+            @Override
+            public Mono<Void> handleRequest(ServerWebExchange exchange, WebSocketHandler handler) {
+                if (applicationAvailability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC) {
+                    return super.handleRequest(exchange, handler);
+                }
+
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                response.getHeaders().set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+                return response.setComplete();
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.confession.game.global.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+/**
+ * 준비 완료(ACCEPTING_TRAFFIC) 전후에는 핸드셰이크를 503 으로 거절한다.
+ * 기동 시 워밍업이 끝나기 전, 종료 시 드레인이 시작된 뒤가 여기에 해당한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadinessHandshakeInterceptor implements HandshakeInterceptor {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final ApplicationAvailability applicationAvailability;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        if (applicationAvailability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC) {
+            return true;
+        }
+
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        return false;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+}
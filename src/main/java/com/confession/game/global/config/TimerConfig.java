@@ -0,0 +1,33 @@
+package com.confession.game.global.config;
+
+import com.confession.game.global.timer.HashedWheelTimer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class TimerConfig {
+
+    /**
+     * 라운드 제한 시간에 쓰는 공유 타이머. 방마다 스레드나 ScheduledFuture 를 만들지 않는다.
+     * 만료 처리(상태 전이와 브로드캐스트)는 roundExpiryExecutor 에서 실행해 휠 스레드가 소켓 전송에 막히지 않게 한다.
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public HashedWheelTimer roundTimer(GameProperties gameProperties) {
+        GameProperties.Round round = gameProperties.getRound();
+        return new HashedWheelTimer(round.getTickMillis(), round.getWheelSize(), roundExpiryExecutor(gameProperties));
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService roundExpiryExecutor(GameProperties gameProperties) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(gameProperties.getRound().getExpiryThreads(), task -> {
+            Thread thread = new Thread(task, "round-expiry-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
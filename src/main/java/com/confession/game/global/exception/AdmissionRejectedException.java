@@ -0,0 +1,27 @@
+package com.confession.game.global.exception;
+
+import lombok.Getter;
+
+@Getter
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final Reason reason;
+
+    public AdmissionRejectedException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    @Getter
+    public enum Reason {
+        ROOM_FULL("room-full"),
+        SERVER_BUSY("server-busy"),
+        DRAINING("server-draining");
+
+        private final String type;
+
+        Reason(String type) {
+            this.type = type;
+        }
+    }
+}
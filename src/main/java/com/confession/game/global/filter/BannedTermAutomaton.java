@@ -0,0 +1,197 @@
+package com.confession.game.global.filter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 금지어 목록을 컴파일한 Aho-Corasick 오토마톤. 메시지를 한 번만 훑어 모든 금지어 위치를 찾으므로
+ * 검사 비용은 금지어 수와 관계없이 메시지 길이에 비례한다.
+ * <p>
+ * 만든 뒤에는 바뀌지 않으므로 여러 스레드가 동시에 써도 된다. 대소문자는 구분하지 않는다.
+ */
+public final class BannedTermAutomaton {
+
+    private static final BannedTermAutomaton EMPTY = new BannedTermAutomaton(List.of());
+
+    // 루트에서 나가는 전이는 자주 쓰이므로 문자 전체 범위의 표로 둔다 (0 은 루트로 돌아감)
+    private final int[] rootNext;
+
+    // 상태 s 의 전이는 edgeChars/edgeTargets 의 [edgeStart[s], edgeStart[s + 1]) 구간, 문자 순으로 정렬
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+
+    private final int[] fail;
+
+    // 상태에서 끝나는 가장 긴 금지어 길이 (실패 링크로 이어지는 금지어 포함). 없으면 0
+    private final int[] matchLength;
+
+    private final int termCount;
+
+    private BannedTermAutomaton(Collection<String> terms) {
+        // 1. 트라이
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> ownLength = new ArrayList<>();
+        children.add(new TreeMap<>());
+        ownLength.add(0);
+
+        int count = 0;
+        for (String term : terms) {
+            if (term == null || term.isBlank()) continue;
+            String normalized = term.strip();
+
+            int state = 0;
+            for (int i = 0; i < normalized.length(); i++) {
+                char c = Character.toLowerCase(normalized.charAt(i));
+                Integer next = children.get(state).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.get(state).put(c, next);
+                    children.add(new TreeMap<>());
+                    ownLength.add(0);
+                }
+                state = next;
+            }
+            if (ownLength.get(state) == 0) {
+                count++;
+            }
+            ownLength.set(state, normalized.length());
+        }
+        termCount = count;
+
+        // 2. 전이를 배열로 압축
+        int states = children.size();
+        edgeStart = new int[states + 1];
+        for (int s = 0; s < states; s++) {
+            edgeStart[s + 1] = edgeStart[s] + children.get(s).size();
+        }
+        edgeChars = new char[edgeStart[states]];
+        edgeTargets = new int[edgeStart[states]];
+        for (int s = 0; s < states; s++) {
+            int edge = edgeStart[s];
+            for (var entry : children.get(s).entrySet()) {
+                edgeChars[edge] = entry.getKey();
+                edgeTargets[edge] = entry.getValue();
+                edge++;
+            }
+        }
+
+        rootNext = new int[Character.MAX_VALUE + 1];
+        for (int edge = edgeStart[0]; edge < edgeStart[1]; edge++) {
+            rootNext[edgeChars[edge]] = edgeTargets[edge];
+        }
+
+        // 3. 실패 링크 (너비 우선)
+        fail = new int[states];
+        matchLength = new int[states];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int edge = edgeStart[0]; edge < edgeStart[1]; edge++) {
+            int child = edgeTargets[edge];
+            matchLength[child] = ownLength.get(child);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int edge = edgeStart[state]; edge < edgeStart[state + 1]; edge++) {
+                char c = edgeChars[edge];
+                int child = edgeTargets[edge];
+
+                int f = fail[state];
+                int target;
+                while ((target = next(f, c)) < 0) {
+                    f = fail[f];
+                }
+                fail[child] = target;
+                matchLength[child] = Math.max(ownLength.get(child), matchLength[target]);
+                queue.add(child);
+            }
+        }
+    }
+
+    public static BannedTermAutomaton compile(Collection<String> terms) {
+        return terms.isEmpty() ? EMPTY : new BannedTermAutomaton(terms);
+    }
+
+    public static BannedTermAutomaton empty() {
+        return EMPTY;
+    }
+
+    public int termCount() {
+        return termCount;
+    }
+
+    public boolean matches(CharSequence text) {
+        if (termCount == 0) return false;
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, Character.toLowerCase(text.charAt(i)));
+            if (matchLength[state] > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 금지어에 해당하는 글자를 mask 로 바꾼다. 금지어가 없으면 같은 문자열을 그대로 반환한다.
+     */
+    public String mask(String text, char mask) {
+        if (termCount == 0) return text;
+
+        char[] masked = null;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, Character.toLowerCase(text.charAt(i)));
+            int length = matchLength[state];
+            if (length == 0) continue;
+
+            if (masked == null) {
+                masked = text.toCharArray();
+            }
+            // 여기서 끝나는 가장 긴 금지어만 가리면 같은 위치에서 끝나는 짧은 금지어도 함께 가려진다
+            Arrays.fill(masked, i - length + 1, i + 1, mask);
+        }
+        return masked == null ? text : new String(masked);
+    }
+
+    private int step(int state, char c) {
+        while (state != 0) {
+            int target = next(state, c);
+            if (target >= 0) {
+                return target;
+            }
+            state = fail[state];
+        }
+        return rootNext[c];
+    }
+
+    /**
+     * @return 전이가 없으면 -1. 루트는 항상 전이가 있다 (없으면 루트 자신)
+     */
+    private int next(int state, char c) {
+        if (state == 0) {
+            return rootNext[c];
+        }
+
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = edgeChars[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+}
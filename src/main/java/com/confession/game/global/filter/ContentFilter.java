@@ -0,0 +1,142 @@
+package com.confession.game.global.filter;
+
+import com.confession.game.global.config.GameProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 채팅, 고해성사, 해명 본문의 금지어 필터.
+ * <p>
+ * 금지어 목록은 {@link BannedTermAutomaton} 으로 컴파일해 두고 메시지마다 한 번만 훑는다.
+ * 감시 스레드가 목록 파일의 변경을 확인해 새 오토마톤을 만든 뒤 참조만 바꿔 끼우므로,
+ * 다시 읽는 동안에도 메시지 처리는 멈추지 않고 이전 목록으로 계속 검사된다.
+ */
+@Slf4j
+@Component
+public class ContentFilter {
+
+    private final GameProperties.ContentFilterConfig config;
+
+    private volatile BannedTermAutomaton automaton = BannedTermAutomaton.empty();
+
+    // 마지막으로 읽은 파일의 수정 시각. 감시 스레드만 쓴다
+    private FileTime loadedModifiedTime;
+
+    private volatile boolean running;
+    private Thread watcherThread;
+
+    public ContentFilter(GameProperties gameProperties) {
+        this.config = gameProperties.getContentFilter();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.isEnabled()) return;
+
+        reloadIfChanged();
+        if (config.getReloadIntervalMillis() <= 0) return;
+
+        running = true;
+        watcherThread = new Thread(this::watchLoop, "content-filter-reload");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (watcherThread != null) {
+            LockSupport.unpark(watcherThread);
+            watcherThread.join(TimeUnit.SECONDS.toMillis(1));
+        }
+    }
+
+    /**
+     * 금지어를 설정된 방식으로 처리한 본문. 금지어가 없으면 같은 문자열을 그대로 반환한다.
+     *
+     * @throws IllegalArgumentException 거절 모드에서 금지어가 있을 때
+     */
+    public String apply(String text) {
+        if (!config.isEnabled() || text == null) return text;
+
+        BannedTermAutomaton current = automaton;
+        if (config.getAction() == GameProperties.ContentFilterConfig.Action.REJECT) {
+            if (current.matches(text)) {
+                throw new IllegalArgumentException("금지어가 포함된 메시지는 보낼 수 없습니다.");
+            }
+            return text;
+        }
+        return current.mask(text, config.getMaskChar());
+    }
+
+    /**
+     * 금지어 목록을 바로 바꾼다. 컴파일이 끝난 뒤에 교체되므로 처리 중인 메시지에는 영향이 없다.
+     */
+    public void reload(Collection<String> terms) {
+        BannedTermAutomaton compiled = BannedTermAutomaton.compile(terms);
+        automaton = compiled;
+        log.info("금지어 목록 적용: {}개", compiled.termCount());
+    }
+
+    public int termCount() {
+        return automaton.termCount();
+    }
+
+    /**
+     * 목록 파일이 바뀌었으면 다시 읽는다. 파일이 없으면 빈 목록을 쓴다.
+     *
+     * @return 다시 읽었으면 true
+     */
+    synchronized boolean reloadIfChanged() {
+        Path path = Path.of(config.getTermsFile());
+        try {
+            if (!Files.exists(path)) {
+                if (loadedModifiedTime != null) {
+                    loadedModifiedTime = null;
+                    reload(List.of());
+                    return true;
+                }
+                return false;
+            }
+
+            FileTime modifiedTime = Files.getLastModifiedTime(path);
+            if (modifiedTime.equals(loadedModifiedTime)) {
+                return false;
+            }
+
+            List<String> terms = Files.readAllLines(path, StandardCharsets.UTF_8).stream()
+                    .map(String::strip)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .toList();
+            reload(terms);
+            loadedModifiedTime = modifiedTime;
+            return true;
+        } catch (IOException e) {
+            // 읽지 못하면 이전 목록을 유지하고 다음 확인 때 다시 시도
+            log.warn("금지어 목록을 읽지 못했습니다: {}", path, e);
+            return false;
+        }
+    }
+
+    private void watchLoop() {
+        long interval = TimeUnit.MILLISECONDS.toNanos(config.getReloadIntervalMillis());
+        while (running) {
+            LockSupport.parkNanos(interval);
+            if (running) {
+                reloadIfChanged();
+            }
+        }
+    }
+}
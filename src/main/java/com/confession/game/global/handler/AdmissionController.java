@@ -0,0 +1,109 @@
+package com.confession.game.global.handler;
+
+import com.confession.game.global.config.GameProperties;
+import com.confession.game.global.exception.AdmissionRejectedException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 핸들러 자체의 처리 시간과 동시 처리량으로 노드 부하를 추정하고,
+ * 한도를 넘으면 신규 참가를 server-busy 로 거절한다. 드레인 중에는 모든 신규 참가를 server-draining 으로 거절한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionController {
+
+    private static final double LATENCY_WEIGHT = 0.2;
+
+    private final GameProperties gameProperties;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong latencyEwmaBits = new AtomicLong(Double.doubleToRawLongBits(0.0));
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile boolean draining;
+
+    public void begin() {
+        inFlight.incrementAndGet();
+    }
+
+    public void end(long elapsedNanos) {
+        inFlight.decrementAndGet();
+
+        double sampleMillis = elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        long prev;
+        long next;
+        do {
+            prev = latencyEwmaBits.get();
+            double average = Double.longBitsToDouble(prev);
+            next = Double.doubleToRawLongBits(average + LATENCY_WEIGHT * (sampleMillis - average));
+        } while (!latencyEwmaBits.compareAndSet(prev, next));
+    }
+
+    public double averageLatencyMillis() {
+        return Double.longBitsToDouble(latencyEwmaBits.get());
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    public boolean isOverloaded() {
+        GameProperties.Admission admission = gameProperties.getAdmission();
+        return admission.isEnabled()
+                && (averageLatencyMillis() > admission.getLatencyThresholdMillis()
+                || inFlight.get() > admission.getMaxInFlight());
+    }
+
+    public void startDraining() {
+        this.draining = true;
+    }
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    /**
+     * 드레인 중이면 참가 요청을 거절한다. 기존 세션의 재참가도 포함한다.
+     */
+    public void checkNotDraining() {
+        if (draining) {
+            rejected.increment();
+            throw new AdmissionRejectedException(AdmissionRejectedException.Reason.DRAINING,
+                    "서버가 곧 재시작됩니다. 잠시 후 다시 접속해 주세요.");
+        }
+    }
+
+    /**
+     * 신규 세션의 참가 가능 여부를 확인한다. 거절 시 AdmissionRejectedException 을 던진다.
+     */
+    public void checkAdmission(int activeSessions) {
+        if (activeSessions >= gameProperties.getNode().getMaxSessions()) {
+            rejected.increment();
+            throw new AdmissionRejectedException(AdmissionRejectedException.Reason.SERVER_BUSY,
+                    "서버 접속 인원이 가득 찼습니다.");
+        }
+
+        if (isOverloaded()) {
+            rejected.increment();
+            throw new AdmissionRejectedException(AdmissionRejectedException.Reason.SERVER_BUSY,
+                    "서버가 혼잡합니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    public long retryAfterMillis() {
+        if (draining) {
+            return gameProperties.getDrain().getReconnectAfterMillis();
+        }
+        return gameProperties.getAdmission().getRetryAfterMillis();
+    }
+}
@@ -0,0 +1,84 @@
+package com.confession.game.global.handler;
+
+import com.confession.game.domain.confession.dto.ConfessionDto;
+import com.confession.game.domain.confession.entity.Confession;
+import com.confession.game.global.common.BaseResponse;
+import com.confession.game.global.memory.TextArena;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * confession-received 프레임 인코더. 본문이 힙 밖 아레나에 있으면
+ * 본문 String 이나 중간 버퍼 없이 슬랩의 UTF-8 바이트를 미리 크기를 맞춘 프레임 배열로 이스케이프해 쓴다.
+ * <p>
+ * 복사가 없는 경로는 아니다. 클라이언트는 텍스트 프레임을 기대하고 Spring 의 TextMessage 는 바이트를 받아도
+ * 보낼 문자열로 한 번 디코딩하므로, 슬랩 -> 프레임 배열 -> 프레임 문자열로 두 번 복사된다.
+ * 아레나가 줄이는 것은 라운드 동안 힙에 머무는 본문과, ObjectMapper 경로의 본문 String/JSON 버퍼다.
+ */
+@Component
+public class ConfessionFrameEncoder {
+
+    private static final byte[] PREFIX = "{\"type\":\"confession-received\",\"roomId\":"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ID_FIELD = ",\"data\":{\"id\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MESSAGE_FIELD = ",\"message\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EXPLANATION_FIELD = ",\"explanation\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TIMESTAMP_FIELD = ",\"timestamp\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SUFFIX = "}}".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * @return 라운드가 이미 바뀌어 본문을 읽을 수 없으면 null
+     */
+    public TextMessage encodeReceived(String roomId, Confession confession) throws IOException {
+        if (!confession.isMessageOffHeap()) {
+            return new TextMessage(objectMapper.writeValueAsString(
+                    BaseResponse.of("confession-received", ConfessionDto.from(confession)).inRoom(roomId)));
+        }
+
+        TextArena arena = confession.getArena();
+        long messageRef = confession.getMessageRef();
+        int generation = confession.getArenaGeneration();
+        int messageLength = arena.jsonStringLength(messageRef, generation);
+        if (messageLength < 0) {
+            return null;
+        }
+
+        // 길이를 먼저 재서 프레임 배열을 한 번만 만들고, 본문은 슬랩에서 그 배열로 바로 쓴다
+        byte[] roomIdJson = objectMapper.writeValueAsBytes(roomId);
+        byte[] idJson = objectMapper.writeValueAsBytes(confession.getId());
+        byte[] explanationJson = objectMapper.writeValueAsBytes(confession.getExplanation());
+        byte[] timestamp = Long.toString(confession.getTimestamp()).getBytes(StandardCharsets.US_ASCII);
+        byte[] frame = new byte[PREFIX.length + roomIdJson.length + ID_FIELD.length + idJson.length
+                + MESSAGE_FIELD.length + messageLength + EXPLANATION_FIELD.length + explanationJson.length
+                + TIMESTAMP_FIELD.length + timestamp.length + SUFFIX.length];
+
+        int position = put(frame, 0, PREFIX);
+        position = put(frame, position, roomIdJson);
+        position = put(frame, position, ID_FIELD);
+        position = put(frame, position, idJson);
+        position = put(frame, position, MESSAGE_FIELD);
+        int messageEnd = arena.writeJsonString(messageRef, generation, frame, position);
+        if (messageEnd != position + messageLength) {
+            // 길이를 잰 뒤 라운드가 바뀌었다
+            return null;
+        }
+        position = put(frame, messageEnd, EXPLANATION_FIELD);
+        position = put(frame, position, explanationJson);
+        position = put(frame, position, TIMESTAMP_FIELD);
+        position = put(frame, position, timestamp);
+        put(frame, position, SUFFIX);
+
+        return new TextMessage(frame);
+    }
+
+    private static int put(byte[] frame, int position, byte[] bytes) {
+        System.arraycopy(bytes, 0, frame, position, bytes.length);
+        return position + bytes.length;
+    }
+}
@@ -0,0 +1,292 @@
+package com.confession.game.global.handler;
+
+import com.confession.game.global.config.GameProperties;
+import com.confession.game.global.pipeline.EventRing;
+import com.confession.game.global.pipeline.RingStage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 수신 메시지를 단계별 스레드로 나눠 처리하는 파이프라인 (game.pipeline.enabled).
+ * <pre>
+ * 컨테이너 스레드 --[수신 링]--> 디코드 --> 방 처리 --[송신 링]--> 송신
+ * </pre>
+ * <ul>
+ *     <li>디코드: 슬롯 위치로 나눠 JSON 을 파싱한다.</li>
+ *     <li>방 처리: 연결 ID 로 파티션을 나눠, 한 연결의 명령(과 연결 종료)은 항상 같은 스레드가 받은 순서대로 처리한다.
+ *     상태 변경과 응답 인코딩을 하고, 방 상태를 바꾼 부분의 프레임은 그 방 락을 쥔 채로 송신 링 슬롯을 예약해 발행한다.
+ *     여러 스레드가 같은 방을 바꿔도 슬롯 예약 순서가 방 상태가 바뀐 순서와 같다. 남은 프레임은 명령이 끝날 때 발행한다.</li>
+ *     <li>송신: 받는 연결 ID 로 파티션을 나눠, 한 연결로 가는 프레임은 항상 같은 스레드가 순서대로 보낸다.</li>
+ * </ul>
+ * 두 링의 슬롯은 미리 만들어 재사용하며, 링이 차면 앞 단계(결국 컨테이너 스레드)가 기다린다.
+ * 타이머나 매칭처럼 핸들러 밖에서 시작된 브로드캐스트도 같은 방식(방 락 안에서 예약)으로 송신 링을 거친다.
+ * 방 락을 기다리는 동안에는 송신 슬롯을 쥐지 않는다 (슬롯을 쥔 채 기다리면 그 뒤 슬롯이 모두 막힌다).
+ */
+@Slf4j
+final class InboundPipeline {
+
+    private static final String THREAD_PREFIX = "pipeline-";
+
+    @FunctionalInterface
+    interface CommandProcessor {
+        void process(WebSocketSession session, WebSocketHandler.CommandReader reader, long receivedAt) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface CloseProcessor {
+        void close(WebSocketSession session) throws IOException;
+    }
+
+    private enum Kind {
+        MESSAGE, CLOSE
+    }
+
+    /**
+     * 수신 링 슬롯. 방 처리 단계에는 파싱 결과를 돌려주는 CommandReader 로 넘긴다.
+     */
+    private static final class InboundEvent implements WebSocketHandler.CommandReader {
+        private Kind kind;
+        private int partition;
+        private WebSocketSession session;
+        private String payload;
+        private PartialMessageReader partial;
+        private long receivedAt;
+        private JsonNode command;
+        private IOException error;
+
+        @Override
+        public JsonNode read() throws IOException {
+            if (error != null) {
+                throw error;
+            }
+            return command;
+        }
+
+        private void clear() {
+            session = null;
+            payload = null;
+            partial = null;
+            command = null;
+            error = null;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final CommandProcessor processor;
+    private final CloseProcessor closer;
+    private final ThreadLocal<OutboundBuffer> currentOutbound;
+
+    private final EventRing<InboundEvent> inboundRing;
+    private final EventRing<OutboundBuffer> outboundRing;
+    private final List<RingStage<InboundEvent>> decoders = new ArrayList<>();
+    private final List<RingStage<InboundEvent>> roomWorkers = new ArrayList<>();
+    private final List<RingStage<OutboundBuffer>> senders = new ArrayList<>();
+    // 방 처리 파티션마다 명령 하나의 프레임을 모으는 버퍼. 그 파티션 스레드만 쓴다
+    private final OutboundBuffer[] workerOutbound;
+
+    InboundPipeline(GameProperties.Pipeline config, ObjectMapper objectMapper, CommandProcessor processor,
+                    CloseProcessor closer, ThreadLocal<OutboundBuffer> currentOutbound) {
+        this.objectMapper = objectMapper;
+        this.processor = processor;
+        this.closer = closer;
+        this.currentOutbound = currentOutbound;
+        this.inboundRing = new EventRing<>(config.getRingSize(), InboundEvent::new);
+        this.outboundRing = new EventRing<>(config.getRingSize(), OutboundBuffer::new);
+
+        int decoderCount = config.getDecoders();
+        for (int i = 0; i < decoderCount; i++) {
+            int decoder = i;
+            decoders.add(new RingStage<>(inboundRing, (event, sequence, endOfBatch) -> {
+                if (sequence % decoderCount == decoder) {
+                    decode(event);
+                }
+            }, config.getMaxBatch()));
+        }
+
+        AtomicLong[] decoded = decoders.stream().map(RingStage::sequence).toArray(AtomicLong[]::new);
+        workerOutbound = new OutboundBuffer[config.getRoomWorkers()];
+        for (int i = 0; i < config.getRoomWorkers(); i++) {
+            workerOutbound[i] = new OutboundBuffer(this);
+            int worker = i;
+            roomWorkers.add(new RingStage<>(inboundRing,
+                    (event, sequence, endOfBatch) -> execute(worker, event), config.getMaxBatch(), decoded));
+        }
+        inboundRing.gateOn(roomWorkers.stream().map(RingStage::sequence).toArray(AtomicLong[]::new));
+
+        int senderCount = config.getSenders();
+        for (int i = 0; i < senderCount; i++) {
+            int sender = i;
+            senders.add(new RingStage<>(outboundRing,
+                    (outbound, sequence, endOfBatch) -> outbound.flush(sender, senderCount), config.getMaxBatch()));
+        }
+        outboundRing.gateOn(senders.stream().map(RingStage::sequence).toArray(AtomicLong[]::new));
+    }
+
+    static int partition(String sessionId, int partitions) {
+        return Math.floorMod(sessionId.hashCode(), partitions);
+    }
+
+    void start() {
+        startAll(senders, "send");
+        startAll(roomWorkers, "room");
+        startAll(decoders, "decode");
+        log.info("수신 파이프라인 시작: 디코드 {}, 방 처리 {}, 송신 {}, 링 {}슬롯",
+                decoders.size(), roomWorkers.size(), senders.size(), inboundRing.size());
+    }
+
+    /**
+     * 새 수신을 막고 이미 받은 메시지를 방 처리 단계까지 끝낸다. 송신 링은 계속 받는다.
+     */
+    void stopInbound() throws InterruptedException {
+        inboundRing.halt();
+        stopAll(decoders);
+        stopAll(roomWorkers);
+    }
+
+    /**
+     * 발행된 송신 슬롯을 다 보낸 뒤 송신 단계를 멈춘다.
+     */
+    void stopOutbound() throws InterruptedException {
+        outboundRing.halt();
+        stopAll(senders);
+    }
+
+    /**
+     * @param payload 한 번에 받은 메시지. 조각으로 받은 메시지면 null
+     * @param partial 조각을 받는 대로 파싱해 둔 메시지. 한 번에 받은 메시지면 null
+     * @param receivedAt 컨테이너 스레드가 받은 시각 (System.nanoTime). 링에서 기다린 시간까지 처리 시간으로 센다
+     * @return 파이프라인이 멈춰 받지 못했으면 false (호출 스레드에서 바로 처리한다)
+     */
+    boolean offer(WebSocketSession session, String payload, PartialMessageReader partial, long receivedAt) {
+        long sequence = claimInbound();
+        if (sequence < 0) {
+            return false;
+        }
+
+        InboundEvent event = inboundRing.get(sequence);
+        event.kind = Kind.MESSAGE;
+        event.partition = partition(session.getId(), roomWorkers.size());
+        event.session = session;
+        event.payload = payload;
+        event.partial = partial;
+        event.receivedAt = receivedAt;
+        inboundRing.publish(sequence);
+        return true;
+    }
+
+    /**
+     * 연결 종료도 같은 파티션을 거쳐, 앞서 받은 명령을 다 처리한 뒤 실행한다.
+     *
+     * @return 받지 못했으면 false (호출 스레드에서 바로 처리한다)
+     */
+    boolean offerClose(WebSocketSession session) {
+        long sequence = isStageThread() ? inboundRing.tryNext() : claimInbound();
+        if (sequence < 0) {
+            // 송신 단계에서 끊긴 연결이 링이 가득 찬 사이에 들어오면 기다리지 않는다 (송신 단계가 막히면 링이 비지 않는다)
+            return false;
+        }
+
+        InboundEvent event = inboundRing.get(sequence);
+        event.kind = Kind.CLOSE;
+        event.partition = partition(session.getId(), roomWorkers.size());
+        event.session = session;
+        inboundRing.publish(sequence);
+        return true;
+    }
+
+    /**
+     * 모아 둔 프레임을 송신 링 슬롯 하나로 옮겨 바로 발행한다. 송신 단계는 예약한 순서대로 보내므로,
+     * 방 상태를 바꾼 쪽은 그 방 락을 쥔 채로 불러야 받는 쪽에서 순서가 뒤집히지 않는다.
+     * 송신 단계 스레드에서 불렀거나 링이 멈췄으면 옮기지 않는다 (호출한 쪽이 직접 보낸다).
+     */
+    void publish(OutboundBuffer frames) {
+        if (isCurrentThreadOf(senders)) {
+            // 송신 단계가 자기 링을 기다리면 링이 비지 않는다
+            return;
+        }
+        long sequence;
+        try {
+            sequence = outboundRing.next();
+        } catch (IllegalStateException e) {
+            return;
+        }
+        frames.moveTo(outboundRing.get(sequence));
+        outboundRing.publish(sequence);
+    }
+
+    private long claimInbound() {
+        try {
+            return inboundRing.next();
+        } catch (IllegalStateException e) {
+            return -1;
+        }
+    }
+
+    private void decode(InboundEvent event) {
+        if (event.kind != Kind.MESSAGE) {
+            return;
+        }
+        try {
+            event.command = event.partial != null ? event.partial.finish() : objectMapper.readTree(event.payload);
+        } catch (IOException e) {
+            event.error = e;
+        }
+    }
+
+    private void execute(int worker, InboundEvent event) throws IOException {
+        if (event.partition != worker) {
+            return;
+        }
+
+        // 송신 슬롯은 미리 잡지 않는다. 잡아 둔 채 방 락을 기다리면, 그 사이 다른 파티션이 같은 방을 바꾸고
+        // 보낸 프레임이 더 뒤 슬롯에 들어가 받는 쪽에서 순서가 뒤집힌다. 방을 바꾼 부분은 핸들러가 방 락 안에서 발행한다.
+        // 이 스레드는 송신 슬롯이 빌 때까지 기다려도 된다 (송신 단계는 방 처리 단계를 기다리지 않는다)
+        OutboundBuffer outbound = workerOutbound[worker];
+        currentOutbound.set(outbound);
+        try {
+            if (event.kind == Kind.MESSAGE) {
+                processor.process(event.session, event, event.receivedAt);
+            } else {
+                closer.close(event.session);
+            }
+        } finally {
+            // 이 슬롯은 이 파티션만 읽으므로 처리한 뒤 바로 놓아 준다
+            event.clear();
+            currentOutbound.remove();
+            outbound.publish();
+            outbound.flush();
+        }
+    }
+
+    private boolean isStageThread() {
+        return isCurrentThreadOf(decoders) || isCurrentThreadOf(roomWorkers) || isCurrentThreadOf(senders);
+    }
+
+    private static <E> boolean isCurrentThreadOf(List<RingStage<E>> stages) {
+        for (RingStage<E> stage : stages) {
+            if (stage.isCurrentThread()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <E> void startAll(List<RingStage<E>> stages, String name) {
+        for (int i = 0; i < stages.size(); i++) {
+            stages.get(i).start(THREAD_PREFIX + name + "-" + i);
+        }
+    }
+
+    private static <E> void stopAll(List<RingStage<E>> stages) throws InterruptedException {
+        for (RingStage<E> stage : stages) {
+            stage.stop();
+        }
+    }
+}
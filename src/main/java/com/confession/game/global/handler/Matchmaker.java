@@ -0,0 +1,266 @@
+package com.confession.game.global.handler;
+
+import com.confession.game.domain.room.service.RoomService;
+import com.confession.game.global.config.GameProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 빠른 매칭 대기열.
+ * <p>
+ * find-match 요청은 락 없는 큐에 넣기만 하고, 매칭 스레드가 tick 마다 대기자를 matchSize 명씩 묶어
+ * RoomService 로 방을 만든다. 만들어진 방은 MatchFoundEvent 로 알린다.
+ */
+@Slf4j
+@Component
+public class Matchmaker {
+
+    private final RoomService roomService;
+    private final GameProperties gameProperties;
+    private final GameProperties.Matchmaking config;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 새로 들어온 요청. 매칭 스레드만 꺼낸다
+    private final Queue<Ticket> incoming = new ConcurrentLinkedQueue<>();
+
+    // sessionId -> 대기 중인 티켓. 취소와 매칭 확정은 이 맵에서의 제거로 경합을 가린다
+    private final Map<String, Ticket> waiting = new ConcurrentHashMap<>();
+
+    // sessionId -> 매칭이 확정되어 방에 들어가는 중인 티켓. 핸들러가 참가 처리를 마치고 release 로 푼다
+    private final Map<String, Ticket> claimed = new ConcurrentHashMap<>();
+
+    // 매칭 스레드 전용. 인원이 모자라 다음 tick 으로 넘긴 대기자
+    private final Deque<Ticket> pending = new ArrayDeque<>();
+
+    private final String roomIdPrefix = "match-" + Long.toString(System.currentTimeMillis(), Character.MAX_RADIX) + "-";
+    private final AtomicLong roomSequence = new AtomicLong();
+    private final LongAdder matchedPlayers = new LongAdder();
+
+    private volatile boolean running;
+    private Thread matcherThread;
+
+    public Matchmaker(RoomService roomService, GameProperties gameProperties, ApplicationEventPublisher eventPublisher) {
+        this.roomService = roomService;
+        this.gameProperties = gameProperties;
+        this.config = gameProperties.getMatchmaking();
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        matcherThread = new Thread(this::matchLoop, "matchmaker");
+        matcherThread.setDaemon(true);
+        matcherThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (matcherThread != null) {
+            LockSupport.unpark(matcherThread);
+            matcherThread.join(TimeUnit.SECONDS.toMillis(1));
+        }
+    }
+
+    /**
+     * @return 이미 대기 중인 세션이면 false
+     */
+    public boolean enqueue(WebSocketSession session, String playerId, String playerName) {
+        Ticket ticket = new Ticket(session, playerId, playerName, System.currentTimeMillis());
+        if (waiting.putIfAbsent(session.getId(), ticket) != null) {
+            return false;
+        }
+
+        incoming.offer(ticket);
+        return true;
+    }
+
+    /**
+     * @return 대기 중이던 요청을 취소했으면 true
+     */
+    public boolean cancel(String sessionId) {
+        return waiting.remove(sessionId) != null;
+    }
+
+    public boolean isWaiting(String sessionId) {
+        return waiting.containsKey(sessionId);
+    }
+
+    /**
+     * 매칭이 확정되어 아직 방 참가 처리가 끝나지 않았으면 true. 이때 cancel 은 false 를 돌려준다.
+     */
+    public boolean isClaimed(String sessionId) {
+        return claimed.containsKey(sessionId);
+    }
+
+    /**
+     * MatchFoundEvent 를 받은 쪽이 티켓의 참가 처리를 마친 뒤 호출한다.
+     */
+    public void release(Ticket ticket) {
+        claimed.remove(ticket.session().getId(), ticket);
+    }
+
+    /**
+     * 대기 중인 티켓을 모두 꺼내 더 이상 매칭되지 않게 한다. 드레인 시작 시 대기자에게 알리기 위해 쓴다.
+     */
+    public List<Ticket> drainWaiting() {
+        List<Ticket> drained = new ArrayList<>(waiting.size());
+        for (Ticket ticket : waiting.values()) {
+            if (waiting.remove(ticket.session().getId(), ticket)) {
+                drained.add(ticket);
+            }
+        }
+        return drained;
+    }
+
+    public int waitingCount() {
+        return waiting.size();
+    }
+
+    public long matchedCount() {
+        return matchedPlayers.sum();
+    }
+
+    private void matchLoop() {
+        long tickNanos = TimeUnit.MILLISECONDS.toNanos(config.getTickMillis());
+        while (running) {
+            LockSupport.parkNanos(tickNanos);
+            try {
+                runMatching(System.currentTimeMillis());
+            } catch (Exception e) {
+                log.error("매칭 처리 중 오류 발생", e);
+            }
+        }
+    }
+
+    /**
+     * 한 tick 분량의 매칭. 매칭 스레드(테스트에서는 호출 스레드) 하나에서만 호출한다.
+     */
+    void runMatching(long now) {
+        Ticket ticket;
+        while ((ticket = incoming.poll()) != null) {
+            pending.addLast(ticket);
+        }
+        pending.removeIf(t -> !isLive(t));
+
+        // 방 인원 한도를 넘겨 일부만 참가하는 일이 없도록 한도 안으로 제한
+        int matchSize = Math.max(2, Math.min(config.getMatchSize(), gameProperties.getRoom().getMaxPlayers()));
+        while (pending.size() >= matchSize) {
+            if (!formRoom(takeClaimed(matchSize))) {
+                return;
+            }
+        }
+
+        // 오래 기다린 대기자가 있으면 최소 인원만으로도 방을 만든다
+        Ticket oldest = pending.peekFirst();
+        if (oldest != null && now - oldest.enqueuedAt() >= config.getMaxWaitMillis()
+                && pending.size() >= Math.max(2, config.getMinSize())) {
+            formRoom(takeClaimed(pending.size()));
+        }
+    }
+
+    private List<Ticket> takeClaimed(int count) {
+        List<Ticket> group = new ArrayList<>(count);
+        Iterator<Ticket> iterator = pending.iterator();
+        while (iterator.hasNext() && group.size() < count) {
+            Ticket ticket = iterator.next();
+            iterator.remove();
+            // 확정 표시를 먼저 남겨, 취소에 실패한 쪽이 언제 보더라도 대기 또는 확정 중 하나로 보이게 한다
+            String sessionId = ticket.session().getId();
+            claimed.put(sessionId, ticket);
+            // 그 사이 취소되었으면 제거에 실패하므로 건너뛴다
+            if (waiting.remove(sessionId, ticket)) {
+                group.add(ticket);
+            } else {
+                claimed.remove(sessionId, ticket);
+            }
+        }
+        return group;
+    }
+
+    /**
+     * @return 방 생성이 거절되어 이번 tick 을 멈춰야 하면 false
+     */
+    private boolean formRoom(List<Ticket> group) {
+        if (group.size() < 2) {
+            requeue(group);
+            return true;
+        }
+
+        String roomId = roomIdPrefix + Long.toString(roomSequence.incrementAndGet(), Character.MAX_RADIX);
+        int joined = 0;
+        try {
+            for (Ticket ticket : group) {
+                roomService.joinRoom(roomId, ticket.playerId(), ticket.playerName(), ticket.session().getId());
+                joined++;
+            }
+        } catch (RuntimeException e) {
+            // 일부만 참가한 방이 남지 않도록 먼저 들어간 플레이어를 빼고, 다음 tick 에 다시 시도
+            log.warn("매칭된 방 생성 실패: {}", e.getMessage());
+            leaveJoined(roomId, group.subList(0, joined));
+            requeue(group);
+            return false;
+        }
+
+        matchedPlayers.add(group.size());
+        eventPublisher.publishEvent(new MatchFoundEvent(roomId, List.copyOf(group)));
+        return true;
+    }
+
+    private void leaveJoined(String roomId, List<Ticket> joined) {
+        for (Ticket ticket : joined) {
+            try {
+                roomService.leaveRoom(roomId, ticket.playerId());
+            } catch (IllegalArgumentException e) {
+                // 방이 이미 삭제된 경우
+            }
+        }
+    }
+
+    private void requeue(List<Ticket> group) {
+        for (int i = group.size() - 1; i >= 0; i--) {
+            Ticket ticket = group.get(i);
+            if (waiting.putIfAbsent(ticket.session().getId(), ticket) == null) {
+                pending.addFirst(ticket);
+            }
+            release(ticket);
+        }
+    }
+
+    private boolean isLive(Ticket ticket) {
+        if (!ticket.session().isOpen()) {
+            waiting.remove(ticket.session().getId(), ticket);
+            return false;
+        }
+        return waiting.get(ticket.session().getId()) == ticket;
+    }
+
+    public record Ticket(WebSocketSession session, String playerId, String playerName, long enqueuedAt) {
+    }
+
+    /**
+     * 매칭으로 방이 만들어졌을 때 발행된다. 티켓의 플레이어는 모두 방에 참가한 상태이며,
+     * 받은 쪽은 각 티켓을 처리한 뒤 {@link #release(Ticket)} 로 확정 표시를 풀어야 한다.
+     */
+    public record MatchFoundEvent(String roomId, List<Ticket> tickets) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.confession.game.global.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 번의 핸들러 호출 동안 세션별로 보낼 프레임을 모아 두었다가 flush 때 내보낸다.
+ * 연결 주소에 coalesce=true 를 붙인 세션(과 배치 요청을 보낸 세션)은 세션당 한 프레임으로,
+ * 프레임이 하나뿐이면 그대로, 여러 개면 {"type":"batch","data":[...]} 로 묶는다.
+ * 나머지 세션에는 모은 순서대로 한 프레임씩 보낸다.
+ * <p>
+ * 호출 스레드 하나에서만 채운다. 파이프라인에서는 호출 스레드가 모은 프레임을 {@link #publish()} 로
+ * 송신 링 슬롯(역시 이 클래스)에 옮겨 발행하고, 송신 단계 스레드들은 슬롯을 읽기만 한다 ({@link #flush(int, int)}).
+ */
+@Slf4j
+final class OutboundBuffer {
+
+    // 이 쿼리를 붙여 연결한 클라이언트만 batch 프레임을 받는다
+    static final String COALESCE_QUERY = "coalesce=true";
+
+    // 송신 링 슬롯으로 옮길 때 슬롯의 빈 맵과 맞바꾼다
+    private Map<String, Pending> pending = new LinkedHashMap<>();
+
+    // 배치 요청을 보낸 세션. 응답이 하나여도 batch 로 감싼다
+    private final Set<String> batchSessionIds = new HashSet<>();
+
+    // 모은 프레임을 송신 링으로 내보낼 파이프라인. null 이면 flush 때 호출 스레드에서 직접 보낸다
+    private final InboundPipeline pipeline;
+
+    OutboundBuffer() {
+        this(null);
+    }
+
+    OutboundBuffer(InboundPipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    void add(WebSocketSession session, String json, TextMessage frame) {
+        pending.computeIfAbsent(session.getId(),
+                id -> new Pending(session, WebSocketHandler.hasQueryFlag(session, COALESCE_QUERY))).add(json, frame);
+    }
+
+    void wrapAlways(String sessionId) {
+        batchSessionIds.add(sessionId);
+    }
+
+    boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    /**
+     * 지금까지 모은 프레임을 송신 링 슬롯 하나로 옮겨 발행한다. 송신 링을 쓰지 않거나 쓸 수 없으면
+     * 그대로 두고 {@link #flush()} 가 직접 보낸다.
+     */
+    void publish() {
+        if (pipeline != null && !pending.isEmpty()) {
+            pipeline.publish(this);
+        }
+    }
+
+    /**
+     * 모은 프레임을 비어 있는 송신 링 슬롯으로 옮긴다. 배치 응답 표시는 남겨 두어 같은 명령의 다음 프레임도 batch 로 감싼다.
+     */
+    void moveTo(OutboundBuffer slot) {
+        Map<String, Pending> frames = pending;
+        pending = slot.pending;
+        pending.clear();
+        slot.pending = frames;
+        slot.batchSessionIds.clear();
+        slot.batchSessionIds.addAll(batchSessionIds);
+    }
+
+    void flush() {
+        for (Map.Entry<String, Pending> entry : pending.entrySet()) {
+            send(entry.getKey(), entry.getValue());
+        }
+        reset();
+    }
+
+    /**
+     * 이 송신 파티션에 속한 세션에만 보낸다. 버퍼는 비우지 않는다 (다른 파티션이 같은 버퍼를 읽는다).
+     */
+    void flush(int partition, int partitions) {
+        for (Map.Entry<String, Pending> entry : pending.entrySet()) {
+            if (InboundPipeline.partition(entry.getKey(), partitions) == partition) {
+                send(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * 다음 호출에 다시 쓰기 전에 비운다.
+     */
+    void reset() {
+        pending.clear();
+        batchSessionIds.clear();
+    }
+
+    private void send(String sessionId, Pending target) {
+        if (!target.session.isOpen()) {
+            return;
+        }
+
+        try {
+            boolean wrap = batchSessionIds.contains(sessionId);
+            if (wrap || target.coalesce) {
+                target.session.sendMessage(target.toMessage(wrap));
+                return;
+            }
+            for (int i = 0; i < target.frames.size(); i++) {
+                target.session.sendMessage(target.frameAt(i));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.warn("메시지 전송 실패: {}", sessionId, e);
+        }
+    }
+
+    static String encodeBatch(List<String> frames) {
+        // 이미 인코딩된 응답을 다시 파싱하지 않고 배열로 이어 붙인다
+        return "{\"type\":\"batch\",\"data\":[" + String.join(",", frames) + "]}";
+    }
+
+    private static final class Pending {
+        private final WebSocketSession session;
+        private final boolean coalesce;
+        private final List<String> frames = new ArrayList<>(2);
+        // 방 전체에 공유되는 인코딩 결과. 없으면 null
+        private final List<TextMessage> encoded = new ArrayList<>(2);
+
+        private Pending(WebSocketSession session, boolean coalesce) {
+            this.session = session;
+            this.coalesce = coalesce;
+        }
+
+        private void add(String json, TextMessage frame) {
+            frames.add(json);
+            encoded.add(frame);
+        }
+
+        private TextMessage frameAt(int index) {
+            TextMessage frame = encoded.get(index);
+            return frame != null ? frame : new TextMessage(frames.get(index));
+        }
+
+        private TextMessage toMessage(boolean wrap) {
+            if (frames.size() == 1 && !wrap) {
+                return frameAt(0);
+            }
+            return new TextMessage(encodeBatch(frames));
+        }
+    }
+}
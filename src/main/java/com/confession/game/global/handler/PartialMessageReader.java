@@ -0,0 +1,129 @@
+package com.confession.game.global.handler;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 조각으로 나뉘어 도착하는 텍스트 메시지를 받는 대로 파싱한다.
+ * <p>
+ * 조각은 논블로킹 파서에 바로 넣고 완성된 토큰만 남기므로 원문 전체를 한 문자열로 모으지 않는다.
+ * 전체 길이가 한도를 넘으면 그때까지 받은 토큰을 버리고, 같은 메시지의 나머지 조각은 읽지 않고 흘려보낸다.
+ * 한 세션의 조각은 컨테이너가 차례로 전달하므로 동기화하지 않는다.
+ */
+final class PartialMessageReader {
+
+    private final ObjectMapper objectMapper;
+    private final int maxChars;
+
+    private JsonParser parser;
+    private ByteArrayFeeder feeder;
+    private TokenBuffer tokens;
+
+    private int receivedChars;
+
+    // 조각 끝에 걸린 서로게이트 쌍의 앞 절반. 다음 조각과 합쳐 인코딩한다
+    private char pendingHighSurrogate;
+
+    private boolean discarding;
+
+    PartialMessageReader(ObjectMapper objectMapper, int maxChars) throws IOException {
+        this.objectMapper = objectMapper;
+        this.maxChars = maxChars;
+        this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.tokens = new TokenBuffer(parser);
+    }
+
+    /**
+     * @return 한도를 넘어 이 메시지를 버리기 시작했으면 false
+     * @throws IOException JSON 형식이 잘못된 경우
+     */
+    boolean append(String fragment) throws IOException {
+        if (discarding) return false;
+
+        receivedChars += fragment.length();
+        if (receivedChars > maxChars) {
+            discard();
+            return false;
+        }
+
+        String text = fragment;
+        if (pendingHighSurrogate != 0) {
+            text = pendingHighSurrogate + text;
+            pendingHighSurrogate = 0;
+        }
+        if (!text.isEmpty() && Character.isHighSurrogate(text.charAt(text.length() - 1))) {
+            pendingHighSurrogate = text.charAt(text.length() - 1);
+            text = text.substring(0, text.length() - 1);
+        }
+
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        feeder.feedInput(bytes, 0, bytes.length);
+        drainTokens();
+        return true;
+    }
+
+    /**
+     * 마지막 조각까지 받은 뒤 명령을 만든다.
+     */
+    JsonNode finish() throws IOException {
+        if (pendingHighSurrogate != 0) {
+            byte[] bytes = String.valueOf(pendingHighSurrogate).getBytes(StandardCharsets.UTF_8);
+            pendingHighSurrogate = 0;
+            feeder.feedInput(bytes, 0, bytes.length);
+            drainTokens();
+        }
+        feeder.endOfInput();
+        drainTokens();
+
+        try (JsonParser buffered = tokens.asParser(objectMapper)) {
+            return objectMapper.readTree(buffered);
+        } finally {
+            discard();
+        }
+    }
+
+    /**
+     * 받은 토큰을 버린다. 이후 조각은 무시된다.
+     */
+    void discard() {
+        discarding = true;
+        tokens = null;
+        if (parser != null) {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // 메모리 입력만 쓰므로 닫을 때 실패할 일이 없다
+            }
+            parser = null;
+            feeder = null;
+        }
+    }
+
+    boolean isDiscarding() {
+        return discarding;
+    }
+
+    int receivedChars() {
+        return receivedChars;
+    }
+
+    private void drainTokens() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+                // 그대로 복사하면 BigDecimal 로 남아 한 번에 파싱한 결과(double)와 달라진다
+                tokens.writeNumber(parser.getDoubleValue());
+            } else {
+                tokens.copyCurrentEvent(parser);
+            }
+        }
+    }
+}
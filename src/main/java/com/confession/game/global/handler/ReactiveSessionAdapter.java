@@ -0,0 +1,258 @@
+package com.confession.game.global.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 리액티브 WebSocket 세션을 기존 핸들러가 쓰는 {@link WebSocketSession} 으로 감싼다.
+ * <p>
+ * sendMessage 는 막히지 않고 연결별 송신 대기열에 넣기만 하며, 대기열은 소켓이 받아 주는 만큼만 빠진다.
+ * 방 브로드캐스트는 수신자 하나가 느리다고 멈출 수 없으므로, 대기열이 outboundCapacity 에 이르면 그 연결을 끊는다.
+ * 대기열이 readPauseFrames 보다 길면 {@link #whenWritable()} 이 기다리게 해서 그 연결의 수신을 멈춘다.
+ */
+@Slf4j
+final class ReactiveSessionAdapter implements WebSocketSession {
+
+    private final org.springframework.web.reactive.socket.WebSocketSession delegate;
+    private final int outboundCapacity;
+    private final int readPauseFrames;
+
+    // 여러 스레드가 보내므로 넣기와 닫기는 this 로 묶는다
+    private final Sinks.Many<String> outbound = Sinks.many().unicast().onBackpressureBuffer();
+    private final AtomicInteger backlog = new AtomicInteger();
+
+    private volatile boolean closed;
+    private volatile CloseStatus closeStatus = CloseStatus.NORMAL;
+
+    // 수신을 멈춘 동안 대기열이 줄기를 기다리는 신호
+    private volatile Sinks.Empty<Void> writable;
+
+    ReactiveSessionAdapter(org.springframework.web.reactive.socket.WebSocketSession delegate,
+                           int outboundCapacity, int readPauseFrames) {
+        this.delegate = delegate;
+        this.outboundCapacity = outboundCapacity;
+        this.readPauseFrames = Math.min(readPauseFrames, outboundCapacity);
+    }
+
+    /**
+     * 소켓으로 내보낼 프레임. 구독자가 요청한 만큼만 대기열에서 빠진다.
+     */
+    Flux<String> frames() {
+        return outbound.asFlux().doOnNext(frame -> onSent());
+    }
+
+    /**
+     * 송신 대기열이 readPauseFrames 이하가 되면 끝나는 Mono.
+     */
+    Mono<Void> whenWritable() {
+        if (backlog.get() <= readPauseFrames || closed) {
+            return Mono.empty();
+        }
+
+        Sinks.Empty<Void> waiter = Sinks.empty();
+        writable = waiter;
+        // 신호를 걸기 전에 대기열이 비었을 수 있다
+        if (backlog.get() <= readPauseFrames || closed) {
+            wake();
+        }
+        return waiter.asMono();
+    }
+
+    int backlog() {
+        return backlog.get();
+    }
+
+    CloseStatus getCloseStatus() {
+        return closeStatus;
+    }
+
+    /**
+     * 상대가 연결을 끊어 더 받을 프레임이 없다. 송신 대기열도 닫는다.
+     */
+    synchronized void inboundClosed() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        outbound.tryEmitComplete();
+        wake();
+    }
+
+    /**
+     * 송신 대기열을 다 보낸 뒤 아직 열려 있으면 기록해 둔 상태로 닫는다.
+     */
+    Mono<Void> closeDelegate() {
+        if (!delegate.isOpen()) {
+            return Mono.empty();
+        }
+        return delegate.close(toReactiveStatus(closeStatus));
+    }
+
+    @Override
+    public String getId() {
+        return delegate.getId();
+    }
+
+    @Override
+    public URI getUri() {
+        return delegate.getHandshakeInfo().getUri();
+    }
+
+    @Override
+    public HttpHeaders getHandshakeHeaders() {
+        return delegate.getHandshakeInfo().getHeaders();
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return delegate.getAttributes();
+    }
+
+    @Override
+    public Principal getPrincipal() {
+        // 리액티브 세션의 Principal 은 Mono 로만 얻을 수 있고, 핸들러는 쓰지 않는다
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return delegate.getHandshakeInfo().getRemoteAddress();
+    }
+
+    @Override
+    public String getAcceptedProtocol() {
+        return delegate.getHandshakeInfo().getSubProtocol();
+    }
+
+    @Override
+    public void setTextMessageSizeLimit(int messageSizeLimit) {
+        // 프레임 크기 한도는 업그레이드 때 정한다 (ReactiveWebConfig)
+    }
+
+    @Override
+    public int getTextMessageSizeLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getBinaryMessageSizeLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public List<WebSocketExtension> getExtensions() {
+        return List.of();
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        if (!(message instanceof TextMessage textMessage)) {
+            throw new IllegalArgumentException("텍스트 메시지만 보낼 수 있습니다.");
+        }
+
+        boolean overflow;
+        synchronized (this) {
+            if (closed) {
+                // 닫힌 연결로 가는 프레임은 받을 곳이 없으므로 버린다
+                return;
+            }
+            overflow = backlog.get() >= outboundCapacity;
+            if (!overflow) {
+                backlog.incrementAndGet();
+                outbound.tryEmitNext(textMessage.getPayload());
+            }
+        }
+
+        if (overflow) {
+            log.warn("송신 대기열 초과로 연결 종료: {} ({}프레임)", getId(), outboundCapacity);
+            abort(CloseStatus.SESSION_NOT_RELIABLE);
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !closed && delegate.isOpen();
+    }
+
+    @Override
+    public void close() {
+        close(CloseStatus.NORMAL);
+    }
+
+    /**
+     * 이미 넣은 프레임을 다 보낸 뒤 닫는다 (closeDelegate).
+     */
+    @Override
+    public void close(CloseStatus status) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            closeStatus = status;
+            outbound.tryEmitComplete();
+        }
+        wake();
+    }
+
+    /**
+     * 대기 중인 프레임을 버리고 바로 닫는다.
+     */
+    private void abort(CloseStatus status) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            closeStatus = status;
+        }
+        // 연결이 끊기면 송신 구독이 취소되면서 대기열에 남은 프레임도 버려진다
+        delegate.close(toReactiveStatus(status)).subscribe();
+        synchronized (this) {
+            outbound.tryEmitComplete();
+        }
+        wake();
+    }
+
+    private void onSent() {
+        if (backlog.decrementAndGet() <= readPauseFrames) {
+            wake();
+        }
+    }
+
+    private void wake() {
+        Sinks.Empty<Void> waiter = writable;
+        if (waiter != null) {
+            writable = null;
+            waiter.tryEmitEmpty();
+        }
+    }
+
+    private static org.springframework.web.reactive.socket.CloseStatus toReactiveStatus(CloseStatus status) {
+        return new org.springframework.web.reactive.socket.CloseStatus(status.getCode(), status.getReason());
+    }
+}
@@ -0,0 +1,71 @@
+package com.confession.game.global.handler;
+
+import com.confession.game.global.config.GameProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import org.springframework.web.socket.TextMessage;
+import reactor.core.publisher.Mono;
+
+/**
+ * reactive 프로필(WebFlux)용 WebSocket 핸들러. 프로토콜 처리는 서블릿 스택과 같은 {@link WebSocketHandler} 에 맡기고,
+ * 연결마다 수신/송신 스트림과 역압만 담당한다.
+ * <ul>
+ *     <li>수신: 한 번에 한 프레임씩 처리하고, 자기 송신 대기열이 밀려 있으면 다음 프레임을 요청하지 않는다.
+ *     요청하지 않은 프레임은 소켓에서 읽지 않으므로 역압이 TCP 로 전달된다.</li>
+ *     <li>송신: 소켓이 받아 주는 만큼만 대기열에서 꺼낸다. 방 브로드캐스트는 기다리지 않고 넣기만 하며,
+ *     대기열이 넘친 연결은 끊는다 ({@link ReactiveSessionAdapter}).</li>
+ * </ul>
+ * 핸들러 호출은 이벤트 루프 스레드에서 바로 실행한다. 방 처리는 메모리 안에서 끝나고 송신은 막히지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveWebSocketHandler implements org.springframework.web.reactive.socket.WebSocketHandler {
+
+    private final WebSocketHandler webSocketHandler;
+    private final GameProperties gameProperties;
+
+    @Override
+    public Mono<Void> handle(WebSocketSession session) {
+        ReactiveSessionAdapter adapter = new ReactiveSessionAdapter(session,
+                gameProperties.getReactive().getOutboundCapacity(),
+                gameProperties.getReactive().getReadPauseFrames());
+        webSocketHandler.afterConnectionEstablished(adapter);
+
+        Mono<Void> input = session.receive()
+                .filter(message -> message.getType() == WebSocketMessage.Type.TEXT)
+                .map(WebSocketMessage::getPayloadAsText)
+                .concatMap(payload -> adapter.whenWritable()
+                        .then(Mono.fromRunnable(() -> dispatch(adapter, payload))), 1)
+                .doFinally(signal -> adapter.inboundClosed())
+                .then();
+
+        Mono<Void> output = session.send(adapter.frames().map(session::textMessage))
+                .then(Mono.defer(adapter::closeDelegate));
+
+        return Mono.when(input, output)
+                .doFinally(signal -> closed(adapter));
+    }
+
+    private void dispatch(ReactiveSessionAdapter adapter, String payload) {
+        try {
+            webSocketHandler.handleMessage(adapter, new TextMessage(payload));
+        } catch (Exception e) {
+            log.error("메시지 처리 중 오류 발생", e);
+        }
+    }
+
+    private void closed(ReactiveSessionAdapter adapter) {
+        adapter.inboundClosed();
+        try {
+            webSocketHandler.afterConnectionClosed(adapter, adapter.getCloseStatus());
+        } catch (Exception e) {
+            log.warn("연결 종료 처리 실패: {}", adapter.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.confession.game.global.handler;
+
+import com.confession.game.domain.game.dto.RoomStateResponse;
+import com.confession.game.domain.room.entity.Room;
+import com.confession.game.domain.room.event.RoomEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 방별로 인코딩된 RoomStateResponse 를 방 revision 과 함께 보관한다.
+ * 방이 바뀌지 않았다면 모든 참가자/관전자가 같은 JSON 을 그대로 공유한다.
+ */
+@Component
+public class RoomSnapshotCache {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, Snapshot> fullSnapshots = new ConcurrentHashMap<>();
+    private final Map<String, Snapshot> publicSnapshots = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 참가자용 방 상태 (고해성사 포함).
+     */
+    public RawValue fullState(Room room) {
+        return new RawValue(encoded(fullSnapshots, room, RoomStateResponse::from));
+    }
+
+    /**
+     * 관전자용 공개 방 상태.
+     */
+    public RawValue publicState(Room room) {
+        return new RawValue(encoded(publicSnapshots, room, RoomStateResponse::publicFrom));
+    }
+
+    @EventListener
+    public void onRoomEvent(RoomEvent event) {
+        if (event.type() == RoomEvent.Type.ROOM_DELETED) {
+            fullSnapshots.remove(event.roomId());
+            publicSnapshots.remove(event.roomId());
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    private String encoded(Map<String, Snapshot> snapshots, Room room, Function<Room, RoomStateResponse> view) {
+        Snapshot cached = snapshots.get(room.getRoomId());
+        // 같은 ID 로 새로 만들어진 방과 구분하기 위해 인스턴스도 비교
+        if (cached != null && cached.room() == room && cached.revision() == room.getRevision()) {
+            hits.increment();
+            return cached.json();
+        }
+
+        misses.increment();
+        Snapshot fresh;
+        // 방 메서드와 같은 락 안에서 만들어 revision 과 내용이 어긋나지 않게 한다
+        synchronized (room) {
+            fresh = new Snapshot(room, room.getRevision(), encode(view.apply(room)));
+        }
+
+        snapshots.merge(room.getRoomId(), fresh,
+                (previous, next) -> previous.room() == next.room() && previous.revision() > next.revision() ? previous : next);
+        return fresh.json();
+    }
+
+    private String encode(RoomStateResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("방 상태 직렬화 실패", e);
+        }
+    }
+
+    private record Snapshot(Room room, long revision, String json) {
+    }
+}
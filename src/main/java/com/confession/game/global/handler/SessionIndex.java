@@ -0,0 +1,144 @@
+package com.confession.game.global.handler;
+
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 연결(세션)과 방 사이의 다대다 참가 관계.
+ * <p>
+ * 한 연결이 여러 방에 플레이어로 참가할 수 있다. 방 단위 팬아웃, (방, 플레이어) → 연결 조회,
+ * (연결, 방) → 참가 정보 조회는 모두 해시 조회로 끝나며 방 전체나 세션 전체를 훑지 않는다.
+ */
+class SessionIndex {
+
+    // sessionId -> roomId -> 참가 정보
+    private final Map<String, Map<String, Membership>> bySession = new ConcurrentHashMap<>();
+
+    // roomId -> playerId -> 참가 정보
+    private final Map<String, Map<String, Membership>> byRoom = new ConcurrentHashMap<>();
+
+    /**
+     * 참가를 등록한다. 같은 플레이어가 다른 연결로 다시 참가하면 이전 연결의 참가 정보는 지운다.
+     */
+    Membership join(WebSocketSession session, String roomId, String playerId) {
+        Membership membership = new Membership(roomId, playerId, session);
+
+        Membership[] replaced = new Membership[1];
+        byRoom.compute(roomId, (key, members) -> {
+            Map<String, Membership> target = members != null ? members : new ConcurrentHashMap<>();
+            replaced[0] = target.put(playerId, membership);
+            return target;
+        });
+        if (replaced[0] != null && !replaced[0].sessionId().equals(session.getId())) {
+            removeFromSession(replaced[0]);
+        }
+
+        Membership[] previous = new Membership[1];
+        bySession.compute(session.getId(), (key, rooms) -> {
+            Map<String, Membership> target = rooms != null ? rooms : new ConcurrentHashMap<>();
+            previous[0] = target.put(roomId, membership);
+            return target;
+        });
+        // 같은 연결이 같은 방에 다른 플레이어로 다시 참가한 경우
+        if (previous[0] != null && !previous[0].playerId().equals(playerId)) {
+            removeFromRoom(previous[0]);
+        }
+        return membership;
+    }
+
+    /**
+     * @return 해당 방에 참가 중이 아니었으면 null
+     */
+    Membership leave(String sessionId, String roomId) {
+        Membership[] removed = new Membership[1];
+        bySession.computeIfPresent(sessionId, (key, rooms) -> {
+            removed[0] = rooms.remove(roomId);
+            return rooms.isEmpty() ? null : rooms;
+        });
+        if (removed[0] != null) {
+            removeFromRoom(removed[0]);
+        }
+        return removed[0];
+    }
+
+    /**
+     * 연결의 모든 참가를 지운다.
+     */
+    List<Membership> leaveAll(String sessionId) {
+        Map<String, Membership> rooms = bySession.remove(sessionId);
+        if (rooms == null) {
+            return List.of();
+        }
+
+        List<Membership> removed = new ArrayList<>(rooms.values());
+        for (Membership membership : removed) {
+            removeFromRoom(membership);
+        }
+        return removed;
+    }
+
+    Membership membership(String sessionId, String roomId) {
+        Map<String, Membership> rooms = bySession.get(sessionId);
+        return rooms == null ? null : rooms.get(roomId);
+    }
+
+    /**
+     * 연결이 참가 중인 방. 반환된 맵은 이후 참가/퇴장을 그대로 반영할 수도, 반영하지 않을 수도 있다.
+     */
+    Map<String, Membership> memberships(String sessionId) {
+        Map<String, Membership> rooms = bySession.get(sessionId);
+        return rooms == null ? Map.of() : rooms;
+    }
+
+    boolean isMember(String sessionId) {
+        return bySession.containsKey(sessionId);
+    }
+
+    Collection<Membership> members(String roomId) {
+        Map<String, Membership> members = byRoom.get(roomId);
+        return members == null ? List.of() : members.values();
+    }
+
+    Membership member(String roomId, String playerId) {
+        Map<String, Membership> members = byRoom.get(roomId);
+        return members == null ? null : members.get(playerId);
+    }
+
+    Set<String> roomIds() {
+        return byRoom.keySet();
+    }
+
+    /**
+     * 하나 이상의 방에 참가 중인 연결 수.
+     */
+    int sessionCount() {
+        return bySession.size();
+    }
+
+    private void removeFromSession(Membership membership) {
+        bySession.computeIfPresent(membership.sessionId(), (key, rooms) -> {
+            rooms.remove(membership.roomId(), membership);
+            return rooms.isEmpty() ? null : rooms;
+        });
+    }
+
+    private void removeFromRoom(Membership membership) {
+        byRoom.computeIfPresent(membership.roomId(), (key, members) -> {
+            members.remove(membership.playerId(), membership);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    record Membership(String roomId, String playerId, WebSocketSession session) {
+
+        String sessionId() {
+            return session.getId();
+        }
+    }
+}
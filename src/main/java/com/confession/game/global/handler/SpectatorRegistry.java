@@ -0,0 +1,160 @@
+package com.confession.game.global.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 관전자 구독 목록. 관전자는 Room 에 Player 로 등록되지 않으므로
+ * 투표 인원이나 대상 선정에 영향을 주지 않고, 방마다 세션 집합 하나만 차지한다.
+ * 다중 방 연결은 addSubscription 으로 여러 방을 동시에 관전할 수 있다.
+ */
+@Slf4j
+@Component
+public class SpectatorRegistry {
+
+    // roomId -> 관전자 세션
+    private final Map<String, Set<WebSocketSession>> roomSpectators = new ConcurrentHashMap<>();
+
+    // sessionId -> 관전 중인 roomId
+    private final Map<String, Set<String>> spectatorRooms = new ConcurrentHashMap<>();
+
+    /**
+     * 이 방만 관전한다. 다른 방 구독은 해제된다.
+     */
+    public void subscribe(String roomId, WebSocketSession session) {
+        for (String previousRoomId : Set.copyOf(roomsOf(session.getId()))) {
+            if (!previousRoomId.equals(roomId)) {
+                unsubscribe(session, previousRoomId);
+            }
+        }
+        addSubscription(roomId, session);
+    }
+
+    /**
+     * 기존 구독을 유지한 채 이 방도 관전한다.
+     */
+    public void addSubscription(String roomId, WebSocketSession session) {
+        spectatorRooms.compute(session.getId(), (key, rooms) -> {
+            Set<String> target = rooms != null ? rooms : ConcurrentHashMap.newKeySet();
+            target.add(roomId);
+            return target;
+        });
+
+        roomSpectators.compute(roomId, (key, spectators) -> {
+            Set<WebSocketSession> target = spectators != null ? spectators : ConcurrentHashMap.newKeySet();
+            target.add(session);
+            return target;
+        });
+    }
+
+    /**
+     * 모든 구독을 해제한다.
+     *
+     * @return 관전 중이던 방
+     */
+    public Set<String> unsubscribe(WebSocketSession session) {
+        Set<String> rooms = spectatorRooms.remove(session.getId());
+        if (rooms == null) {
+            return Set.of();
+        }
+        for (String roomId : rooms) {
+            removeFromRoom(roomId, session);
+        }
+        return rooms;
+    }
+
+    /**
+     * @return 해당 방을 관전 중이었으면 true
+     */
+    public boolean unsubscribe(WebSocketSession session, String roomId) {
+        boolean[] removed = new boolean[1];
+        spectatorRooms.computeIfPresent(session.getId(), (key, rooms) -> {
+            removed[0] = rooms.remove(roomId);
+            return rooms.isEmpty() ? null : rooms;
+        });
+        if (removed[0]) {
+            removeFromRoom(roomId, session);
+        }
+        return removed[0];
+    }
+
+    /**
+     * 방의 관전자 구독을 모두 해제한다. 관전자의 다른 방 구독은 유지된다.
+     *
+     * @return 구독이 해제된 관전자 세션
+     */
+    public Set<WebSocketSession> unsubscribeAll(String roomId) {
+        Set<WebSocketSession> spectators = roomSpectators.remove(roomId);
+        if (spectators == null) {
+            return Set.of();
+        }
+        for (WebSocketSession session : spectators) {
+            spectatorRooms.computeIfPresent(session.getId(), (key, rooms) -> {
+                rooms.remove(roomId);
+                return rooms.isEmpty() ? null : rooms;
+            });
+        }
+        return spectators;
+    }
+
+    public boolean isSpectator(String sessionId) {
+        return spectatorRooms.containsKey(sessionId);
+    }
+
+    public boolean isSpectating(String sessionId, String roomId) {
+        return roomsOf(sessionId).contains(roomId);
+    }
+
+    /**
+     * 관전 중인 연결 수 (여러 방을 관전해도 하나로 센다).
+     */
+    public int totalSpectators() {
+        return spectatorRooms.size();
+    }
+
+    public int countSpectators(String roomId) {
+        Set<WebSocketSession> spectators = roomSpectators.get(roomId);
+        return spectators == null ? 0 : spectators.size();
+    }
+
+    @FunctionalInterface
+    public interface Sender {
+        void send(WebSocketSession session) throws IOException;
+    }
+
+    /**
+     * 열린 관전자 연결마다 sender 로 보낸다. 연결에 직접 쓰지 않고 호출하는 쪽의 송신 경로를 따르므로,
+     * 관전자도 플레이어와 같은 연결별 송신 순서(파이프라인이면 같은 송신 단계)를 지킨다.
+     */
+    public void publish(String roomId, Sender sender) {
+        Set<WebSocketSession> spectators = roomSpectators.get(roomId);
+        if (spectators == null) return;
+
+        for (WebSocketSession session : spectators) {
+            if (!session.isOpen()) continue;
+            try {
+                sender.send(session);
+            } catch (IOException e) {
+                log.warn("관전자 메시지 전송 실패: {}", session.getId());
+            }
+        }
+    }
+
+    private Set<String> roomsOf(String sessionId) {
+        Set<String> rooms = spectatorRooms.get(sessionId);
+        return rooms == null ? Set.of() : rooms;
+    }
+
+    private void removeFromRoom(String roomId, WebSocketSession session) {
+        roomSpectators.computeIfPresent(roomId, (key, spectators) -> {
+            spectators.remove(session);
+            return spectators.isEmpty() ? null : spectators;
+        });
+    }
+}
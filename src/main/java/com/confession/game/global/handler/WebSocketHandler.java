@@ -1,18 +1,31 @@
 package com.confession.game.global.handler;
 
-import com.confession.game.domain.confession.dto.ConfessionDto;
+import com.confession.game.domain.chat.dto.ChatHistoryResponse;
+import com.confession.game.domain.chat.entity.ChatMessage;
 import com.confession.game.domain.confession.entity.Confession;
 import com.confession.game.domain.game.dto.JoinRoomRequest;
-import com.confession.game.domain.game.dto.RoomStateResponse;
 import com.confession.game.domain.player.dto.PlayerDto;
 import com.confession.game.domain.player.entity.Player;
 import com.confession.game.domain.room.entity.Room;
+import com.confession.game.domain.room.event.RoomEvent;
+import com.confession.game.domain.room.event.RoundPhaseEvent;
 import com.confession.game.domain.room.service.RoomService;
+import com.confession.game.global.capture.TrafficRecorder;
+import com.confession.game.global.cluster.RoomBroadcastBus;
+import com.confession.game.global.cluster.RoomFrame;
 import com.confession.game.global.common.BaseResponse;
+import com.confession.game.global.config.GameProperties;
+import com.confession.game.global.exception.AdmissionRejectedException;
+import com.confession.game.global.filter.ContentFilter;
+import com.confession.game.global.handler.SessionIndex.Membership;
+import com.confession.game.global.lifecycle.DrainCoordinator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
@@ -20,7 +33,12 @@ import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
@@ -28,39 +46,293 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class WebSocketHandler extends TextWebSocketHandler {
 
+    private static final int CHAT_HISTORY_PAGE_SIZE = 50;
+    private static final int MAX_BATCH_COMMANDS = 32;
+
+    // 연결 URL 에 이 쿼리가 있으면 한 연결로 여러 방에 참가/관전할 수 있다
+    private static final String MULTIPLEX_QUERY = "multiplex=true";
+
+    /**
+     * 이 속성이 있는 세션(워밍업 등 서버 안에서 만든 가짜 세션)은 파이프라인을 거치지 않고,
+     * handleMessage 를 부른 스레드에서 처리와 송신을 끝낸다. 부른 쪽이 반환 직후 방 상태를 읽을 수 있다.
+     */
+    public static final String DIRECT_SESSION_ATTRIBUTE = "game.direct";
+
+    // 관전자에게도 그대로 전달되는 공개 이벤트 (고해성사 내용, 채팅 제외)
+    private static final Set<String> SPECTATOR_EVENTS = Set.of(
+            "player-list-updated", "game-started", "vote-updated",
+            "vote-complete", "new-target-selected", "game-reset", "phase-changed", "server-draining", "room-closed"
+    );
+
     private final RoomService roomService;
+    private final SpectatorRegistry spectatorRegistry;
+    private final AdmissionController admissionController;
+    private final GameProperties gameProperties;
+    private final ConfessionFrameEncoder confessionFrameEncoder;
+    private final Matchmaker matchmaker;
+    private final RoomSnapshotCache roomSnapshotCache;
+    private final RoomBroadcastBus roomBroadcastBus;
+    private final ContentFilter contentFilter;
+    private final TrafficRecorder trafficRecorder;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    // sessionId -> {roomId, playerId}
-    private final Map<String, SessionInfo> sessions = new ConcurrentHashMap<>();
+    // 연결 <-> 방 참가 관계 (다대다)
+    private final SessionIndex sessionIndex = new SessionIndex();
+
+    // 배치 프레임을 처리 중인 스레드의 참가 정보 캐시
+    private final ThreadLocal<BatchContext> currentBatch = new ThreadLocal<>();
+
+    // 현재 호출에서 세션별로 모은 송신 프레임
+    private final ThreadLocal<OutboundBuffer> currentOutbound = new ThreadLocal<>();
+
+    // sessionId -> 아직 마지막 조각을 받지 못한 메시지
+    private final Map<String, PartialMessageReader> partialMessages = new ConcurrentHashMap<>();
+
+    // 드레인으로 방 상태를 내보낸 뒤에는 연결 종료를 퇴장으로 처리하지 않는다
+    private volatile boolean drained;
+
+    // game.pipeline.enabled 일 때만 만든다. 없거나 멈췄으면 컨테이너 스레드에서 바로 처리한다
+    private volatile InboundPipeline pipeline;
+
+    @PostConstruct
+    public void startPipeline() {
+        if (!gameProperties.getPipeline().isEnabled()) {
+            return;
+        }
+        InboundPipeline created = new InboundPipeline(gameProperties.getPipeline(), objectMapper,
+                this::process, this::closeSession, currentOutbound);
+        created.start();
+        pipeline = created;
+    }
+
+    /**
+     * 받은 메시지를 다 처리하고, 그 응답까지 보낸 뒤 멈춘다.
+     */
+    @PreDestroy
+    public void stopPipeline() throws InterruptedException {
+        InboundPipeline stopping = pipeline;
+        if (stopping == null) {
+            return;
+        }
+        stopping.stopInbound();
+        pipeline = null;
+        stopping.stopOutbound();
+    }
 
-    // roomId -> Set<sessionId>
-    private final Map<String, Map<String, WebSocketSession>> roomSessions = new ConcurrentHashMap<>();
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        // 컨테이너는 이 크기까지만 한 번에 버퍼링하고, 더 긴 메시지는 조각으로 나눠 넘긴다
+        int bufferSize = gameProperties.getInbound().getBufferSize();
+        session.setTextMessageSizeLimit(bufferSize);
+        session.setBinaryMessageSizeLimit(bufferSize);
+        trafficRecorder.opened(session);
+    }
+
+    @Override
+    public boolean supportsPartialMessages() {
+        return true;
+    }
 
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        if (!message.isLast() || partialMessages.containsKey(session.getId())) {
+            handlePartialMessage(session, message);
+            return;
+        }
+
         String payload = message.getPayload();
-        log.debug("받은 메시지: {}", payload);
+        if (log.isDebugEnabled()) {
+            if (gameProperties.getLogging().isLogMessageBodies()) {
+                log.debug("받은 메시지: {}", payload);
+            } else {
+                log.debug("받은 메시지: {}바이트", payload.length());
+            }
+        }
+
+        if (payload.length() > gameProperties.getInbound().getMaxMessageChars()) {
+            sendError(session, messageTooLongError());
+            return;
+        }
+
+        submit(session, payload, null, () -> objectMapper.readTree(payload));
+    }
+
+    /**
+     * 조각난 메시지는 받는 대로 파싱해 두고 마지막 조각을 받으면 실행한다.
+     * 전체 길이가 한도를 넘으면 바로 거절하고 같은 메시지의 나머지 조각은 버린다.
+     */
+    private void handlePartialMessage(WebSocketSession session, TextMessage message) throws Exception {
+        String sessionId = session.getId();
+        PartialMessageReader reader = partialMessages.get(sessionId);
+        if (reader == null) {
+            reader = new PartialMessageReader(objectMapper, gameProperties.getInbound().getMaxMessageChars());
+            partialMessages.put(sessionId, reader);
+        }
+
+        if (!reader.isDiscarding()) {
+            try {
+                if (!reader.append(message.getPayload())) {
+                    log.warn("메시지 길이 초과로 거절: 세션 {}, {}자 이상", sessionId, reader.receivedChars());
+                    sendError(session, messageTooLongError());
+                }
+            } catch (IOException e) {
+                reader.discard();
+                sendError(session, "메시지 처리 실패: " + e.getMessage());
+            }
+        }
+
+        if (!message.isLast()) return;
+
+        partialMessages.remove(sessionId);
+        if (reader.isDiscarding()) return;
+
+        log.debug("받은 메시지: {}바이트 (조각)", reader.receivedChars());
+        submit(session, null, reader, reader::finish);
+    }
+
+    /**
+     * 받은 시점부터 처리 중으로 센다. 파이프라인에서는 링에서 기다린 시간도 처리 시간에 들어가므로,
+     * 방 처리 단계가 밀리면 부하 추정(AdmissionController)에 바로 드러난다.
+     */
+    private void submit(WebSocketSession session, String payload, PartialMessageReader partial,
+                        CommandReader reader) throws IOException {
+        long receivedAt = System.nanoTime();
+        admissionController.begin();
+        if (isDirect(session)) {
+            processDirectly(session, reader, receivedAt);
+            return;
+        }
+        InboundPipeline pipeline = this.pipeline;
+        if (pipeline != null && pipeline.offer(session, payload, partial, receivedAt)) {
+            return;
+        }
+        process(session, reader, receivedAt);
+    }
 
+    /**
+     * 송신 링도 거치지 않도록 호출 스레드의 버퍼에 모아 반환 전에 보낸다.
+     */
+    private void processDirectly(WebSocketSession session, CommandReader reader, long receivedAt) throws IOException {
+        OutboundBuffer outbound = new OutboundBuffer();
+        currentOutbound.set(outbound);
         try {
-            JsonNode jsonNode = objectMapper.readTree(payload);
-            String type = jsonNode.get("type").asText();
-            JsonNode data = jsonNode.get("data");
+            process(session, reader, receivedAt);
+        } finally {
+            currentOutbound.remove();
+            outbound.flush();
+        }
+    }
+
+    /**
+     * @param receivedAt 받은 시각 (System.nanoTime). 호출하는 쪽이 이미 admissionController.begin 을 불렀다
+     */
+    private void process(WebSocketSession session, CommandReader reader, long receivedAt) throws IOException {
+        OutboundBuffer outbound = openOutbound();
+        try {
+            JsonNode jsonNode = reader.read();
+            trafficRecorder.received(session, jsonNode);
+            if (jsonNode.isArray()) {
+                handleBatch(session, jsonNode);
+            } else {
+                dispatch(session, jsonNode);
+            }
+        } catch (Exception e) {
+            log.error("메시지 처리 중 오류 발생", e);
+            sendError(session, "메시지 처리 실패: " + e.getMessage());
+        } finally {
+            closeOutbound(outbound);
+            admissionController.end(System.nanoTime() - receivedAt);
+        }
+    }
+
+    /**
+     * 한 프레임에 담긴 여러 명령을 순서대로 실행하고, 발신자에게 갈 응답을 batch 프레임 하나로 묶어 보낸다.
+     * 앞 명령이 실패해도 나머지 명령은 계속 실행하며, 실패 응답은 해당 위치에 담긴다.
+     */
+    private void handleBatch(WebSocketSession session, JsonNode commands) throws IOException {
+        if (commands.size() > MAX_BATCH_COMMANDS) {
+            sendError(session, "한 번에 보낼 수 있는 명령은 최대 " + MAX_BATCH_COMMANDS + "개입니다.");
+            return;
+        }
+
+        OutboundBuffer outbound = currentOutbound.get();
+        if (outbound != null) {
+            outbound.wrapAlways(session.getId());
+        }
+
+        currentBatch.set(new BatchContext(session.getId()));
+        try {
+            for (JsonNode command : commands) {
+                dispatch(session, command);
+            }
+        } finally {
+            currentBatch.remove();
+        }
+    }
+
+    private void dispatch(WebSocketSession session, JsonNode command) throws IOException {
+        String roomTag = roomTag(command);
+        try {
+            String type = command.get("type").asText();
+            JsonNode data = command.get("data");
 
             switch (type) {
                 case "join-room" -> handleJoinRoom(session, data);
-                case "start-game" -> handleStartGame(session, data);
-                case "send-chat-message" -> handleChatMessage(session, data);
-                case "send-confession" -> handleConfession(session, data);
-                case "send-explanation" -> handleExplanation(session, data);
-                case "vote" -> handleVote(session, data);
-                case "select-next-target" -> handleSelectNextTarget(session, data);
-                case "leave-room" -> handleLeaveRoom(session);
+                case "find-match" -> handleFindMatch(session, data);
+                case "cancel-match" -> handleCancelMatch(session);
+                case "spectate-room" -> handleSpectateRoom(session, data);
+                case "leave-room" -> handleLeaveRoom(session, textOrNull(command, "roomId"));
+                case "start-game", "send-chat-message", "fetch-chat-history", "send-confession",
+                     "send-explanation", "vote", "select-next-target" -> dispatchInRoom(session, type, command, data);
                 default -> sendError(session, "알 수 없는 메시지 타입: " + type);
             }
+        } catch (AdmissionRejectedException e) {
+            sendRejection(session, roomTag, e);
         } catch (Exception e) {
             log.error("메시지 처리 중 오류 발생", e);
-            sendError(session, "메시지 처리 실패: " + e.getMessage());
+            sendError(session, roomTag, "메시지 처리 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 방 안에서 하는 명령. 명령의 roomId 로 참가 정보를 찾고, 없으면 연결이 참가한 유일한 방을 쓴다.
+     */
+    private void dispatchInRoom(WebSocketSession session, String type, JsonNode command, JsonNode data) throws IOException {
+        Map<String, Membership> memberships = memberships(session);
+        String roomId = textOrNull(command, "roomId");
+
+        Membership membership;
+        if (roomId != null) {
+            membership = memberships.get(roomId);
+        } else if (memberships.size() == 1) {
+            membership = memberships.values().iterator().next();
+        } else if (memberships.size() > 1) {
+            sendError(session, "여러 방에 참가 중입니다. roomId 를 지정해 주세요.");
+            return;
+        } else {
+            membership = null;
+        }
+
+        if (membership == null) {
+            sendError(session, roomId, "세션 정보를 찾을 수 없습니다.");
+            return;
+        }
+
+        try {
+            inRoom(membership.roomId(), false, room -> {
+                switch (type) {
+                    case "start-game" -> handleStartGame(session, membership, room);
+                    case "send-chat-message" -> handleChatMessage(session, membership, room, data);
+                    case "fetch-chat-history" -> handleFetchChatHistory(session, membership, data);
+                    case "send-confession" -> handleConfession(session, membership, room, data);
+                    case "send-explanation" -> handleExplanation(session, membership, data);
+                    case "vote" -> handleVote(session, membership, data);
+                    case "select-next-target" -> handleSelectNextTarget(session, membership, room, data);
+                    default -> sendError(session, "알 수 없는 메시지 타입: " + type);
+                }
+            });
+        } catch (IllegalArgumentException e) {
+            sendError(session, membership.roomId(), e.getMessage());
         }
     }
 
@@ -68,271 +340,907 @@ public class WebSocketHandler extends TextWebSocketHandler {
         String roomId = data.get("roomId").asText();
         String playerId = data.get("playerId").asText();
         String playerName = data.get("playerName").asText();
+        boolean multiplexed = isMultiplexed(session);
 
-        Player player = roomService.joinRoom(roomId, playerId, playerName, session.getId());
-        sessions.put(session.getId(), new SessionInfo(roomId, playerId));
+        if (RoomEvent.isSyntheticRoom(roomId) && !isDirect(session)) {
+            // 통계와 저널이 세지 않는 워밍업 방 접두사는 서버 안의 가상 연결만 쓴다
+            sendError(session, roomId, "사용할 수 없는 방 ID 입니다.");
+            return;
+        }
 
-        // 방 세션 목록에 추가
-        roomSessions.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>())
-                .put(session.getId(), session);
+        admissionController.checkNotDraining();
+        if (!sessionIndex.isMember(session.getId())) {
+            admissionController.checkAdmission(activeSessionCount());
+        }
 
-        Room room = roomService.getRoom(roomId);
+        if (!matchmaker.cancel(session.getId()) && !multiplexed && matchmaker.isClaimed(session.getId())) {
+            // 매칭된 방에 들어가는 중이다. 여기서 참가하면 단일 방 연결이 두 방에 들어가게 된다
+            sendError(session, roomId, "이미 매칭된 방에 참가하는 중입니다.");
+            return;
+        }
+        if (multiplexed) {
+            spectatorRegistry.unsubscribe(session, roomId);
+        } else {
+            unsubscribeSpectator(session);
+            // 단일 방 연결은 다른 방에 참가하면 이전 방에서 나간다
+            for (Membership previous : Set.copyOf(memberships(session).values())) {
+                if (!previous.roomId().equals(roomId)) {
+                    sessionIndex.leave(session.getId(), previous.roomId());
+                    leaveMembership(previous);
+                }
+            }
+        }
 
-        // 참가 성공 응답
-        sendToSession(session, BaseResponse.of("join-room-success", Map.of(
-                "player", PlayerDto.from(player),
-                "room", RoomStateResponse.from(room)
-        )));
+        inRoom(roomId, true, room -> {
+            Player player = roomService.joinRoom(roomId, playerId, playerName, session.getId());
+            sessionIndex.join(session, roomId, playerId);
+            invalidateBatchMemberships();
+            refreshSubscription(roomId);
 
-        // 방의 모든 사람에게 플레이어 목록 업데이트
-        broadcastToRoom(roomId, BaseResponse.of("player-list-updated", Map.of(
-                "players", room.getPlayers().values().stream()
-                        .map(PlayerDto::from)
-                        .toList()
+            // 참가 성공 응답
+            sendToSession(session, BaseResponse.of("join-room-success", Map.of(
+                    "player", PlayerDto.from(player),
+                    "room", roomSnapshotCache.fullState(room)
+            )).inRoom(roomId));
+
+            // 방의 모든 사람에게 플레이어 목록 업데이트
+            broadcastPlayerList(roomId, room);
+        });
+    }
+
+    private void handleFindMatch(WebSocketSession session, JsonNode data) throws IOException {
+        if (!isMultiplexed(session) && sessionIndex.isMember(session.getId())) {
+            sendError(session, "이미 방에 참가한 상태입니다.");
+            return;
+        }
+
+        String playerId = data.get("playerId").asText();
+        String playerName = data.get("playerName").asText();
+
+        admissionController.checkNotDraining();
+        if (!isCounted(session)) {
+            admissionController.checkAdmission(activeSessionCount());
+        }
+
+        if (!matchmaker.enqueue(session, playerId, playerName)) {
+            sendError(session, "이미 매칭 대기 중입니다.");
+            return;
+        }
+
+        if (!isMultiplexed(session)) {
+            unsubscribeSpectator(session);
+        }
+        sendToSession(session, BaseResponse.of("match-queued", Map.of(
+                "waiting", matchmaker.waitingCount()
         )));
     }
 
-    private void handleStartGame(WebSocketSession session, JsonNode data) throws IOException {
-        SessionInfo sessionInfo = sessions.get(session.getId());
-        if (sessionInfo == null) {
-            sendError(session, "세션 정보를 찾을 수 없습니다.");
+    private void handleCancelMatch(WebSocketSession session) throws IOException {
+        if (matchmaker.cancel(session.getId())) {
+            sendToSession(session, BaseResponse.of("match-cancelled", Map.of()));
+        }
+    }
+
+    /**
+     * 매칭 스레드가 방을 만든 뒤 호출된다. join-room 과 같은 응답을 각 플레이어에게 보낸다.
+     */
+    @EventListener
+    public void onMatchFound(Matchmaker.MatchFoundEvent event) {
+        String roomId = event.roomId();
+
+        OutboundBuffer outbound = openOutbound();
+        try {
+            // 참가 응답과 목록 알림이 그 사이 같은 방에서 나간 다른 이벤트보다 늦게 예약되지 않도록 방 락 안에서 보낸다
+            inRoom(roomId, false, room -> {
+                for (Matchmaker.Ticket ticket : event.tickets()) {
+                    joinMatched(roomId, ticket);
+                }
+                refreshSubscription(roomId);
+
+                for (Matchmaker.Ticket ticket : event.tickets()) {
+                    Player player = room.getPlayers().get(ticket.playerId());
+                    if (player != null && ticket.session().isOpen()) {
+                        sendToSession(ticket.session(), BaseResponse.of("join-room-success", Map.of(
+                                "player", PlayerDto.from(player),
+                                "room", roomSnapshotCache.fullState(room)
+                        )).inRoom(roomId));
+                    }
+                }
+
+                broadcastPlayerList(roomId, room);
+            });
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("매칭 결과 전송 실패: 방 {}", roomId, e);
+        } finally {
+            // 참가 정보를 남긴 뒤에 풀어야 join-room 이 확정 표시와 참가 정보 중 하나는 보게 된다
+            for (Matchmaker.Ticket ticket : event.tickets()) {
+                matchmaker.release(ticket);
+            }
+            closeOutbound(outbound);
+        }
+    }
+
+    private void joinMatched(String roomId, Matchmaker.Ticket ticket) {
+        WebSocketSession session = ticket.session();
+        try {
+            if (session.isOpen()) {
+                sessionIndex.join(session, roomId, ticket.playerId());
+                if (session.isOpen() || sessionIndex.leave(session.getId(), roomId) == null) {
+                    // 연결 종료 처리가 참가 정보를 이미 가져갔으면 퇴장도 그쪽에서 한다
+                    return;
+                }
+            }
+            // 매칭되는 사이 연결이 끊긴 플레이어는 방에서 바로 뺀다
+            roomService.leaveRoom(roomId, ticket.playerId());
+        } catch (IllegalArgumentException e) {
+            log.warn("방을 찾을 수 없습니다: {}", roomId);
+        }
+    }
+
+    private void handleSpectateRoom(WebSocketSession session, JsonNode data) throws IOException {
+        String roomId = data.get("roomId").asText();
+        boolean multiplexed = isMultiplexed(session);
+
+        if (multiplexed ? sessionIndex.membership(session.getId(), roomId) != null
+                : sessionIndex.isMember(session.getId())) {
+            sendError(session, roomId, "이미 방에 참가한 플레이어는 관전할 수 없습니다.");
             return;
         }
 
         try {
-            roomService.startGame(sessionInfo.roomId);
-            Room room = roomService.getRoom(sessionInfo.roomId);
+            // 현재 상태 응답이 이후 방 이벤트보다 먼저, 이전 이벤트보다 나중에 도착하도록 방 락 안에서 보낸다
+            inRoom(roomId, false, room -> spectate(session, roomId, room, multiplexed));
+        } catch (IllegalArgumentException e) {
+            sendError(session, roomId, e.getMessage());
+        }
+    }
 
-            broadcastToRoom(sessionInfo.roomId, BaseResponse.of("game-started", Map.of(
+    private void spectate(WebSocketSession session, String roomId, Room room, boolean multiplexed) throws IOException {
+        admissionController.checkNotDraining();
+        if (!isCounted(session)) {
+            admissionController.checkAdmission(activeSessionCount());
+        }
+        if (!spectatorRegistry.isSpectating(session.getId(), roomId)
+                && spectatorRegistry.countSpectators(roomId) >= gameProperties.getRoom().getMaxSpectators()) {
+            throw new AdmissionRejectedException(AdmissionRejectedException.Reason.ROOM_FULL,
+                    "관전 인원이 가득 찼습니다.");
+        }
+
+        if (multiplexed) {
+            spectatorRegistry.addSubscription(roomId, session);
+        } else {
+            matchmaker.cancel(session.getId());
+            unsubscribeSpectator(session);
+            spectatorRegistry.subscribe(roomId, session);
+        }
+        refreshSubscription(roomId);
+
+        sendToSession(session, BaseResponse.of("spectate-room-success", Map.of(
+                "room", roomSnapshotCache.publicState(room)
+        )).inRoom(roomId));
+    }
+
+    private void handleStartGame(WebSocketSession session, Membership membership, Room room) throws IOException {
+        String roomId = membership.roomId();
+        try {
+            roomService.startGame(roomId);
+
+            broadcastToRoom(roomId, BaseResponse.of("game-started", Map.of(
                     "target", room.getCurrentTarget(),
                     "targetName", room.getPlayers().get(room.getCurrentTarget()).getName()
             )));
         } catch (IllegalStateException e) {
-            sendError(session, e.getMessage());
+            sendError(session, roomId, e.getMessage());
         }
     }
 
-    private void handleChatMessage(WebSocketSession session, JsonNode data) throws IOException {
-        SessionInfo sessionInfo = sessions.get(session.getId());
-        if (sessionInfo == null) {
-            sendError(session, "세션 정보를 찾을 수 없습니다.");
+    private void handleChatMessage(WebSocketSession session, Membership membership, Room room, JsonNode data)
+            throws IOException {
+        String roomId = membership.roomId();
+        String message;
+        try {
+            message = readText(data, "message");
+        } catch (IllegalArgumentException e) {
+            sendError(session, roomId, e.getMessage());
             return;
         }
+        ChatMessage chatMessage = roomService.sendChatMessage(roomId, membership.playerId(), message);
 
-        String message = data.get("message").asText();
-        Room room = roomService.getRoom(sessionInfo.roomId);
-        Player sender = room.getPlayers().get(sessionInfo.playerId);
-
-        // 대상자를 제외한 모든 플레이어에게 메시지 전송
+        // 대상자를 제외한 모든 플레이어에게 메시지 전송 (한 번만 인코딩)
         String currentTarget = room.getCurrentTarget();
-        Map<String, WebSocketSession> roomSessionMap = roomSessions.get(sessionInfo.roomId);
-
-        if (roomSessionMap != null) {
-            roomSessionMap.forEach((sessionId, webSocketSession) -> {
-                SessionInfo info = sessions.get(sessionId);
-                if (info != null && !info.playerId.equals(currentTarget)) {
-                    try {
-                        sendToSession(webSocketSession, BaseResponse.of("chat-message", Map.of(
-                                "senderId", sender.getId(),
-                                "senderName", sender.getName(),
-                                "message", message,
-                                "timestamp", System.currentTimeMillis()
-                        )));
-                    } catch (IOException e) {
-                        log.error("메시지 전송 실패", e);
-                    }
-                }
-            });
-        }
+        String json = objectMapper.writeValueAsString(BaseResponse.of("chat-message", Map.of(
+                "sequence", chatMessage.getSequence(),
+                "senderId", chatMessage.getSenderId(),
+                "senderName", chatMessage.getSenderName(),
+                "message", chatMessage.getMessage(),
+                "timestamp", chatMessage.getTimestamp()
+        )).inRoom(roomId));
+        RoomFrame frame = RoomFrame.toPlayersExcept(roomId, json, currentTarget);
+        deliverLocally(frame, new TextMessage(json));
+        roomBroadcastBus.publish(frame);
     }
 
-    private void handleConfession(WebSocketSession session, JsonNode data) throws IOException {
-        SessionInfo sessionInfo = sessions.get(session.getId());
-        if (sessionInfo == null) {
-            sendError(session, "세션 정보를 찾을 수 없습니다.");
-            return;
+    private void handleFetchChatHistory(WebSocketSession session, Membership membership, JsonNode data) throws IOException {
+        // before 가 없으면 가장 최근 메시지부터 조회
+        Long before = data != null && data.hasNonNull("before") ? data.get("before").asLong() : null;
+        int limit = data != null && data.hasNonNull("limit") ? data.get("limit").asInt() : CHAT_HISTORY_PAGE_SIZE;
+
+        try {
+            sendToSession(session, BaseResponse.of("chat-history", ChatHistoryResponse.from(
+                    roomService.getChatHistory(membership.roomId(), membership.playerId(), before, limit)))
+                    .inRoom(membership.roomId()));
+        } catch (IllegalArgumentException e) {
+            sendError(session, membership.roomId(), e.getMessage());
         }
+    }
 
-        String message = data.get("message").asText();
+    private void handleConfession(WebSocketSession session, Membership membership, Room room, JsonNode data)
+            throws IOException {
+        String roomId = membership.roomId();
 
         try {
-            Confession confession = roomService.sendConfession(sessionInfo.roomId, sessionInfo.playerId, message);
-            Room room = roomService.getRoom(sessionInfo.roomId);
+            String message = readText(data, "message");
+            Confession confession = roomService.sendConfession(roomId, membership.playerId(), message);
 
             // 발신자에게 전송 완료 알림
             sendToSession(session, BaseResponse.of("confession-sent", Map.of(
                     "confessionId", confession.getId()
-            )));
+            )).inRoom(roomId));
 
-            // 대상자에게만 익명 메시지 전송
-            String targetSessionId = findSessionId(sessionInfo.roomId, room.getCurrentTarget());
-            if (targetSessionId != null) {
-                WebSocketSession targetSession = roomSessions.get(sessionInfo.roomId).get(targetSessionId);
-                if (targetSession != null) {
-                    sendToSession(targetSession, BaseResponse.of("confession-received", ConfessionDto.from(confession)));
+            // 대상자에게만 익명 메시지 전송. 대상자가 다른 노드에 있으면 그 노드로 넘긴다
+            Membership target = sessionIndex.member(roomId, room.getCurrentTarget());
+            if (target != null && target.session().isOpen()) {
+                TextMessage frame = confessionFrameEncoder.encodeReceived(roomId, confession);
+                if (frame != null) {
+                    deliver(target.session(), frame.getPayload(), frame);
+                }
+            } else if (target == null && roomBroadcastBus.isClustered()) {
+                TextMessage frame = confessionFrameEncoder.encodeReceived(roomId, confession);
+                if (frame != null) {
+                    roomBroadcastBus.publish(RoomFrame.toPlayer(roomId, frame.getPayload(), room.getCurrentTarget()));
                 }
             }
         } catch (IllegalArgumentException e) {
-            sendError(session, e.getMessage());
+            sendError(session, roomId, e.getMessage());
         }
     }
 
-    private void handleExplanation(WebSocketSession session, JsonNode data) throws IOException {
-        SessionInfo sessionInfo = sessions.get(session.getId());
-        if (sessionInfo == null) {
-            sendError(session, "세션 정보를 찾을 수 없습니다.");
-            return;
-        }
-
+    private void handleExplanation(WebSocketSession session, Membership membership, JsonNode data) throws IOException {
+        String roomId = membership.roomId();
         String confessionId = data.get("confessionId").asText();
-        String explanation = data.get("explanation").asText();
 
         try {
-            roomService.sendExplanation(sessionInfo.roomId, sessionInfo.playerId, confessionId, explanation);
+            String explanation = readText(data, "explanation");
+            roomService.sendExplanation(roomId, membership.playerId(), confessionId, explanation);
 
-            broadcastToRoom(sessionInfo.roomId, BaseResponse.of("explanation-received", Map.of(
+            broadcastToRoom(roomId, BaseResponse.of("explanation-received", Map.of(
                     "confessionId", confessionId,
                     "explanation", explanation,
                     "timestamp", System.currentTimeMillis()
             )));
+
+            // 관전자에게는 해명 내용 없이 진행 상황만 전달
+            broadcastToSpectators(roomId, BaseResponse.of("explanation-received", Map.of(
+                    "confessionId", confessionId,
+                    "timestamp", System.currentTimeMillis()
+            )));
         } catch (IllegalArgumentException e) {
-            sendError(session, e.getMessage());
+            sendError(session, roomId, e.getMessage());
         }
     }
 
-    private void handleVote(WebSocketSession session, JsonNode data) throws IOException {
-        SessionInfo sessionInfo = sessions.get(session.getId());
-        if (sessionInfo == null) {
-            sendError(session, "세션 정보를 찾을 수 없습니다.");
-            return;
-        }
-
+    private void handleVote(WebSocketSession session, Membership membership, JsonNode data) throws IOException {
+        String roomId = membership.roomId();
         boolean agree = data.get("agree").asBoolean();
 
         try {
-            Room.VoteResult result = roomService.vote(sessionInfo.roomId, sessionInfo.playerId, agree);
+            Room.VoteResult result = roomService.vote(roomId, membership.playerId(), agree);
 
-            broadcastToRoom(sessionInfo.roomId, BaseResponse.of("vote-updated", Map.of(
+            broadcastToRoom(roomId, BaseResponse.of("vote-updated", Map.of(
                     "votes", result.getVotes(),
                     "required", result.getRequired()
             )));
 
             if (result.isComplete()) {
-                broadcastToRoom(sessionInfo.roomId, BaseResponse.of("vote-complete", Map.of(
-                        "allAgree", result.isAllAgree()
-                )));
+                broadcastVoteComplete(roomId, result);
             }
-        } catch (IllegalArgumentException e) {
-            sendError(session, e.getMessage());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            sendError(session, roomId, e.getMessage());
+        }
+    }
+
+    private void handleSelectNextTarget(WebSocketSession session, Membership membership, Room room, JsonNode data)
+            throws IOException {
+        String roomId = membership.roomId();
+        String targetId = data.get("targetId").asText();
+
+        try {
+            roomService.selectNextTarget(roomId, membership.playerId(), targetId);
+            broadcastNewTarget(roomId, room);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            sendError(session, roomId, e.getMessage());
         }
     }
 
-    private void handleSelectNextTarget(WebSocketSession session, JsonNode data) throws IOException {
-        SessionInfo sessionInfo = sessions.get(session.getId());
-        if (sessionInfo == null) {
-            sendError(session, "세션 정보를 찾을 수 없습니다.");
+    /**
+     * roomId 가 있으면 그 방에서만(참가 또는 관전) 나가고, 없으면 모든 방과 매칭 대기에서 나간다.
+     */
+    private void handleLeaveRoom(WebSocketSession session, String roomId) throws IOException {
+        if (roomId == null) {
+            unsubscribeSpectator(session);
+            matchmaker.cancel(session.getId());
+            for (Membership membership : sessionIndex.leaveAll(session.getId())) {
+                leaveMembership(membership);
+            }
+            invalidateBatchMemberships();
             return;
         }
 
-        String targetId = data.get("targetId").asText();
+        Membership membership = sessionIndex.leave(session.getId(), roomId);
+        invalidateBatchMemberships();
+        if (membership == null) {
+            if (spectatorRegistry.unsubscribe(session, roomId)) {
+                refreshSubscription(roomId);
+            }
+            return;
+        }
+        leaveMembership(membership);
+    }
 
+    /**
+     * 이미 참가 목록에서 지운 플레이어를 방에서 내보내고 남은 플레이어에게 알린다.
+     */
+    private void leaveMembership(Membership membership) throws IOException {
+        String roomId = membership.roomId();
+        refreshSubscription(roomId);
         try {
-            roomService.selectNextTarget(sessionInfo.roomId, sessionInfo.playerId, targetId);
-            Room room = roomService.getRoom(sessionInfo.roomId);
+            inRoom(roomId, false, room -> {
+                boolean wasTarget = membership.playerId().equals(room.getCurrentTarget());
 
-            broadcastToRoom(sessionInfo.roomId, BaseResponse.of("new-target-selected", Map.of(
-                    "target", room.getCurrentTarget(),
-                    "targetName", room.getPlayers().get(room.getCurrentTarget()).getName()
-            )));
+                roomService.leaveRoom(roomId, membership.playerId());
+
+                // 남은 플레이어들에게 업데이트 전송
+                if (!room.isEmpty()) {
+                    broadcastPlayerList(roomId, room);
+
+                    if (wasTarget) {
+                        broadcastToRoom(roomId, BaseResponse.of("game-reset", Map.of(
+                                "message", "대상자가 나가서 게임이 초기화되었습니다."
+                        )));
+                    }
+                }
+            });
         } catch (IllegalArgumentException e) {
-            sendError(session, e.getMessage());
+            // 방이 이미 삭제된 경우
+            log.warn("방을 찾을 수 없습니다: {}", roomId);
         }
     }
 
-    private void handleLeaveRoom(WebSocketSession session) throws IOException {
-        SessionInfo sessionInfo = sessions.get(session.getId());
-        if (sessionInfo == null) return;
+    /**
+     * 라운드 단계 변경 알림. 시간 초과로 넘어간 경우에는 정상 진행 때와 같은 이벤트를 먼저 보낸다.
+     * 타이머 만료는 RoomService 가 방 락을 쥔 채 이 이벤트를 발행하므로, 단계 변경과 알림 사이에 같은 방의 다른 변경이 끼어들지 않는다.
+     */
+    @EventListener
+    public void onRoundPhaseChanged(RoundPhaseEvent event) {
+        OutboundBuffer outbound = openOutbound();
+        try {
+            inRoom(event.roomId(), false, room -> {
+                Room.PhaseExpiry expiry = event.expiry();
+                if (expiry != null && expiry.voteResult() != null) {
+                    broadcastVoteComplete(event.roomId(), expiry.voteResult());
+                }
+                if (expiry != null && expiry.expired() == Room.RoundPhase.SELECTION && room.getCurrentTarget() != null) {
+                    broadcastNewTarget(event.roomId(), room);
+                }
 
+                broadcastToRoom(event.roomId(), BaseResponse.of("phase-changed", Map.of(
+                        "phase", event.phase().name().toLowerCase(),
+                        "deadline", event.deadline(),
+                        "timedOut", event.timedOut()
+                )));
+            });
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("라운드 단계 알림 실패: 방 {}", event.roomId(), e);
+        } finally {
+            closeOutbound(outbound);
+        }
+    }
+
+    /**
+     * 마지막 플레이어가 나가는 등으로 방이 삭제되면 남은 관전자에게 알리고 구독을 지운다.
+     * 지우지 않으면 같은 ID 로 새로 만든 방의 이벤트가 이전 관전자에게 간다.
+     */
+    @EventListener
+    public void onRoomEvent(RoomEvent event) {
+        if (event.type() != RoomEvent.Type.ROOM_DELETED) return;
+
+        String roomId = event.roomId();
+        if (spectatorRegistry.countSpectators(roomId) == 0) return;
+
+        OutboundBuffer outbound = openOutbound();
         try {
-            Room room = roomService.getRoom(sessionInfo.roomId);
-            boolean wasTarget = sessionInfo.playerId.equals(room.getCurrentTarget());
+            broadcastLocally(roomId, BaseResponse.of("room-closed", Map.of(
+                    "message", "플레이어가 모두 나가 방이 닫혔습니다."
+            )));
+        } catch (IOException e) {
+            log.warn("방 종료 알림 실패: 방 {}", roomId, e);
+        } finally {
+            closeOutbound(outbound);
+        }
+        spectatorRegistry.unsubscribeAll(roomId);
+        refreshSubscription(roomId);
+    }
 
-            roomService.leaveRoom(sessionInfo.roomId, sessionInfo.playerId);
+    /**
+     * 드레인 시작 알림. 방 참가자, 관전자, 매칭 대기자 모두에게 재접속 시점을 알려 준다.
+     */
+    @EventListener
+    public void onDrainStarted(DrainCoordinator.DrainStartedEvent event) {
+        BaseResponse<?> notice = BaseResponse.of("server-draining", Map.of(
+                "message", "서버가 곧 재시작됩니다. 진행 중인 라운드가 끝나면 연결이 종료됩니다.",
+                "reconnectAfterMillis", event.reconnectAfterMillis(),
+                "deadline", event.deadline()
+        ));
 
-            // 방 세션 목록에서 제거
-            Map<String, WebSocketSession> roomSessionMap = roomSessions.get(sessionInfo.roomId);
-            if (roomSessionMap != null) {
-                roomSessionMap.remove(session.getId());
-                if (roomSessionMap.isEmpty()) {
-                    roomSessions.remove(sessionInfo.roomId);
-                }
+        OutboundBuffer outbound = openOutbound();
+        try {
+            // 드레인은 이 노드만의 일이므로 다른 노드로는 전달하지 않는다
+            for (String roomId : sessionIndex.roomIds()) {
+                broadcastLocally(roomId, notice);
+            }
+            for (Matchmaker.Ticket ticket : matchmaker.drainWaiting()) {
+                sendToSession(ticket.session(), notice);
             }
+        } catch (IOException e) {
+            log.warn("드레인 알림 전송 실패", e);
+        } finally {
+            closeOutbound(outbound);
+        }
+    }
 
-            sessions.remove(session.getId());
+    @EventListener
+    public void onDrainCompleted(DrainCoordinator.DrainCompletedEvent event) {
+        drained = true;
+    }
 
-            // 남은 플레이어들에게 업데이트 전송
-            if (!room.isEmpty()) {
-                Room updatedRoom = roomService.getRoom(sessionInfo.roomId);
-                broadcastToRoom(sessionInfo.roomId, BaseResponse.of("player-list-updated", Map.of(
-                        "players", updatedRoom.getPlayers().values().stream()
-                                .map(PlayerDto::from)
-                                .toList()
-                )));
+    /**
+     * 운영자가 방을 강제로 닫는다. 이 노드의 참가자와 관전자에게 알린 뒤 연결은 유지한 채 방에서 떼어 내고 방을 삭제한다.
+     *
+     * @return 방이 없었으면 false
+     */
+    public boolean closeRoom(String roomId) {
+        Room room;
+        try {
+            room = roomService.getRoom(roomId);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
 
-                if (wasTarget) {
-                    broadcastToRoom(sessionInfo.roomId, BaseResponse.of("game-reset", Map.of(
-                            "message", "대상자가 나가서 게임이 초기화되었습니다."
+        OutboundBuffer outbound = openOutbound();
+        try {
+            // 닫힘 알림이 그 사이 같은 방에서 나간 다른 이벤트보다 먼저 예약되지 않도록 방 락 안에서 보낸다
+            synchronized (room) {
+                if (room.isClosed()) {
+                    return false;
+                }
+                try {
+                    broadcastLocally(roomId, BaseResponse.of("room-closed", Map.of(
+                            "message", "운영자가 방을 닫았습니다."
                     )));
+                } catch (IOException e) {
+                    log.warn("방 종료 알림 전송 실패: {}", roomId, e);
+                }
+
+                for (Membership member : List.copyOf(sessionIndex.members(roomId))) {
+                    sessionIndex.leave(member.sessionId(), roomId);
                 }
+                spectatorRegistry.unsubscribeAll(roomId);
+                refreshSubscription(roomId);
+                boolean closed = roomService.closeRoom(roomId);
+                publishSection();
+                return closed;
             }
-        } catch (IllegalArgumentException e) {
-            // 방이 이미 삭제된 경우
-            log.warn("방을 찾을 수 없습니다: {}", sessionInfo.roomId);
+        } finally {
+            closeOutbound(outbound);
+        }
+    }
+
+    /**
+     * 이 노드에서 방에 참가 중인 연결. 락을 잡지 않고 참가 목록을 그대로 읽는다.
+     */
+    public List<SessionView> describeSessions(String roomId) {
+        List<SessionView> sessions = new ArrayList<>();
+        for (Membership member : sessionIndex.members(roomId)) {
+            PartialMessageReader partial = partialMessages.get(member.sessionId());
+            sessions.add(new SessionView(
+                    member.sessionId(),
+                    member.playerId(),
+                    member.session().isOpen(),
+                    sessionIndex.memberships(member.sessionId()).size(),
+                    partial != null ? partial.receivedChars() : 0
+            ));
         }
+        return sessions;
+    }
+
+    /**
+     * 아직 마지막 조각을 받지 못한 메시지 수.
+     */
+    public int pendingPartialMessages() {
+        return partialMessages.size();
     }
 
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
         log.info("클라이언트 연결 해제: {}", session.getId());
-        handleLeaveRoom(session);
+        trafficRecorder.closed(session);
+        PartialMessageReader partial = partialMessages.remove(session.getId());
+        if (partial != null) {
+            partial.discard();
+        }
+
+        InboundPipeline pipeline = this.pipeline;
+        if (pipeline != null && pipeline.offerClose(session)) {
+            return;
+        }
+        closeSession(session);
+    }
+
+    private void closeSession(WebSocketSession session) throws IOException {
+        if (drained) {
+            // 방 상태는 이미 내보냈으므로 퇴장 처리와 브로드캐스트 없이 로컬 정보만 정리한다
+            forgetSession(session);
+            return;
+        }
+        OutboundBuffer outbound = openOutbound();
+        try {
+            handleLeaveRoom(session, null);
+        } finally {
+            closeOutbound(outbound);
+        }
+    }
+
+    private void forgetSession(WebSocketSession session) {
+        unsubscribeSpectator(session);
+        matchmaker.cancel(session.getId());
+        for (Membership membership : sessionIndex.leaveAll(session.getId())) {
+            refreshSubscription(membership.roomId());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 방 이벤트를 이 노드의 연결에 전달한다.
+     */
+    @EventListener
+    public void onRemoteFrame(RoomFrame frame) {
+        OutboundBuffer outbound = openOutbound();
+        try {
+            deliverLocally(frame, new TextMessage(frame.json()));
+        } finally {
+            closeOutbound(outbound);
+        }
+    }
+
+    /**
+     * 송신 프레임을 모으기 시작한다. 이미 바깥 호출이 모으고 있으면 null 을 반환하고 그 호출이 내보낸다.
+     * 파이프라인이 켜져 있으면 모은 프레임을 송신 링으로 넘겨 송신 단계가 보내게 한다.
+     */
+    private OutboundBuffer openOutbound() {
+        if (currentOutbound.get() != null) {
+            return null;
+        }
+        OutboundBuffer outbound = new OutboundBuffer(pipeline);
+        currentOutbound.set(outbound);
+        return outbound;
+    }
+
+    private void closeOutbound(OutboundBuffer outbound) {
+        if (outbound == null) {
+            return;
+        }
+        currentOutbound.remove();
+        outbound.publish();
+        outbound.flush();
+    }
+
+    @FunctionalInterface
+    private interface RoomSection {
+        void run(Room room) throws IOException;
+    }
+
+    /**
+     * 방 상태 변경과 그 알림을 방 락 안에서 실행하고, 파이프라인이면 락을 놓기 전에 모은 프레임을 송신 링에 발행한다.
+     * 송신 링 예약 순서가 방 상태가 바뀐 순서와 같아져, 여러 방 처리 스레드가 같은 방을 바꿔도 받는 쪽 순서가 뒤집히지 않는다.
+     * 파이프라인이 아니면 락만 잡고, 프레임은 지금처럼 호출이 끝날 때 보낸다.
+     *
+     * @param create 방이 없으면 만든다 (join-room)
+     */
+    private void inRoom(String roomId, boolean create, RoomSection section) throws IOException {
+        while (true) {
+            Room room = create ? roomService.getOrCreateRoom(roomId) : room(roomId);
+            synchronized (room) {
+                if (room.isClosed()) {
+                    // 삭제되는 중인 방. 저장소에서 치워진 뒤 다시 찾는다
+                    Thread.onSpinWait();
+                    continue;
+                }
+                section.run(room);
+                publishSection();
+                return;
+            }
+        }
+    }
+
+    private void publishSection() {
+        OutboundBuffer outbound = currentOutbound.get();
+        if (outbound != null) {
+            outbound.publish();
+        }
+    }
+
+    /**
+     * 호출 중이면 세션별 버퍼에 모으고, 그렇지 않으면 바로 보낸다.
+     * 파이프라인이 켜져 있으면 단건도 송신 링을 거쳐, 한 연결로 가는 프레임을 송신 단계 하나가 순서대로 보낸다.
+     */
+    private void deliver(WebSocketSession session, String json, TextMessage frame) throws IOException {
+        OutboundBuffer outbound = currentOutbound.get();
+        if (outbound != null) {
+            outbound.add(session, json, frame);
+        } else if (pipeline != null) {
+            OutboundBuffer single = openOutbound();
+            try {
+                single.add(session, json, frame);
+            } finally {
+                closeOutbound(single);
+            }
+        } else {
+            session.sendMessage(frame != null ? frame : new TextMessage(json));
+        }
     }
 
     private void sendToSession(WebSocketSession session, BaseResponse<?> response) throws IOException {
         if (session.isOpen()) {
-            String json = objectMapper.writeValueAsString(response);
-            session.sendMessage(new TextMessage(json));
+            deliver(session, objectMapper.writeValueAsString(response), null);
         }
     }
 
+    /**
+     * 배치 안에서는 참가 정보를 한 번만 조회하고 이후 명령은 재사용한다.
+     */
+    private Map<String, Membership> memberships(WebSocketSession session) {
+        BatchContext batch = currentBatch.get();
+        if (batch == null || !batch.sessionId.equals(session.getId())) {
+            return sessionIndex.memberships(session.getId());
+        }
+
+        if (batch.memberships == null) {
+            batch.memberships = sessionIndex.memberships(session.getId());
+        }
+        return batch.memberships;
+    }
+
+    /**
+     * 배치 안에서는 방을 한 번만 조회하고 이후 명령은 재사용한다.
+     * 그 사이 방이 닫혔으면(마지막 플레이어 퇴장, 강제 종료) 저장소에서 다시 찾는다.
+     */
+    private Room room(String roomId) {
+        BatchContext batch = currentBatch.get();
+        if (batch == null) {
+            return roomService.getRoom(roomId);
+        }
+
+        Room room = batch.rooms.get(roomId);
+        if (room == null || room.isClosed()) {
+            room = roomService.getRoom(roomId);
+            batch.rooms.put(roomId, room);
+        }
+        return room;
+    }
+
+    private void invalidateBatchMemberships() {
+        BatchContext batch = currentBatch.get();
+        if (batch != null) {
+            batch.memberships = null;
+        }
+    }
+
+    /**
+     * 이 노드의 방 연결에 보내고, 같은 프레임을 다른 노드에도 한 번 발행한다.
+     */
     private void broadcastToRoom(String roomId, BaseResponse<?> response) throws IOException {
-        Map<String, WebSocketSession> roomSessionMap = roomSessions.get(roomId);
-        if (roomSessionMap != null) {
-            String json = objectMapper.writeValueAsString(response);
-            for (WebSocketSession session : roomSessionMap.values()) {
-                if (session.isOpen()) {
-                    session.sendMessage(new TextMessage(json));
+        RoomFrame frame = broadcastLocally(roomId, response);
+        if (frame != null) {
+            roomBroadcastBus.publish(frame);
+        }
+    }
+
+    /**
+     * @return 인코딩한 프레임. 받을 곳이 없어 인코딩하지 않았으면 null
+     */
+    private RoomFrame broadcastLocally(String roomId, BaseResponse<?> response) throws IOException {
+        boolean withSpectators = SPECTATOR_EVENTS.contains(response.getType());
+        boolean toPlayers = !sessionIndex.members(roomId).isEmpty();
+        boolean toSpectators = withSpectators && spectatorRegistry.countSpectators(roomId) > 0;
+        if (!toPlayers && !toSpectators && !roomBroadcastBus.isClustered()) return null;
+
+        // 한 번만 인코딩하고 같은 프레임을 모든 수신자가 공유
+        String json = objectMapper.writeValueAsString(response.inRoom(roomId));
+        RoomFrame frame = RoomFrame.toRoom(roomId, json, withSpectators);
+        deliverLocally(frame, new TextMessage(json));
+        return frame;
+    }
+
+    /**
+     * 이미 인코딩된 방 프레임을 이 노드의 수신 대상 연결에 보낸다.
+     */
+    private void deliverLocally(RoomFrame frame, TextMessage textMessage) {
+        String roomId = frame.roomId();
+        if (frame.toPlayers()) {
+            for (Membership member : sessionIndex.members(roomId)) {
+                if (!frame.includes(member.playerId()) || !member.session().isOpen()) continue;
+                try {
+                    deliver(member.session(), frame.json(), textMessage);
+                } catch (IOException e) {
+                    log.error("메시지 전송 실패", e);
                 }
             }
         }
+
+        if (frame.toSpectators() && spectatorRegistry.countSpectators(roomId) > 0) {
+            spectatorRegistry.publish(roomId, spectator -> deliver(spectator, frame.json(), textMessage));
+        }
+    }
+
+    private void broadcastPlayerList(String roomId, Room room) throws IOException {
+        broadcastToRoom(roomId, BaseResponse.of("player-list-updated", Map.of(
+                "players", room.getPlayers().values().stream()
+                        .map(PlayerDto::from)
+                        .toList()
+        )));
+    }
+
+    private void broadcastVoteComplete(String roomId, Room.VoteResult result) throws IOException {
+        broadcastToRoom(roomId, BaseResponse.of("vote-complete", Map.of(
+                "allAgree", result.isAllAgree()
+        )));
+    }
+
+    private void broadcastNewTarget(String roomId, Room room) throws IOException {
+        broadcastToRoom(roomId, BaseResponse.of("new-target-selected", Map.of(
+                "target", room.getCurrentTarget(),
+                "targetName", room.getPlayers().get(room.getCurrentTarget()).getName()
+        )));
+    }
+
+    private void broadcastToSpectators(String roomId, BaseResponse<?> response) throws IOException {
+        if (spectatorRegistry.countSpectators(roomId) == 0 && !roomBroadcastBus.isClustered()) return;
+
+        String json = objectMapper.writeValueAsString(response.inRoom(roomId));
+        RoomFrame frame = RoomFrame.toSpectators(roomId, json);
+        deliverLocally(frame, new TextMessage(json));
+        roomBroadcastBus.publish(frame);
+    }
+
+    private void unsubscribeSpectator(WebSocketSession session) {
+        for (String roomId : spectatorRegistry.unsubscribe(session)) {
+            refreshSubscription(roomId);
+        }
+    }
+
+    /**
+     * 이 노드에 방의 연결(플레이어 또는 관전자)이 남아 있을 때만 버스에서 그 방을 구독한다.
+     */
+    private void refreshSubscription(String roomId) {
+        if (!roomBroadcastBus.isClustered()) return;
+        roomBroadcastBus.refresh(roomId, () -> !sessionIndex.members(roomId).isEmpty()
+                || spectatorRegistry.countSpectators(roomId) > 0);
     }
 
     private void sendError(WebSocketSession session, String message) throws IOException {
         sendToSession(session, BaseResponse.error(message));
     }
 
-    private String findSessionId(String roomId, String playerId) {
-        Map<String, WebSocketSession> roomSessionMap = roomSessions.get(roomId);
-        if (roomSessionMap == null) return null;
+    private void sendError(WebSocketSession session, String roomId, String message) throws IOException {
+        sendToSession(session, BaseResponse.error(message).inRoom(roomId));
+    }
+
+    private void sendRejection(WebSocketSession session, String roomId, AdmissionRejectedException e) throws IOException {
+        sendToSession(session, BaseResponse.of(e.getReason().getType(), Map.of(
+                "message", e.getMessage(),
+                "retryAfterMillis", admissionController.retryAfterMillis()
+        )).inRoom(roomId));
+    }
+
+    /**
+     * 참가, 관전, 매칭 대기 중 하나라도 하고 있어 이미 동시 세션 수에 포함된 연결인지.
+     */
+    private boolean isCounted(WebSocketSession session) {
+        return sessionIndex.isMember(session.getId())
+                || spectatorRegistry.isSpectator(session.getId())
+                || matchmaker.isWaiting(session.getId());
+    }
+
+    private int activeSessionCount() {
+        return sessionIndex.sessionCount() + spectatorRegistry.totalSpectators() + matchmaker.waitingCount();
+    }
+
+    private boolean isMultiplexed(WebSocketSession session) {
+        return hasQueryFlag(session, MULTIPLEX_QUERY);
+    }
+
+    /**
+     * 워밍업처럼 서버 안에서 만든 가상 연결. 속성은 서버만 넣을 수 있다.
+     */
+    private static boolean isDirect(WebSocketSession session) {
+        return session.getAttributes().containsKey(DIRECT_SESSION_ATTRIBUTE);
+    }
+
+    /**
+     * 연결 URL 쿼리에 flag(예: multiplex=true)가 그대로 들어 있는지.
+     */
+    static boolean hasQueryFlag(WebSocketSession session, String flag) {
+        URI uri = session.getUri();
+        String query = uri != null ? uri.getQuery() : null;
+        if (query == null) {
+            return false;
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.equals(flag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 채팅, 고해성사, 해명 본문. 길이 한도를 확인하고 금지어 필터를 거친다.
+     */
+    private String readText(JsonNode data, String field) {
+        String text = data.get(field).asText();
+        int maxChars = gameProperties.getInbound().getMaxTextChars();
+        if (text.length() > maxChars) {
+            throw new IllegalArgumentException("내용은 최대 " + maxChars + "자까지 보낼 수 있습니다.");
+        }
+        return contentFilter.apply(text);
+    }
 
-        return roomSessionMap.keySet().stream()
-                .filter(sessionId -> {
-                    SessionInfo info = sessions.get(sessionId);
-                    return info != null && info.playerId.equals(playerId);
-                })
-                .findFirst()
-                .orElse(null);
+    private String messageTooLongError() {
+        return "메시지가 너무 깁니다. 최대 " + gameProperties.getInbound().getMaxMessageChars() + "자까지 보낼 수 있습니다.";
     }
 
-    private record SessionInfo(String roomId, String playerId) {
+    /**
+     * 명령이 가리키는 방. 방 안 명령은 최상위 roomId, 참가/관전 요청은 data.roomId.
+     */
+    private static String roomTag(JsonNode command) {
+        String roomId = textOrNull(command, "roomId");
+        return roomId != null ? roomId : textOrNull(command.get("data"), "roomId");
+    }
+
+    private static String textOrNull(JsonNode node, String field) {
+        return node != null && node.hasNonNull(field) ? node.get(field).asText() : null;
+    }
+
+    @FunctionalInterface
+    interface CommandReader {
+        JsonNode read() throws IOException;
+    }
+
+    /**
+     * 운영 조회용 연결 정보.
+     *
+     * @param roomCount 이 연결이 참가 중인 방 수
+     * @param pendingFragmentChars 조립 중인 조각 메시지의 지금까지 받은 길이
+     */
+    public record SessionView(String sessionId, String playerId, boolean open, int roomCount, int pendingFragmentChars) {
+    }
+
+    private static final class BatchContext {
+        private final String sessionId;
+        private final Map<String, Room> rooms = new HashMap<>();
+        private Map<String, Membership> memberships;
+
+        private BatchContext(String sessionId) {
+            this.sessionId = sessionId;
+        }
     }
-}
\ No newline at end of file
+}
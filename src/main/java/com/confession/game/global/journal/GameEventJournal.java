@@ -0,0 +1,166 @@
+package com.confession.game.global.journal;
+
+import com.confession.game.domain.room.event.RoomEvent;
+import com.confession.game.global.config.GameProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * RoomEvent 를 락 없는 큐에 받아 두고, 백그라운드 스레드가 배치로 파일에 기록한다.
+ * 게임 스레드는 큐에 넣기만 하며, 큐가 가득 차면 설정된 정책에 따라 이벤트를 버린다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "game.journal", name = "enabled", havingValue = "true")
+public class GameEventJournal {
+
+    private final GameProperties.Journal config;
+    private final JournalFileWriter fileWriter;
+
+    private final Queue<RoomEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public GameEventJournal(GameProperties gameProperties) {
+        this.config = gameProperties.getJournal();
+        ObjectMapper objectMapper = new ObjectMapper()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.fileWriter = new JournalFileWriter(Path.of(config.getDirectory()), config.getFormat(),
+                config.getMaxFileBytes(), objectMapper);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::writeLoop, "game-event-journal");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            LockSupport.unpark(writerThread);
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    @EventListener
+    public void onRoomEvent(RoomEvent event) {
+        if (RoomEvent.isSyntheticRoom(event.roomId())) {
+            // 워밍업 라운드는 기록하지 않는다
+            return;
+        }
+        append(event);
+    }
+
+    /**
+     * @return 큐가 가득 차 이벤트를 버렸으면 false
+     */
+    public boolean append(RoomEvent event) {
+        if (!reserveSlot()) {
+            dropped.increment();
+            return false;
+        }
+
+        queue.offer(event);
+        return true;
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public long writtenCount() {
+        return written.sum();
+    }
+
+    public int queuedCount() {
+        return queued.get();
+    }
+
+    private boolean reserveSlot() {
+        long deadline = 0;
+        while (true) {
+            int current = queued.get();
+            if (current < config.getQueueCapacity()) {
+                if (queued.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+                continue;
+            }
+
+            if (config.getOverflowPolicy() == GameProperties.Journal.OverflowPolicy.DROP) {
+                return false;
+            }
+
+            long now = System.nanoTime();
+            if (deadline == 0) {
+                deadline = now + TimeUnit.MILLISECONDS.toNanos(config.getBlockTimeoutMillis());
+            } else if (now >= deadline) {
+                return false;
+            }
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+        }
+    }
+
+    private void writeLoop() {
+        List<RoomEvent> batch = new ArrayList<>(config.getBatchSize());
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(config.getFlushIntervalMillis());
+
+        while (running || !queue.isEmpty()) {
+            RoomEvent event;
+            while (batch.size() < config.getBatchSize() && (event = queue.poll()) != null) {
+                batch.add(event);
+            }
+
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(flushIntervalNanos);
+                continue;
+            }
+
+            try {
+                fileWriter.write(batch);
+                written.add(batch.size());
+            } catch (IOException e) {
+                dropped.add(batch.size());
+                log.error("이벤트 저널 기록 실패 ({}건 유실)", batch.size(), e);
+            }
+            queued.addAndGet(-batch.size());
+
+            boolean partial = batch.size() < config.getBatchSize();
+            batch.clear();
+            if (partial && running) {
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+        }
+
+        try {
+            fileWriter.close();
+        } catch (IOException e) {
+            log.error("이벤트 저널 파일 닫기 실패", e);
+        }
+    }
+}
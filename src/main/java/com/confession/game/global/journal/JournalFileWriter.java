@@ -0,0 +1,109 @@
+package com.confession.game.global.journal;
+
+import com.confession.game.domain.room.event.RoomEvent;
+import com.confession.game.global.config.GameProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 이벤트 배치를 로컬 파일에 기록한다. 파일이 maxFileBytes 를 넘으면 새 파일로 교체한다.
+ * <ul>
+ *     <li>NDJSON: 한 줄에 이벤트 하나</li>
+ *     <li>BINARY: [int 길이][페이로드] 프레임의 연속</li>
+ * </ul>
+ */
+class JournalFileWriter implements Closeable {
+
+    private final Path directory;
+    private final GameProperties.Journal.Format format;
+    private final long maxFileBytes;
+    private final ObjectMapper objectMapper;
+
+    private OutputStream out;
+    private long fileBytes;
+    private int fileSequence;
+
+    JournalFileWriter(Path directory, GameProperties.Journal.Format format, long maxFileBytes, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.format = format;
+        this.maxFileBytes = maxFileBytes;
+        this.objectMapper = objectMapper;
+    }
+
+    void write(List<RoomEvent> batch) throws IOException {
+        for (RoomEvent event : batch) {
+            byte[] record = encode(event);
+            if (out == null || (fileBytes > 0 && fileBytes + record.length > maxFileBytes)) {
+                rotate();
+            }
+            out.write(record);
+            fileBytes += record.length;
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    private void rotate() throws IOException {
+        close();
+        Files.createDirectories(directory);
+
+        String extension = format == GameProperties.Journal.Format.NDJSON ? "ndjson" : "bin";
+        Path file = directory.resolve("events-%d-%04d.%s".formatted(System.currentTimeMillis(), fileSequence++, extension));
+        out = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024);
+        fileBytes = 0;
+    }
+
+    private byte[] encode(RoomEvent event) throws IOException {
+        if (format == GameProperties.Journal.Format.NDJSON) {
+            byte[] json = objectMapper.writeValueAsBytes(event);
+            byte[] line = new byte[json.length + 1];
+            System.arraycopy(json, 0, line, 0, json.length);
+            line[json.length] = '\n';
+            return line;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+        DataOutputStream data = new DataOutputStream(buffer);
+        data.writeInt(0); // 길이 자리
+        data.writeByte(event.type().ordinal());
+        data.writeLong(event.timestamp());
+        writeNullable(data, event.roomId());
+        writeNullable(data, event.playerId());
+        writeNullable(data, event.targetId());
+        writeNullable(data, event.confessionId());
+        data.writeByte(event.agree() == null ? -1 : (event.agree() ? 1 : 0));
+        data.writeInt(event.length() == null ? -1 : event.length());
+        data.flush();
+
+        byte[] frame = buffer.toByteArray();
+        int payloadLength = frame.length - Integer.BYTES;
+        frame[0] = (byte) (payloadLength >>> 24);
+        frame[1] = (byte) (payloadLength >>> 16);
+        frame[2] = (byte) (payloadLength >>> 8);
+        frame[3] = (byte) payloadLength;
+        return frame;
+    }
+
+    private static void writeNullable(DataOutputStream data, String value) throws IOException {
+        data.writeBoolean(value != null);
+        if (value != null) {
+            data.writeUTF(value);
+        }
+    }
+}
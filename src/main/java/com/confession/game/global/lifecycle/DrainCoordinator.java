@@ -0,0 +1,223 @@
+package com.confession.game.global.lifecycle;
+
+import com.confession.game.domain.room.entity.Room;
+import com.confession.game.domain.room.repository.RoomRepository;
+import com.confession.game.domain.room.service.RoomService;
+import com.confession.game.global.config.GameProperties;
+import com.confession.game.global.handler.AdmissionController;
+import com.confession.game.global.timer.HashedWheelTimer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 무중단 배포를 위한 드레인.
+ * <p>
+ * 종료 시 웹 서버보다 먼저 멈추도록 가장 높은 phase 로 등록된다. 신규 참가를 막고 클라이언트에 재접속 시점을 알린 뒤,
+ * 진행 중인 라운드가 끝나기를 (최대 timeoutSeconds) 기다렸다가 방 상태를 파일로 내보낸다.
+ * 기다리는 동안 새 라운드는 시작되지 않으므로, 경계에 닿은 방은 그 자리에 머문다.
+ * 다음 프로세스는 시작할 때 그 파일로 방을 복원하고, 플레이어가 재접속하면 같은 방에 다시 연결된다.
+ * <p>
+ * 기본으로 꺼져 있다 (game.drain.enabled). 복원도 game.drain.restore-on-startup 을 따로 켜야 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "game.drain", name = "enabled", havingValue = "true")
+public class DrainCoordinator implements SmartLifecycle {
+
+    private final RoomRepository roomRepository;
+    private final RoomService roomService;
+    private final AdmissionController admissionController;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HashedWheelTimer roundTimer;
+    private final GameProperties.Drain config;
+    private final RoomStateExporter exporter;
+
+    private volatile boolean running;
+    private volatile DrainReport lastReport;
+
+    public DrainCoordinator(RoomRepository roomRepository, RoomService roomService, AdmissionController admissionController,
+                            GameProperties gameProperties, ApplicationEventPublisher eventPublisher,
+                            HashedWheelTimer roundTimer) {
+        this.roomRepository = roomRepository;
+        this.roomService = roomService;
+        this.admissionController = admissionController;
+        this.eventPublisher = eventPublisher;
+        this.roundTimer = roundTimer;
+        this.config = gameProperties.getDrain();
+        this.exporter = new RoomStateExporter(Path.of(config.getExportFile()), new ObjectMapper());
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (config.isRestoreOnStartup()) {
+            restore();
+        }
+    }
+
+    @Override
+    public void stop() {
+        drain();
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        // 라운드 종료를 기다리는 동안 다른 빈의 종료 처리를 막지 않도록 별도 스레드에서 진행
+        Thread drainThread = new Thread(() -> {
+            try {
+                drain();
+            } finally {
+                callback.run();
+            }
+        }, "drain");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // 가장 늦게 시작하고 가장 먼저 멈춘다 (웹 서버의 graceful shutdown 보다 앞)
+        return Integer.MAX_VALUE;
+    }
+
+    public DrainReport lastReport() {
+        return lastReport;
+    }
+
+    /**
+     * 드레인을 한 번 수행한다. 이미 끝났으면 이전 결과를 돌려준다.
+     */
+    public synchronized DrainReport drain() {
+        if (lastReport != null) {
+            return lastReport;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long deadline = startedAt + TimeUnit.SECONDS.toMillis(config.getTimeoutSeconds());
+
+        // 라운드 경계에 닿은 방이 다시 라운드를 시작하면 모든 방이 동시에 경계에 있는 순간이 오지 않는다
+        roomService.freezeRounds();
+        admissionController.startDraining();
+        eventPublisher.publishEvent(new DrainStartedEvent(config.getReconnectAfterMillis(), deadline));
+        log.info("드레인 시작: 최대 {}초 동안 진행 중인 라운드를 기다립니다.", config.getTimeoutSeconds());
+
+        int interrupted = awaitRoundBoundary(deadline);
+
+        int exported = 0;
+        try {
+            exported = exporter.export(roomRepository.findAll()).size();
+        } catch (IOException e) {
+            log.error("방 상태 내보내기 실패: {}", config.getExportFile(), e);
+        }
+
+        DrainReport report = new DrainReport(startedAt, System.currentTimeMillis() - startedAt, exported, interrupted);
+        lastReport = report;
+        running = false;
+        eventPublisher.publishEvent(new DrainCompletedEvent(report));
+        log.info("드레인 완료: {}ms, 방 {}개 내보냄, 라운드 중단 {}개",
+                report.durationMillis(), report.roomsExported(), report.roomsInterrupted());
+        return report;
+    }
+
+    /**
+     * @return 마감 시각까지 라운드가 끝나지 않은 방 수
+     */
+    private int awaitRoundBoundary(long deadline) {
+        long pollNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(config.getPollIntervalMillis(), 1));
+        int midRound = countRoomsMidRound();
+        while (midRound > 0 && System.currentTimeMillis() < deadline) {
+            LockSupport.parkNanos(pollNanos);
+            midRound = countRoomsMidRound();
+        }
+        return midRound;
+    }
+
+    /**
+     * 대상자가 고해성사/해명/투표 중인 방. 다음 대상 선택 단계나 대기 상태는 자연스러운 경계로 본다.
+     */
+    private int countRoomsMidRound() {
+        int count = 0;
+        for (Room room : roomRepository.findAll()) {
+            Room.RoundPhase phase = room.phaseSnapshot().phase();
+            if (phase != null && phase != Room.RoundPhase.SELECTION) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void restore() {
+        List<RoomStateExporter.ExportedRoom> rooms;
+        try {
+            rooms = exporter.load();
+        } catch (IOException e) {
+            log.error("방 상태 복원 실패: {}", config.getExportFile(), e);
+            return;
+        }
+        if (rooms.isEmpty()) {
+            return;
+        }
+
+        List<String> restored = new ArrayList<>(rooms.size());
+        for (RoomStateExporter.ExportedRoom room : rooms) {
+            Map<String, String> playerNames = new LinkedHashMap<>();
+            for (RoomStateExporter.ExportedPlayer player : room.players()) {
+                playerNames.put(player.id(), player.name());
+            }
+            if (roomService.restoreRoom(room.roomId(), playerNames, room.targetHistory())) {
+                restored.add(room.roomId());
+            }
+        }
+
+        // 유예 시간 안에 재접속하지 않은 플레이어는 내보낸다
+        roundTimer.newTimeout(() -> evictUnclaimed(restored), TimeUnit.SECONDS.toMillis(config.getReconnectGraceSeconds()));
+        log.info("방 {}개를 복원했습니다. {}초 안에 재접속하지 않은 플레이어는 퇴장 처리됩니다.",
+                restored.size(), config.getReconnectGraceSeconds());
+    }
+
+    private void evictUnclaimed(List<String> roomIds) {
+        int evicted = 0;
+        for (String roomId : roomIds) {
+            evicted += roomService.evictUnclaimedPlayers(roomId);
+        }
+        if (evicted > 0) {
+            log.info("재접속하지 않은 플레이어 {}명을 퇴장 처리했습니다.", evicted);
+        }
+    }
+
+    /**
+     * 드레인 결과. roomsInterrupted 는 마감 시각까지 라운드가 끝나지 않아 진행 상황 없이 내보낸 방의 수이다.
+     */
+    public record DrainReport(long startedAt, long durationMillis, int roomsExported, int roomsInterrupted) {
+    }
+
+    /**
+     * 드레인이 시작되어 신규 참가가 막혔을 때 발행된다.
+     */
+    public record DrainStartedEvent(long reconnectAfterMillis, long deadline) {
+    }
+
+    /**
+     * 방 상태를 내보낸 뒤 발행된다. 이후의 연결 종료는 퇴장으로 처리하지 않는다.
+     */
+    public record DrainCompletedEvent(DrainReport report) {
+    }
+}
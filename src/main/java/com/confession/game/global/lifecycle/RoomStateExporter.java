@@ -0,0 +1,84 @@
+package com.confession.game.global.lifecycle;
+
+import com.confession.game.domain.player.entity.Player;
+import com.confession.game.domain.room.entity.Room;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 드레인 시 방 상태를 파일로 내보내고, 다음 프로세스가 시작할 때 읽어 들인다.
+ * <p>
+ * 방 구성(플레이어 ID/이름)과 대상자 이력만 기록한다. 고해성사/해명/채팅 내용은 디스크에 남기지 않는다.
+ */
+class RoomStateExporter {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    RoomStateExporter(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체하므로 도중에 종료되어도 반쯤 쓰인 파일이 남지 않는다.
+     *
+     * @return 내보낸 방 목록
+     */
+    List<ExportedRoom> export(Collection<Room> rooms) throws IOException {
+        List<ExportedRoom> exported = rooms.stream()
+                .map(RoomStateExporter::snapshot)
+                .filter(room -> !room.players().isEmpty())
+                .toList();
+
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        objectMapper.writeValue(temp.toFile(), exported);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return exported;
+    }
+
+    /**
+     * 내보낸 파일을 읽고, 같은 상태를 두 번 복원하지 않도록 .loaded 로 이름을 바꾼다.
+     *
+     * @return 파일이 없으면 빈 목록
+     */
+    List<ExportedRoom> load() throws IOException {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+
+        List<ExportedRoom> rooms = objectMapper.readValue(file.toFile(), new TypeReference<>() {
+        });
+        Files.move(file, file.resolveSibling(file.getFileName() + ".loaded"), StandardCopyOption.REPLACE_EXISTING);
+        return rooms;
+    }
+
+    private static ExportedRoom snapshot(Room room) {
+        // 방 메서드와 같은 락으로 읽어 플레이어 목록과 이력이 어긋나지 않게 한다
+        synchronized (room) {
+            List<ExportedPlayer> players = room.getPlayers().values().stream()
+                    .sorted(Comparator.comparingInt(Player::getSlot))
+                    .map(player -> new ExportedPlayer(player.getId(), player.getName()))
+                    .toList();
+            return new ExportedRoom(room.getRoomId(), players, List.copyOf(room.getTargetHistory()));
+        }
+    }
+
+    record ExportedRoom(String roomId, List<ExportedPlayer> players, List<String> targetHistory) {
+    }
+
+    record ExportedPlayer(String id, String name) {
+    }
+}
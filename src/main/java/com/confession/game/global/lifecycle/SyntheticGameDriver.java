@@ -0,0 +1,92 @@
+package com.confession.game.global.lifecycle;
+
+import com.confession.game.domain.confession.entity.Confession;
+import com.confession.game.domain.room.entity.Room;
+import com.confession.game.domain.room.service.RoomService;
+import com.confession.game.global.handler.WebSocketHandler;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실제 클라이언트와 같은 프레임을 핸들러에 직접 넣어 한 라운드를 진행한다.
+ * 네트워크를 거치지 않으므로 메시지 파싱, 방 로직, 응답 직렬화 경로만 실행된다.
+ * 가짜 세션은 수신 파이프라인을 거치지 않으므로, 메시지를 보낸 직후 방 상태를 읽어 다음 명령을 정한다.
+ */
+public class SyntheticGameDriver {
+
+    private final WebSocketHandler handler;
+    private final RoomService roomService;
+
+    public SyntheticGameDriver(WebSocketHandler handler, RoomService roomService) {
+        this.handler = handler;
+        this.roomService = roomService;
+    }
+
+    /**
+     * 참가 → 게임 시작 → 채팅/고해성사 → 해명 → 투표 → 다음 대상 선택 → 퇴장.
+     * 끝나면 방은 삭제된다.
+     *
+     * @return 핸들러가 보낸 프레임 수
+     */
+    public long playRound(String roomId, int players) throws Exception {
+        List<SyntheticSession> sessions = new ArrayList<>(players);
+        for (int p = 0; p < players; p++) {
+            SyntheticSession session = new SyntheticSession(roomId + "-session-" + p);
+            sessions.add(session);
+            send(session, "{\"type\":\"join-room\",\"data\":{\"roomId\":\"" + roomId + "\",\"playerId\":\""
+                    + playerId(roomId, p) + "\",\"playerName\":\"플레이어" + p + "\"}}");
+        }
+        send(sessions.get(0), "{\"type\":\"start-game\",\"data\":{}}");
+
+        Room room = roomService.getRoom(roomId);
+        String target = room.getCurrentTarget();
+        SyntheticSession targetSession = null;
+        List<SyntheticSession> others = new ArrayList<>(players - 1);
+        for (int p = 0; p < players; p++) {
+            if (playerId(roomId, p).equals(target)) {
+                targetSession = sessions.get(p);
+            } else {
+                others.add(sessions.get(p));
+            }
+        }
+
+        // 배치 프레임 경로도 함께 실행
+        for (SyntheticSession session : others) {
+            send(session, "[{\"type\":\"send-chat-message\",\"data\":{\"message\":\"오늘 분위기 좋네요\"}},"
+                    + "{\"type\":\"send-confession\",\"data\":{\"message\":\"사실 지난번 약속에 일부러 늦었어요\"}}]");
+        }
+        for (Confession confession : List.copyOf(room.getConfessions())) {
+            send(targetSession, "{\"type\":\"send-explanation\",\"data\":{\"confessionId\":\""
+                    + confession.getId() + "\",\"explanation\":\"그날은 정말 어쩔 수 없었어요\"}}");
+        }
+        for (SyntheticSession session : others) {
+            send(session, "{\"type\":\"vote\",\"data\":{\"agree\":true}}");
+        }
+
+        String next = room.getPlayers().keySet().stream()
+                .filter(id -> !room.getTargetHistory().contains(id))
+                .findFirst()
+                .orElse(null);
+        if (next != null) {
+            send(targetSession, "{\"type\":\"select-next-target\",\"data\":{\"targetId\":\"" + next + "\"}}");
+        }
+
+        long frames = 0;
+        for (SyntheticSession session : sessions) {
+            send(session, "{\"type\":\"leave-room\",\"data\":{}}");
+            session.close();
+            frames += session.sentFrames();
+        }
+        return frames;
+    }
+
+    private void send(SyntheticSession session, String payload) throws Exception {
+        handler.handleMessage(session, new TextMessage(payload));
+    }
+
+    private static String playerId(String roomId, int index) {
+        return roomId + "-player-" + index;
+    }
+}
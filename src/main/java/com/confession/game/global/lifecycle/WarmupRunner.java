@@ -0,0 +1,101 @@
+package com.confession.game.global.lifecycle;
+
+import com.confession.game.domain.room.event.RoomEvent;
+import com.confession.game.domain.room.service.RoomService;
+import com.confession.game.global.config.GameProperties;
+import com.confession.game.global.handler.WebSocketHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배포 직후 첫 트래픽이 인터프리터 모드의 핸들러/직렬화/방 로직을 타지 않도록,
+ * 준비 완료(readiness) 전에 가상 방으로 참가부터 다음 대상 선택까지 전체 흐름을 반복한다.
+ * <p>
+ * ApplicationRunner 는 Spring Boot 가 ACCEPTING_TRAFFIC 을 알리기 전에 실행되며,
+ * 그 전까지의 WebSocket 핸드셰이크는 ReadinessHandshakeInterceptor 가 거절한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "game.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupRunner implements ApplicationRunner {
+
+    // 통계와 저널이 가상 방 이벤트를 걸러 낼 수 있도록 정해진 접두사를 쓴다
+    private static final String ROOM_PREFIX = RoomEvent.SYNTHETIC_ROOM_PREFIX;
+
+    // 라운드마다 info 로그를 남기는 로거. 워밍업 동안만 WARN 으로 올린다
+    private static final List<String> NOISY_LOGGERS = List.of(
+            RoomService.class.getName(), WebSocketHandler.class.getName());
+
+    private final SyntheticGameDriver driver;
+    private final GameProperties.Warmup config;
+    private final LoggingSystem loggingSystem;
+
+    private volatile int completedRounds;
+    private volatile long elapsedMillis;
+
+    public WarmupRunner(WebSocketHandler handler, RoomService roomService, GameProperties gameProperties,
+                        LoggingSystem loggingSystem) {
+        this.driver = new SyntheticGameDriver(handler, roomService);
+        this.config = gameProperties.getWarmup();
+        this.loggingSystem = loggingSystem;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(config.getMaxMillis());
+        int players = Math.max(2, config.getPlayersPerRoom());
+
+        Map<String, LogLevel> previousLevels = quietLoggers();
+        int rounds = 0;
+        try {
+            while (rounds < config.getRounds() && System.nanoTime() < deadline) {
+                driver.playRound(ROOM_PREFIX + rounds, players);
+                rounds++;
+            }
+        } catch (Exception e) {
+            // 워밍업 실패로 기동을 막지는 않는다
+            log.warn("워밍업 중 오류가 발생해 중단합니다: {}라운드 완료", rounds, e);
+        } finally {
+            restoreLoggers(previousLevels);
+        }
+
+        completedRounds = rounds;
+        elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("워밍업 완료: {}라운드, {}ms", rounds, elapsedMillis);
+    }
+
+    public int completedRounds() {
+        return completedRounds;
+    }
+
+    public long elapsedMillis() {
+        return elapsedMillis;
+    }
+
+    private Map<String, LogLevel> quietLoggers() {
+        Map<String, LogLevel> previous = new LinkedHashMap<>();
+        for (String name : NOISY_LOGGERS) {
+            LoggerConfiguration configuration = loggingSystem.getLoggerConfiguration(name);
+            previous.put(name, configuration != null ? configuration.getConfiguredLevel() : null);
+            loggingSystem.setLogLevel(name, LogLevel.WARN);
+        }
+        return previous;
+    }
+
+    private void restoreLoggers(Map<String, LogLevel> previous) {
+        // null 이면 상위 로거 설정을 따르도록 되돌린다
+        previous.forEach(loggingSystem::setLogLevel);
+    }
+}
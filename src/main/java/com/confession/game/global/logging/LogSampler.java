@@ -0,0 +1,38 @@
+package com.confession.game.global.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 빈도가 높은 로그 줄을 초당 허용 개수만큼만 남기도록 거른다.
+ * 정확한 개수보다 호출 비용이 중요하므로 창 경계에서의 경합은 허용한다.
+ */
+public class LogSampler {
+
+    public static final long SUPPRESSED = -1;
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger permitted = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    /**
+     * @return 기록해도 되면 직전 기록 이후 생략된 줄 수, 아니면 SUPPRESSED
+     */
+    public long tryAcquire(int permitsPerSecond) {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            permitted.set(0);
+        }
+
+        if (permitted.incrementAndGet() <= permitsPerSecond) {
+            return suppressed.getAndSet(0);
+        }
+
+        suppressed.incrementAndGet();
+        return SUPPRESSED;
+    }
+}
@@ -0,0 +1,189 @@
+package com.confession.game.global.memory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 방 하나의 고해성사/해명 텍스트를 UTF-8 로 힙 밖 슬랩에 쌓아두는 아레나.
+ * 개별 해제는 없고, 라운드가 바뀌거나 방이 삭제될 때 reset 으로 슬랩을 한꺼번에 반납한다.
+ * <p>
+ * 쓰기는 방의 락 안에서만 일어난다고 가정한다. 읽기는 락 없이 가능하며,
+ * 읽는 도중 reset 되면 세대 번호가 달라지므로 null 을 돌려준다.
+ */
+public class TextArena {
+
+    public static final long NO_REF = -1L;
+
+    // ref = [slab 15bit][offset 24bit][length 24bit]
+    static final int MAX_SLAB_SIZE = 1 << 24;
+    private static final int LENGTH_BITS = 24;
+    private static final int OFFSET_BITS = 24;
+    private static final long FIELD_MASK = (1L << 24) - 1;
+    private static final int MAX_SLABS = 1 << 15;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final TextSlabPool pool;
+    private final List<ByteBuffer> slabs = new CopyOnWriteArrayList<>();
+
+    private volatile int generation;
+    private int position;
+
+    public TextArena(TextSlabPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * 텍스트를 저장하고 참조값을 돌려준다. 슬랩보다 큰 텍스트는 저장하지 않고 NO_REF 를 돌려준다.
+     */
+    public long store(String text) {
+        if (text == null) return NO_REF;
+
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        int slabSize = pool.slabSize();
+        if (bytes.length > slabSize) return NO_REF;
+
+        if (slabs.isEmpty() || position + bytes.length > slabSize) {
+            if (slabs.size() >= MAX_SLABS) return NO_REF;
+            slabs.add(pool.acquire());
+            position = 0;
+        }
+
+        int slabIndex = slabs.size() - 1;
+        slabs.get(slabIndex).put(position, bytes);
+
+        long ref = ((long) slabIndex << (OFFSET_BITS + LENGTH_BITS))
+                | ((long) position << LENGTH_BITS)
+                | bytes.length;
+        position += bytes.length;
+        return ref;
+    }
+
+    public String read(long ref, int expectedGeneration) {
+        byte[] bytes = readBytes(ref, expectedGeneration);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 텍스트를 JSON 문자열 리터럴(따옴표 포함)로 썼을 때의 바이트 수. 라운드가 바뀌었으면 -1.
+     */
+    public int jsonStringLength(long ref, int expectedGeneration) {
+        ByteBuffer slab = slab(ref, expectedGeneration);
+        if (slab == null) return -1;
+
+        int offset = offset(ref);
+        int end = offset + length(ref);
+        int total = 2;
+        for (int i = offset; i < end; i++) {
+            total += escapedLength(slab.get(i));
+        }
+        return generation == expectedGeneration ? total : -1;
+    }
+
+    /**
+     * 슬랩의 UTF-8 바이트를 String 이나 중간 배열 없이 JSON 문자열 리터럴로 out[position] 부터 바로 쓴다.
+     *
+     * @return 다음 쓰기 위치. 라운드가 바뀌었거나 out 에 자리가 모자라면 -1
+     */
+    public int writeJsonString(long ref, int expectedGeneration, byte[] out, int position) {
+        ByteBuffer slab = slab(ref, expectedGeneration);
+        if (slab == null) return -1;
+
+        int offset = offset(ref);
+        int end = offset + length(ref);
+        // 여는 따옴표와 닫는 따옴표가 들어갈 자리부터 확인한다
+        if (position < 0 || out.length - position < 2) return -1;
+        // 본문은 닫는 따옴표 자리(closingQuote) 앞까지 쓸 수 있다. 길이를 잰 뒤 슬랩이 재사용되면 내용이 달라져 모자랄 수 있다
+        int closingQuote = out.length - 1;
+
+        out[position++] = '"';
+        for (int i = offset; i < end; i++) {
+            byte b = slab.get(i);
+            if (position + escapedLength(b) > closingQuote) return -1;
+            position = escape(b, out, position);
+        }
+        out[position++] = '"';
+        return generation == expectedGeneration ? position : -1;
+    }
+
+    public int generation() {
+        return generation;
+    }
+
+    public int slabCount() {
+        return slabs.size();
+    }
+
+    /**
+     * 모든 슬랩을 풀에 반납한다. 세대 번호를 먼저 올려 진행 중인 읽기가 재사용된 슬랩을 읽지 않게 한다.
+     */
+    public void reset() {
+        generation++;
+        for (ByteBuffer slab : slabs) {
+            pool.release(slab);
+        }
+        slabs.clear();
+        position = 0;
+    }
+
+    private byte[] readBytes(long ref, int expectedGeneration) {
+        ByteBuffer slab = slab(ref, expectedGeneration);
+        if (slab == null) return null;
+
+        byte[] bytes = new byte[length(ref)];
+        slab.get(offset(ref), bytes);
+
+        // 복사 도중 reset 되었다면 슬랩이 재사용되었을 수 있으므로 버린다
+        return generation == expectedGeneration ? bytes : null;
+    }
+
+    private ByteBuffer slab(long ref, int expectedGeneration) {
+        if (ref == NO_REF || generation != expectedGeneration) return null;
+
+        try {
+            return slabs.get((int) (ref >>> (OFFSET_BITS + LENGTH_BITS)));
+        } catch (IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    private static int offset(long ref) {
+        return (int) ((ref >>> LENGTH_BITS) & FIELD_MASK);
+    }
+
+    private static int length(long ref) {
+        return (int) (ref & FIELD_MASK);
+    }
+
+    private static int escapedLength(byte b) {
+        return switch (b) {
+            case '"', '\\', '\n', '\r', '\t' -> 2;
+            default -> b >= 0 && b < 0x20 ? 6 : 1;
+        };
+    }
+
+    private static int escape(byte b, byte[] out, int position) {
+        switch (b) {
+            case '"' -> { out[position++] = '\\'; out[position++] = '"'; }
+            case '\\' -> { out[position++] = '\\'; out[position++] = '\\'; }
+            case '\n' -> { out[position++] = '\\'; out[position++] = 'n'; }
+            case '\r' -> { out[position++] = '\\'; out[position++] = 'r'; }
+            case '\t' -> { out[position++] = '\\'; out[position++] = 't'; }
+            default -> {
+                if (b >= 0 && b < 0x20) {
+                    out[position++] = '\\';
+                    out[position++] = 'u';
+                    out[position++] = '0';
+                    out[position++] = '0';
+                    out[position++] = HEX[b >> 4];
+                    out[position++] = HEX[b & 0xF];
+                } else {
+                    out[position++] = b;
+                }
+            }
+        }
+        return position;
+    }
+}
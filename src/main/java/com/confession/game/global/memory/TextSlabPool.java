@@ -0,0 +1,73 @@
+package com.confession.game.global.memory;
+
+import com.confession.game.global.config.GameProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 방별 TextArena 가 공유하는 direct ByteBuffer 슬랩 풀.
+ * 라운드가 끝나 반납된 슬랩은 다음 라운드에서 그대로 재사용된다.
+ */
+@Component
+public class TextSlabPool {
+
+    private final int slabSize;
+    private final int maxPooledSlabs;
+
+    private final Queue<ByteBuffer> freeSlabs = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledSlabs = new AtomicInteger();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+
+    @Autowired
+    public TextSlabPool(GameProperties gameProperties) {
+        this(gameProperties.getTextArena().getSlabSize(), gameProperties.getTextArena().getMaxPooledSlabs());
+    }
+
+    public TextSlabPool(int slabSize, int maxPooledSlabs) {
+        if (slabSize <= 0 || slabSize > TextArena.MAX_SLAB_SIZE) {
+            throw new IllegalArgumentException("슬랩 크기는 1 ~ " + TextArena.MAX_SLAB_SIZE + " 바이트여야 합니다.");
+        }
+        this.slabSize = slabSize;
+        this.maxPooledSlabs = maxPooledSlabs;
+    }
+
+    public ByteBuffer acquire() {
+        ByteBuffer slab = freeSlabs.poll();
+        if (slab != null) {
+            pooledSlabs.decrementAndGet();
+            return slab;
+        }
+
+        allocatedBytes.addAndGet(slabSize);
+        return ByteBuffer.allocateDirect(slabSize);
+    }
+
+    public void release(ByteBuffer slab) {
+        if (pooledSlabs.incrementAndGet() <= maxPooledSlabs) {
+            freeSlabs.offer(slab);
+            return;
+        }
+
+        // 풀이 가득 차면 참조를 끊어 GC 의 Cleaner 가 해제하도록 둔다
+        pooledSlabs.decrementAndGet();
+        allocatedBytes.addAndGet(-slabSize);
+    }
+
+    public int slabSize() {
+        return slabSize;
+    }
+
+    public int pooledSlabs() {
+        return pooledSlabs.get();
+    }
+
+    public long allocatedBytes() {
+        return allocatedBytes.get();
+    }
+}
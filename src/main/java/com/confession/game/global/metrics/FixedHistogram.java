@@ -0,0 +1,83 @@
+package com.confession.game.global.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 구간 경계가 고정된 히스토그램. 기록은 구간별 LongAdder 하나를 올릴 뿐이라 여러 스레드가 경합 없이 쓰고,
+ * 스냅샷은 구간 수만큼만 읽으므로 기록 수와 관계없이 일정한 비용이 든다.
+ */
+public final class FixedHistogram {
+
+    // 구간 i 는 (bounds[i - 1], bounds[i]] 의 값을 센다. 마지막 구간은 bounds 보다 큰 값
+    private final long[] bounds;
+    private final LongAdder[] buckets;
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public FixedHistogram(long... bounds) {
+        for (int i = 1; i < bounds.length; i++) {
+            if (bounds[i] <= bounds[i - 1]) {
+                throw new IllegalArgumentException("구간 경계는 오름차순이어야 합니다.");
+            }
+        }
+        this.bounds = bounds.clone();
+        this.buckets = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long value) {
+        int index = Arrays.binarySearch(bounds, value);
+        buckets[index >= 0 ? index : -index - 1].increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return new Snapshot(bounds, counts, sum.sum(), max.get());
+    }
+
+    /**
+     * @param counts 구간별 기록 수. 길이는 bounds.length + 1
+     */
+    public record Snapshot(long[] bounds, long[] counts, long sum, long max) {
+
+        public long count() {
+            long total = 0;
+            for (long count : counts) {
+                total += count;
+            }
+            return total;
+        }
+
+        public double mean() {
+            long count = count();
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * q 분위수가 들어 있는 구간의 상한. 마지막 구간이면 지금까지의 최댓값.
+         */
+        public long percentile(double q) {
+            long count = count();
+            if (count == 0) return 0;
+
+            long rank = (long) Math.ceil(q * count);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return i < bounds.length ? Math.min(bounds[i], max) : max;
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.confession.game.global.metrics;
+
+/**
+ * 최근 일정 시간 동안의 횟수. 시간을 고정 폭 칸으로 나눈 원형 배열이라 합계는 칸 수만큼만 읽는다.
+ * 라운드 완료처럼 드물게 오르는 값에 쓰므로 단순히 동기화한다.
+ */
+public final class SlidingWindowCounter {
+
+    private final long slotMillis;
+    private final long[] slotStamps;
+    private final long[] slotCounts;
+
+    public SlidingWindowCounter(int slots, long slotMillis) {
+        this.slotMillis = slotMillis;
+        this.slotStamps = new long[slots];
+        this.slotCounts = new long[slots];
+    }
+
+    public synchronized void increment(long nowMillis) {
+        long stamp = nowMillis / slotMillis;
+        int index = (int) (stamp % slotStamps.length);
+        if (slotStamps[index] != stamp) {
+            slotStamps[index] = stamp;
+            slotCounts[index] = 0;
+        }
+        slotCounts[index]++;
+    }
+
+    public synchronized long sum(long nowMillis) {
+        long stamp = nowMillis / slotMillis;
+        long total = 0;
+        for (int i = 0; i < slotStamps.length; i++) {
+            if (stamp - slotStamps[i] < slotStamps.length) {
+                total += slotCounts[i];
+            }
+        }
+        return total;
+    }
+}
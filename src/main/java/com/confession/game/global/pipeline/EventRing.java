@@ -0,0 +1,171 @@
+package com.confession.game.global.pipeline;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 미리 만들어 둔 슬롯을 돌려 쓰는 링 버퍼.
+ * <p>
+ * 여러 생산자가 슬롯을 예약(next)해 채운 뒤 발행(publish)하고, 소비 단계({@link RingStage})는
+ * 각자 진행 위치를 가지고 앞 단계가 끝낸 위치까지 한꺼번에 처리한다.
+ * 마지막 단계들이 모두 지나간 슬롯만 다시 예약할 수 있으므로 링이 가득 차면 생산자가 기다린다.
+ */
+public final class EventRing<E> {
+
+    static final long INITIAL_SEQUENCE = -1;
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final Object[] slots;
+    private final int mask;
+    private final int indexShift;
+
+    // 슬롯마다 마지막으로 발행된 바퀴 번호. 예약 순서와 발행 순서가 달라도 빈틈 없이 읽을 수 있다
+    private final AtomicIntegerArray published;
+    private final AtomicLong claimed = new AtomicLong(INITIAL_SEQUENCE);
+
+    // 이 위치들 중 가장 느린 곳까지 지나간 슬롯만 다시 쓴다
+    private volatile AtomicLong[] gatingSequences = new AtomicLong[0];
+    private volatile boolean halted;
+
+    public EventRing(int size, Supplier<E> slotFactory) {
+        if (size <= 0 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("링 크기는 2의 거듭제곱이어야 합니다: " + size);
+        }
+
+        this.slots = new Object[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = slotFactory.get();
+        }
+        this.mask = size - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(size);
+        this.published = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    public int size() {
+        return slots.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(long sequence) {
+        return (E) slots[(int) sequence & mask];
+    }
+
+    /**
+     * 생산자가 슬롯을 다시 쓰기 전에 기다릴 소비 위치 (보통 마지막 단계들).
+     */
+    public void gateOn(AtomicLong... sequences) {
+        this.gatingSequences = sequences.clone();
+    }
+
+    /**
+     * 다음 슬롯을 예약한다. 링이 가득 차 있으면 마지막 단계가 지나갈 때까지 기다린다.
+     *
+     * @throws IllegalStateException 링이 멈춘 경우
+     */
+    public long next() {
+        if (halted) {
+            throw new IllegalStateException("링이 멈췄습니다.");
+        }
+
+        long sequence = claimed.incrementAndGet();
+        long wrapPoint = sequence - slots.length;
+        int tries = 0;
+        while (wrapPoint > minimumGatingSequence()) {
+            if (halted) {
+                throw new IllegalStateException("링이 멈췄습니다.");
+            }
+            tries = backOff(tries);
+        }
+        return sequence;
+    }
+
+    /**
+     * 기다리지 않고 다음 슬롯을 예약한다.
+     *
+     * @return 예약한 위치. 링이 가득 찼거나 멈췄으면 -1
+     */
+    public long tryNext() {
+        while (!halted) {
+            long current = claimed.get();
+            long sequence = current + 1;
+            if (sequence - slots.length > minimumGatingSequence()) {
+                return -1;
+            }
+            if (claimed.compareAndSet(current, sequence)) {
+                return sequence;
+            }
+        }
+        return -1;
+    }
+
+    public void publish(long sequence) {
+        published.set((int) sequence & mask, (int) (sequence >>> indexShift));
+    }
+
+    /**
+     * from 부터 빈틈 없이 발행된 마지막 위치. from 이 아직 발행되지 않았으면 from - 1.
+     */
+    public long highestPublished(long from) {
+        long limit = claimed.get();
+        for (long sequence = from; sequence <= limit; sequence++) {
+            if (published.get((int) sequence & mask) != (int) (sequence >>> indexShift)) {
+                return sequence - 1;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * 지금까지 예약된 마지막 위치.
+     */
+    public long claimedSequence() {
+        return claimed.get();
+    }
+
+    /**
+     * 새 예약을 막는다. 기다리던 생산자도 예외로 빠져나온다.
+     */
+    public void halt() {
+        halted = true;
+    }
+
+    public boolean isHalted() {
+        return halted;
+    }
+
+    static long minimum(AtomicLong[] sequences, long defaultValue) {
+        long minimum = defaultValue;
+        for (AtomicLong sequence : sequences) {
+            minimum = Math.min(minimum, sequence.get());
+        }
+        return minimum;
+    }
+
+    /**
+     * 바쁜 대기 -> 양보 -> 짧은 park 순으로 물러난다.
+     */
+    static int backOff(int tries) {
+        if (tries < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (tries < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+            return tries;
+        }
+        return tries + 1;
+    }
+
+    private long minimumGatingSequence() {
+        return minimum(gatingSequences, Long.MAX_VALUE);
+    }
+}
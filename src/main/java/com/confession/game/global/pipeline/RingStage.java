@@ -0,0 +1,116 @@
+package com.confession.game.global.pipeline;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 링의 한 처리 단계. 스레드 하나가 앞 단계(없으면 생산자의 발행)가 끝낸 위치까지 최대 maxBatch 개를
+ * 순서대로 처리하고, 묶음이 끝날 때 한 번만 자기 위치를 올린다.
+ * <p>
+ * 같은 단계를 여러 스레드로 나눌 때는 각 스레드가 모든 슬롯을 보되 자기 몫만 처리한다 (핸들러가 거른다).
+ */
+@Slf4j
+public final class RingStage<E> {
+
+    @FunctionalInterface
+    public interface Handler<E> {
+        /**
+         * @param endOfBatch 이번 묶음의 마지막 슬롯이면 true. 모아 둔 결과를 내보낼 때 쓴다
+         */
+        void onEvent(E event, long sequence, boolean endOfBatch) throws Exception;
+    }
+
+    private final EventRing<E> ring;
+    private final AtomicLong[] dependencies;
+    private final Handler<E> handler;
+    private final int maxBatch;
+    private final AtomicLong sequence = new AtomicLong(EventRing.INITIAL_SEQUENCE);
+
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    /**
+     * @param dependencies 앞 단계들의 위치. 비어 있으면 생산자가 발행한 슬롯을 바로 처리한다
+     */
+    public RingStage(EventRing<E> ring, Handler<E> handler, int maxBatch, AtomicLong... dependencies) {
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("묶음 크기는 0보다 커야 합니다.");
+        }
+        this.ring = ring;
+        this.handler = handler;
+        this.maxBatch = maxBatch;
+        this.dependencies = dependencies.clone();
+    }
+
+    /**
+     * 이 단계가 끝낸 마지막 위치. 다음 단계의 의존 대상이나 링의 gating 으로 쓴다.
+     */
+    public AtomicLong sequence() {
+        return sequence;
+    }
+
+    /**
+     * 호출한 스레드가 이 단계의 스레드인지. 자기 링을 기다리면 안 되는 호출을 가를 때 쓴다.
+     */
+    public boolean isCurrentThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    public synchronized void start(String threadName) {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, threadName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 처리할 수 있는 슬롯을 다 처리한 뒤 멈춘다. 앞 단계를 먼저 멈춰야 남은 슬롯 없이 끝난다.
+     */
+    public void stop() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private void run() {
+        long next = sequence.get() + 1;
+        int tries = 0;
+        while (true) {
+            long available = available(next);
+            if (available < next) {
+                if (!running) {
+                    break;
+                }
+                tries = EventRing.backOff(tries);
+                continue;
+            }
+            tries = 0;
+
+            long end = Math.min(available, next + maxBatch - 1);
+            for (long current = next; current <= end; current++) {
+                try {
+                    handler.onEvent(ring.get(current), current, current == end);
+                } catch (Exception e) {
+                    log.error("링 단계 처리 실패: {}", Thread.currentThread().getName(), e);
+                }
+            }
+            sequence.set(end);
+            next = end + 1;
+        }
+    }
+
+    private long available(long next) {
+        if (dependencies.length == 0) {
+            return ring.highestPublished(next);
+        }
+        return EventRing.minimum(dependencies, Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,284 @@
+package com.confession.game.global.timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모든 방이 공유하는 해시드 타이밍 휠.
+ * <p>
+ * 스레드 하나가 tick 마다 버킷 하나만 훑으므로 타이머 수와 관계없이 등록/취소가 O(1) 이다.
+ * 워커 스레드는 만료를 판정해 작업을 taskExecutor 에 넘기기만 한다. 작업 하나가 막히면 모든 방의 마감이
+ * 밀리므로, 작업을 워커에서 바로 실행하는 생성자(테스트용)를 쓸 때는 작업이 막히지 않아야 한다.
+ */
+@Slf4j
+public class HashedWheelTimer {
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Executor taskExecutor;
+
+    // 다른 스레드에서 등록/취소한 타이머는 큐를 거쳐 워커 스레드만 버킷을 수정한다
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger activeTimeouts = new AtomicInteger();
+    private final AtomicLong expiredTimeouts = new AtomicLong();
+
+    private final Thread worker;
+    private volatile boolean running;
+    private volatile long startedAt;
+    private long tick;
+
+    /**
+     * 만료된 작업을 워커 스레드에서 바로 실행한다. 작업이 짧고 막히지 않을 때만 쓴다.
+     */
+    public HashedWheelTimer(long tickMillis, int wheelSize) {
+        this(tickMillis, wheelSize, Runnable::run);
+    }
+
+    /**
+     * @param taskExecutor 만료된 작업을 실행할 곳. 소켓 전송처럼 막힐 수 있는 작업은 별도 스레드로 넘긴다
+     */
+    public HashedWheelTimer(long tickMillis, int wheelSize, Executor taskExecutor) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tick 간격은 0보다 커야 합니다.");
+        }
+        if (wheelSize <= 0 || wheelSize > 1 << 20) {
+            throw new IllegalArgumentException("휠 크기는 1 ~ " + (1 << 20) + " 이어야 합니다.");
+        }
+
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        this.wheel = new Bucket[Math.max(size, 1)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheel.length - 1;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.taskExecutor = taskExecutor;
+
+        this.worker = new Thread(this::run, "round-timer");
+        this.worker.setDaemon(true);
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        startedAt = System.nanoTime();
+        running = true;
+        worker.start();
+    }
+
+    public void stop() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * delayMillis 뒤에 task 를 taskExecutor 에서 실행한다. 실제 실행 시점은 tick 단위로 올림된다.
+     */
+    public Timeout newTimeout(Runnable task, long delayMillis) {
+        if (!running) {
+            throw new IllegalStateException("타이머가 시작되지 않았습니다.");
+        }
+
+        long deadline = System.nanoTime() - startedAt + TimeUnit.MILLISECONDS.toNanos(Math.max(delayMillis, 0));
+        Timeout timeout = new Timeout(this, task, deadline);
+        activeTimeouts.incrementAndGet();
+        pendingTimeouts.offer(timeout);
+        return timeout;
+    }
+
+    public int activeTimeouts() {
+        return activeTimeouts.get();
+    }
+
+    public long expiredTimeouts() {
+        return expiredTimeouts.get();
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = waitForNextTick();
+            if (deadline < 0) {
+                break;
+            }
+
+            removeCancelled();
+            transferPending();
+
+            Bucket bucket = wheel[(int) (tick & mask)];
+            bucket.expire(deadline);
+            tick++;
+        }
+    }
+
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long sleepNanos = deadline - (System.nanoTime() - startedAt);
+            if (sleepNanos <= 0) {
+                return deadline;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.state.get() != Timeout.ST_INIT) {
+                continue;
+            }
+
+            long ticks = Math.max(timeout.deadline / tickNanos, tick);
+            timeout.remainingRounds = (ticks - tick) / wheel.length;
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void runTask(Timeout timeout) {
+        expiredTimeouts.incrementAndGet();
+        try {
+            taskExecutor.execute(() -> runSafely(timeout.task));
+        } catch (RejectedExecutionException e) {
+            log.warn("타이머 작업을 실행하지 못했습니다 (종료 중)", e);
+        }
+    }
+
+    private static void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable t) {
+            log.warn("타이머 작업 실행 중 오류 발생", t);
+        }
+    }
+
+    public static final class Timeout {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+        // 아래 필드는 워커 스레드에서만 접근
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 아직 실행되지 않았다면 취소한다. 버킷에서의 제거는 다음 tick 에 워커가 처리한다.
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timer.activeTimeouts.decrementAndGet();
+            timer.cancelledTimeouts.offer(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+    }
+
+    private final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire(long deadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.deadline <= deadline && timeout.state.compareAndSet(Timeout.ST_INIT, Timeout.ST_EXPIRED)) {
+                        activeTimeouts.decrementAndGet();
+                        runTask(timeout);
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = timeout.next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.confession.game.domain.admin.service;
+
+import com.confession.game.domain.admin.dto.AdminRoomDetailResponse;
+import com.confession.game.domain.room.entity.Room;
+import com.confession.game.domain.room.repository.RoomRepository;
+import com.confession.game.global.handler.Matchmaker;
+import com.confession.game.global.handler.SpectatorRegistry;
+import com.confession.game.global.handler.WebSocketHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AdminService 테스트")
+class AdminServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RoomRepository roomRepository;
+    private WebSocketHandler webSocketHandler;
+    private AdminService adminService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        roomRepository = new RoomRepository();
+        webSocketHandler = mock(WebSocketHandler.class);
+        adminService = new AdminService(roomRepository, webSocketHandler, new SpectatorRegistry(),
+                mock(Matchmaker.class), mock(ObjectProvider.class));
+    }
+
+    private Room createRoom(String roomId, int players) {
+        Room room = roomRepository.save(Room.builder().roomId(roomId).build());
+        for (int i = 0; i < players; i++) {
+            room.addPlayer(roomId + "-player-" + i, "플레이어" + i, roomId + "-session-" + i);
+        }
+        return room;
+    }
+
+    @Test
+    @DisplayName("방 목록을 스트림에 쓰고 상태로 거른다")
+    void writeRooms() throws Exception {
+        // given
+        createRoom("room-1", 1);
+        createRoom("room-2", 2).startGame();
+        createRoom("room-3", 3);
+
+        // when
+        ByteArrayOutputStream all = new ByteArrayOutputStream();
+        adminService.writeRooms(all, null);
+        ByteArrayOutputStream playing = new ByteArrayOutputStream();
+        adminService.writeRooms(playing, Room.GameState.PLAYING);
+
+        // then
+        JsonNode allRooms = objectMapper.readTree(all.toByteArray());
+        assertThat(allRooms.get("type").asText()).isEqualTo("admin-rooms");
+        assertThat(allRooms.get("data").get("count").asInt()).isEqualTo(3);
+        assertThat(allRooms.get("data").get("rooms")).hasSize(3);
+
+        JsonNode playingRooms = objectMapper.readTree(playing.toByteArray()).get("data");
+        assertThat(playingRooms.get("count").asInt()).isEqualTo(1);
+        assertThat(playingRooms.get("rooms").get(0).get("roomId").asText()).isEqualTo("room-2");
+        assertThat(playingRooms.get("rooms").get(0).get("playerCount").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("방 상태와 이 노드의 연결 정보를 함께 돌려준다")
+    void describeRoom() {
+        // given
+        Room room = createRoom("room-1", 2);
+        room.startGame();
+        when(webSocketHandler.describeSessions("room-1")).thenReturn(List.of(
+                new WebSocketHandler.SessionView("room-1-session-0", "room-1-player-0", true, 1, 0)));
+
+        // when
+        AdminRoomDetailResponse response = adminService.describeRoom("room-1");
+
+        // then
+        assertThat(response.isConsistent()).isTrue();
+        assertThat(response.getGameState()).isEqualTo("PLAYING");
+        assertThat(response.getCurrentTarget()).isEqualTo(room.getCurrentTarget());
+        assertThat(response.getRevision()).isEqualTo(room.getRevision());
+        assertThat(response.getPlayers()).extracting("id").containsExactly("room-1-player-0", "room-1-player-1");
+        assertThat(response.getSessions()).hasSize(1);
+        assertThat(response.getQueues().getJournalQueued()).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 방은 예외를 던진다")
+    void describeUnknownRoom() {
+        // when & then
+        assertThatThrownBy(() -> adminService.describeRoom("room-unknown"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
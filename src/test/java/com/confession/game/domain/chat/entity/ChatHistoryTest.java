@@ -0,0 +1,100 @@
+package com.confession.game.domain.chat.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ChatHistory 테스트")
+class ChatHistoryTest {
+
+    private ChatHistory historyWith(int capacity, int count) {
+        ChatHistory history = new ChatHistory(capacity);
+        for (int i = 0; i < count; i++) {
+            history.append("player-1", "플레이어1", "메시지" + i, i);
+        }
+        return history;
+    }
+
+    @Nested
+    @DisplayName("fetch 테스트")
+    class FetchTest {
+
+        @Test
+        @DisplayName("커서가 없으면 최근 메시지를 시간순으로 반환한다")
+        void fetchLatest() {
+            // given
+            ChatHistory history = historyWith(16, 5);
+
+            // when
+            ChatHistory.Page page = history.fetch(null, 3);
+
+            // then
+            assertThat(page.messages()).extracting(ChatMessage::getMessage)
+                    .containsExactly("메시지2", "메시지3", "메시지4");
+            assertThat(page.nextCursor()).isEqualTo(2);
+            assertThat(page.hasMore()).isTrue();
+        }
+
+        @Test
+        @DisplayName("커서로 이전 페이지를 이어서 조회한다")
+        void fetchWithCursor() {
+            // given
+            ChatHistory history = historyWith(16, 5);
+            ChatHistory.Page first = history.fetch(null, 3);
+
+            // when
+            ChatHistory.Page second = history.fetch(first.nextCursor(), 3);
+
+            // then
+            assertThat(second.messages()).extracting(ChatMessage::getMessage)
+                    .containsExactly("메시지0", "메시지1");
+            assertThat(second.hasMore()).isFalse();
+        }
+
+        @Test
+        @DisplayName("용량을 넘으면 가장 오래된 메시지를 덮어쓴다")
+        void overwriteOldest() {
+            // given
+            ChatHistory history = historyWith(4, 10);
+
+            // when
+            ChatHistory.Page page = history.fetch(null, 100);
+
+            // then
+            assertThat(page.messages()).extracting(ChatMessage::getSequence)
+                    .containsExactly(6L, 7L, 8L, 9L);
+            assertThat(page.hasMore()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("clear 테스트")
+    class ClearTest {
+
+        @Test
+        @DisplayName("새 라운드가 시작되면 이전 메시지는 조회되지 않는다")
+        void hidePreviousRound() {
+            // given
+            ChatHistory history = historyWith(16, 3);
+
+            // when
+            history.clear();
+            history.append("player-2", "플레이어2", "새 라운드", 100);
+
+            // then
+            ChatHistory.Page page = history.fetch(null, 10);
+            assertThat(page.messages()).extracting(ChatMessage::getMessage)
+                    .containsExactly("새 라운드");
+            assertThat(page.messages().get(0).getSequence()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올림된다")
+    void roundUpCapacity() {
+        assertThat(new ChatHistory(100).capacity()).isEqualTo(128);
+        assertThat(new ChatHistory(64).capacity()).isEqualTo(64);
+    }
+}
@@ -0,0 +1,156 @@
+package com.confession.game.domain.lobby.service;
+
+import com.confession.game.domain.lobby.dto.LobbyResponse;
+import com.confession.game.domain.lobby.dto.LobbyRoomDto;
+import com.confession.game.domain.room.entity.Room;
+import com.confession.game.domain.room.event.RoomEvent;
+import com.confession.game.domain.room.repository.RoomRepository;
+import com.confession.game.global.config.GameProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LobbyService 테스트")
+class LobbyServiceTest {
+
+    private RoomRepository roomRepository;
+    private LobbyService lobbyService;
+
+    @BeforeEach
+    void setUp() {
+        roomRepository = new RoomRepository();
+        lobbyService = new LobbyService(roomRepository, new GameProperties());
+    }
+
+    private Room createRoom(String roomId, int players) {
+        Room room = roomRepository.save(Room.builder().roomId(roomId).build());
+        for (int i = 0; i < players; i++) {
+            room.addPlayer(roomId + "-player-" + i, "플레이어" + i, roomId + "-session-" + i);
+            lobbyService.onRoomEvent(RoomEvent.joined(roomId, roomId + "-player-" + i));
+        }
+        return room;
+    }
+
+    @Nested
+    @DisplayName("목록 갱신 테스트")
+    class RefreshTest {
+
+        @Test
+        @DisplayName("참가 이벤트로 방이 목록에 추가된다")
+        void addRoomOnJoin() {
+            // given
+            createRoom("room-a", 2);
+
+            // when
+            LobbyResponse response = lobbyService.getRooms(null, null, null, 20);
+
+            // then
+            assertThat(response.getRooms()).extracting(LobbyRoomDto::getRoomId).containsExactly("room-a");
+            assertThat(response.getRooms().get(0).getPlayerCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("게임이 시작된 방은 목록에서 빠진다")
+        void removeRoomOnStart() {
+            // given
+            Room room = createRoom("room-a", 2);
+
+            // when
+            room.startGame();
+            lobbyService.onRoomEvent(RoomEvent.started("room-a", room.getCurrentTarget()));
+
+            // then
+            assertThat(lobbyService.getRooms(null, null, null, 20).getRooms()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("삭제된 방은 목록에서 빠진다")
+        void removeDeletedRoom() {
+            // given
+            createRoom("room-a", 1);
+
+            // when
+            roomRepository.deleteById("room-a");
+            lobbyService.onRoomEvent(RoomEvent.roomDeleted("room-a"));
+
+            // then
+            assertThat(lobbyService.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("목록이 바뀌지 않는 이벤트는 버전을 올리지 않는다")
+        void keepVersionWhenUnchanged() {
+            // given
+            createRoom("room-a", 2);
+            long version = lobbyService.version();
+
+            // when
+            lobbyService.onRoomEvent(RoomEvent.voted("room-a", "room-a-player-0", true));
+            lobbyService.refresh("room-a");
+
+            // then
+            assertThat(lobbyService.version()).isEqualTo(version);
+        }
+    }
+
+    @Nested
+    @DisplayName("조회 테스트")
+    class GetRoomsTest {
+
+        @Test
+        @DisplayName("커서로 다음 페이지를 조회한다")
+        void paginate() {
+            // given
+            createRoom("room-a", 1);
+            createRoom("room-b", 1);
+            createRoom("room-c", 1);
+
+            // when
+            LobbyResponse first = lobbyService.getRooms(null, null, null, 2);
+            LobbyResponse second = lobbyService.getRooms(first.getNextCursor(), null, null, 2);
+
+            // then
+            assertThat(first.getRooms()).extracting(LobbyRoomDto::getRoomId).containsExactly("room-a", "room-b");
+            assertThat(first.isHasMore()).isTrue();
+            assertThat(second.getRooms()).extracting(LobbyRoomDto::getRoomId).containsExactly("room-c");
+            assertThat(second.isHasMore()).isFalse();
+            assertThat(second.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("인원 수로 필터링한다")
+        void filterBySize() {
+            // given
+            createRoom("room-a", 1);
+            createRoom("room-b", 3);
+            createRoom("room-c", 5);
+
+            // when
+            LobbyResponse response = lobbyService.getRooms(null, 2, 4, 20);
+
+            // then
+            assertThat(response.getRooms()).extracting(LobbyRoomDto::getRoomId).containsExactly("room-b");
+        }
+
+        @Test
+        @DisplayName("목록이 바뀌기 전까지 같은 인코딩 결과를 재사용한다")
+        void reuseEncodedResponse() {
+            // given
+            createRoom("room-a", 1);
+            byte[] first = lobbyService.getEncodedRooms(null, null, null, 20);
+
+            // when
+            byte[] cached = lobbyService.getEncodedRooms(null, null, null, 20);
+            createRoom("room-b", 1);
+            byte[] refreshed = lobbyService.getEncodedRooms(null, null, null, 20);
+
+            // then
+            assertThat(cached).isSameAs(first);
+            assertThat(refreshed).isNotSameAs(first);
+            assertThat(new String(refreshed)).contains("room-b");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.confession.game.domain.room.entity;
 
+import com.confession.game.domain.chat.entity.ChatMessage;
 import com.confession.game.domain.confession.entity.Confession;
 import com.confession.game.domain.player.entity.Player;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,6 +8,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 
 @DisplayName("Room 엔티티 테스트")
@@ -21,6 +24,13 @@ class RoomTest {
         room = Room.builder().roomId(roomId).build();
     }
 
+    private List<String> nonTargets() {
+        return room.getPlayers().keySet().stream()
+                .filter(id -> !id.equals(room.getCurrentTarget()))
+                .sorted()
+                .toList();
+    }
+
     @Nested
     @DisplayName("addPlayer 테스트")
     class AddPlayerTest {
@@ -65,6 +75,22 @@ class RoomTest {
             // then
             assertThat(room.getPlayers()).hasSize(3);
         }
+
+        @Test
+        @DisplayName("나간 플레이어의 슬롯은 다음 참가자가 재사용한다")
+        void reuseSlotOfRemovedPlayer() {
+            // given
+            room.addPlayer("player-1", "플레이어1", "session-1");
+            Player second = room.addPlayer("player-2", "플레이어2", "session-2");
+            room.addPlayer("player-3", "플레이어3", "session-3");
+
+            // when
+            room.removePlayer("player-2");
+            Player newcomer = room.addPlayer("player-4", "플레이어4", "session-4");
+
+            // then
+            assertThat(newcomer.getSlot()).isEqualTo(second.getSlot());
+        }
     }
 
     @Nested
@@ -205,7 +231,7 @@ class RoomTest {
                     .orElseThrow();
 
             room.addConfession("sender", "고해성사");
-            room.vote("voter", true);
+            room.vote(nextTarget, true);
 
             // when
             room.selectNextTarget(nextTarget);
@@ -264,7 +290,7 @@ class RoomTest {
             assertThat(confession.getId()).isNotNull();
             assertThat(confession.getSenderId()).isEqualTo("player-1");
             assertThat(confession.getMessage()).isEqualTo("테스트 메시지");
-            assertThat(confession.getTimestamp()).isNotNull();
+            assertThat(confession.getTimestamp()).isPositive();
             assertThat(room.getConfessions()).hasSize(1);
         }
 
@@ -319,6 +345,58 @@ class RoomTest {
         }
     }
 
+    @Nested
+    @DisplayName("addChatMessage 테스트")
+    class AddChatMessageTest {
+
+        @Test
+        @DisplayName("채팅 메시지가 기록에 저장된다")
+        void addChatMessage() {
+            // given
+            room.addPlayer("player-1", "플레이어1", "session-1");
+
+            // when
+            ChatMessage chatMessage = room.addChatMessage("player-1", "안녕하세요");
+
+            // then
+            assertThat(chatMessage.getSenderName()).isEqualTo("플레이어1");
+            assertThat(room.getChatHistory().fetch(null, 10).messages())
+                    .extracting(ChatMessage::getMessage)
+                    .containsExactly("안녕하세요");
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 플레이어는 채팅을 보낼 수 없다")
+        void throwExceptionWhenSenderNotFound() {
+            // when & then
+            assertThatThrownBy(() -> room.addChatMessage("nonexistent", "안녕하세요"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("존재하지 않는 플레이어입니다.");
+        }
+
+        @Test
+        @DisplayName("다음 대상이 선택되면 이전 라운드의 채팅은 조회되지 않는다")
+        void clearChatOnNextTarget() {
+            // given
+            room.addPlayer("player-1", "플레이어1", "session-1");
+            room.addPlayer("player-2", "플레이어2", "session-2");
+            room.addPlayer("player-3", "플레이어3", "session-3");
+            room.startGame();
+            room.addChatMessage("player-1", "이전 라운드");
+
+            String nextTarget = room.getPlayers().keySet().stream()
+                    .filter(id -> !room.getTargetHistory().contains(id))
+                    .findFirst()
+                    .orElseThrow();
+
+            // when
+            room.selectNextTarget(nextTarget);
+
+            // then
+            assertThat(room.getChatHistory().fetch(null, 10).messages()).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("vote 테스트")
     class VoteTest {
@@ -332,7 +410,7 @@ class RoomTest {
             room.startGame();
 
             // when
-            Room.VoteResult result = room.vote("voter-1", true);
+            Room.VoteResult result = room.vote(nonTargets().get(0), true);
 
             // then
             assertThat(result).isNotNull();
@@ -351,8 +429,8 @@ class RoomTest {
             room.startGame();
 
             // when
-            room.vote("voter-1", true);
-            Room.VoteResult result = room.vote("voter-1", false);
+            room.vote(nonTargets().get(0), true);
+            Room.VoteResult result = room.vote(nonTargets().get(0), false);
 
             // then
             assertThat(result.getVotes()).isEqualTo(1);
@@ -369,8 +447,8 @@ class RoomTest {
             room.startGame();
 
             // when
-            room.vote("voter-1", true);
-            Room.VoteResult result = room.vote("voter-2", true);
+            room.vote(nonTargets().get(0), true);
+            Room.VoteResult result = room.vote(nonTargets().get(1), true);
 
             // then
             assertThat(result.isComplete()).isTrue();
@@ -388,8 +466,8 @@ class RoomTest {
             room.startGame();
 
             // when
-            room.vote("voter-1", true);
-            Room.VoteResult result = room.vote("voter-2", false);
+            room.vote(nonTargets().get(0), true);
+            Room.VoteResult result = room.vote(nonTargets().get(1), false);
 
             // then
             assertThat(result.isComplete()).isTrue();
@@ -406,13 +484,147 @@ class RoomTest {
             room.startGame();
 
             // when
-            Room.VoteResult result = room.vote("voter-1", true);
+            Room.VoteResult result = room.vote(nonTargets().get(0), true);
 
             // then
             assertThat(result.isComplete()).isFalse();
             assertThat(result.getVotes()).isEqualTo(1);
             assertThat(result.getRequired()).isEqualTo(2);
         }
+
+        @Test
+        @DisplayName("방에 없는 플레이어는 투표할 수 없다")
+        void throwExceptionWhenVoterNotFound() {
+            // given
+            room.addPlayer("player-1", "플레이어1", "session-1");
+            room.addPlayer("player-2", "플레이어2", "session-2");
+            room.startGame();
+
+            // when & then
+            assertThatThrownBy(() -> room.vote("nonexistent", true))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("존재하지 않는 플레이어입니다.");
+        }
+
+        @Test
+        @DisplayName("투표한 플레이어가 나가면 투표도 함께 제거된다")
+        void removeVoteWhenVoterLeaves() {
+            // given
+            room.addPlayer("player-1", "플레이어1", "session-1");
+            room.addPlayer("player-2", "플레이어2", "session-2");
+            room.addPlayer("player-3", "플레이어3", "session-3");
+            room.startGame();
+            String voter = nonTargets().get(0);
+            room.vote(voter, false);
+
+            // when
+            room.removePlayer(voter);
+
+            // then
+            assertThat(room.getVoteCount()).isZero();
+            assertThat(room.getVotes()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("라운드 단계 테스트")
+    class RoundPhaseTest {
+
+        @Test
+        @DisplayName("정상 진행 시 고해성사 -> 해명 -> 투표 -> 대상 선택 순으로 넘어간다")
+        void advanceThroughPhases() {
+            // given
+            room.addPlayer("player-1", "플레이어1", "session-1");
+            room.addPlayer("player-2", "플레이어2", "session-2");
+            room.startGame();
+            String sender = nonTargets().get(0);
+            Confession confession = room.addConfession(sender, "고해성사");
+
+            // when & then
+            assertThat(room.getRoundPhase()).isEqualTo(Room.RoundPhase.CONFESSION);
+
+            room.addExplanation(confession.getId(), "해명");
+            assertThat(room.getRoundPhase()).isEqualTo(Room.RoundPhase.EXPLANATION);
+
+            room.vote(sender, true);
+            assertThat(room.getRoundPhase()).isEqualTo(Room.RoundPhase.SELECTION);
+        }
+
+        @Test
+        @DisplayName("투표 시간이 지나면 지금까지의 투표로 마감한다")
+        void expireVoting() {
+            // given
+            room.addPlayer("player-1", "플레이어1", "session-1");
+            room.addPlayer("player-2", "플레이어2", "session-2");
+            room.addPlayer("player-3", "플레이어3", "session-3");
+            room.startGame();
+            room.vote(nonTargets().get(0), false);
+            long version = room.phaseSnapshot().version();
+
+            // when
+            Room.PhaseExpiry expiry = room.expirePhase(version);
+
+            // then
+            assertThat(expiry.expired()).isEqualTo(Room.RoundPhase.VOTING);
+            assertThat(expiry.voteResult().isComplete()).isTrue();
+            assertThat(expiry.voteResult().isAllAgree()).isFalse();
+            assertThat(expiry.voteResult().getVotes()).isEqualTo(1);
+            assertThat(room.getRoundPhase()).isEqualTo(Room.RoundPhase.SELECTION);
+        }
+
+        @Test
+        @DisplayName("대상 선택 시간이 지나면 다음 대상을 자동으로 고른다")
+        void expireSelection() {
+            // given
+            room.addPlayer("player-1", "플레이어1", "session-1");
+            room.addPlayer("player-2", "플레이어2", "session-2");
+            room.startGame();
+            String previousTarget = room.getCurrentTarget();
+            room.vote(nonTargets().get(0), true);
+
+            // when
+            Room.PhaseExpiry expiry = room.expirePhase(room.phaseSnapshot().version());
+
+            // then
+            assertThat(expiry.previousTarget()).isEqualTo(previousTarget);
+            assertThat(room.getCurrentTarget()).isNotEqualTo(previousTarget);
+            assertThat(room.getRoundPhase()).isEqualTo(Room.RoundPhase.CONFESSION);
+        }
+
+        @Test
+        @DisplayName("이미 지난 단계의 타이머는 무시한다")
+        void ignoreStaleExpiry() {
+            // given
+            room.addPlayer("player-1", "플레이어1", "session-1");
+            room.addPlayer("player-2", "플레이어2", "session-2");
+            room.startGame();
+            long staleVersion = room.phaseSnapshot().version();
+            room.vote(nonTargets().get(0), true);
+
+            // when
+            Room.PhaseExpiry expiry = room.expirePhase(staleVersion);
+
+            // then
+            assertThat(expiry).isNull();
+            assertThat(room.getRoundPhase()).isEqualTo(Room.RoundPhase.SELECTION);
+        }
+
+        @Test
+        @DisplayName("게임이 리셋되면 단계가 없어진다")
+        void clearPhaseOnReset() {
+            // given
+            room.addPlayer("player-1", "플레이어1", "session-1");
+            room.addPlayer("player-2", "플레이어2", "session-2");
+            room.startGame();
+            long version = room.phaseSnapshot().version();
+
+            // when
+            room.resetGame();
+
+            // then
+            assertThat(room.getRoundPhase()).isNull();
+            assertThat(room.expirePhase(version)).isNull();
+        }
     }
 
     @Nested
@@ -528,18 +740,20 @@ class RoomTest {
         @DisplayName("여러 스레드에서 동시에 투표해도 안전하다")
         void concurrentVote() throws InterruptedException {
             // given
-            room.addPlayer("player-1", "플레이어1", "session-1");
-            room.addPlayer("player-2", "플레이어2", "session-2");
+            int threadCount = 10;
+            for (int i = 0; i <= threadCount; i++) {
+                room.addPlayer("player-" + i, "플레이어" + i, "session-" + i);
+            }
             room.startGame();
 
-            int threadCount = 10;
+            List<String> voters = nonTargets();
             Thread[] threads = new Thread[threadCount];
 
             // when
             for (int i = 0; i < threadCount; i++) {
-                final int index = i;
+                final String voter = voters.get(i);
                 threads[i] = new Thread(() -> {
-                    room.vote("voter-" + index, true);
+                    room.vote(voter, true);
                 });
                 threads[i].start();
             }
@@ -552,4 +766,34 @@ class RoomTest {
             assertThat(room.getVotes()).hasSize(threadCount);
         }
     }
+
+    @Nested
+    @DisplayName("revision 테스트")
+    class RevisionTest {
+
+        @Test
+        @DisplayName("쓰기가 끝나면 revision 은 짝수이고, 중첩된 쓰기도 한 번의 쓰기로 센다")
+        void revisionIsEvenAfterWrite() {
+            // given
+            room.addPlayer("player-1", "플레이어1", "session-1");
+            room.addPlayer("player-2", "플레이어2", "session-2");
+            long before = room.getRevision();
+
+            // when: startGame 은 안에서 대상 지정과 단계 전환을 함께 한다
+            room.startGame();
+
+            // then
+            assertThat(before % 2).isZero();
+            assertThat(room.getRevision()).isEqualTo(before + 2);
+            assertThat(room.isUnchangedSince(before)).isFalse();
+            assertThat(room.isUnchangedSince(room.getRevision())).isTrue();
+        }
+
+        @Test
+        @DisplayName("쓰는 도중(홀수)에 읽기 시작한 값은 일관되지 않은 것으로 본다")
+        void oddRevisionIsNeverConsistent() {
+            // when & then
+            assertThat(room.isUnchangedSince(room.getRevision() + 1)).isFalse();
+        }
+    }
 }
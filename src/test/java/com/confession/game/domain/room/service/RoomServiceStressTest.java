@@ -0,0 +1,327 @@
+package com.confession.game.domain.room.service;
+
+import com.confession.game.domain.player.entity.Player;
+import com.confession.game.domain.room.entity.Room;
+import com.confession.game.domain.room.repository.RoomRepository;
+import com.confession.game.global.config.GameProperties;
+import com.confession.game.global.exception.AdmissionRejectedException;
+import com.confession.game.global.memory.TextSlabPool;
+import com.confession.game.global.timer.HashedWheelTimer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 스레드가 몇 개의 방에서 참가/퇴장/고해성사/투표/다음 대상 선택을 무작위로 섞어 호출하면서
+ * 방 불변식이 깨지지 않는지 확인한다.
+ * <ul>
+ *     <li>게임 중이면 대상자가 정확히 한 명이고 방에 있다. 대기 중이면 대상자와 투표가 없다</li>
+ *     <li>투표 수는 필요 인원(대상 제외 인원)을 넘지 않고, 대상자는 투표하지 않는다</li>
+ *     <li>참가에 성공한 플레이어는 나가기 전까지 방에 남아 있고, 빈 방이나 닫힌 방이 저장소에 남지 않는다</li>
+ * </ul>
+ * 실행 시간은 {@code -Dstress.durationMillis} 로 늘릴 수 있다 ({@code ./gradlew test --tests '*RoomServiceStressTest' -PstressMillis=60000}).
+ */
+@DisplayName("RoomService 동시성 스트레스 테스트")
+class RoomServiceStressTest {
+
+    private static final int WORKERS = 8;
+    private static final int PLAYERS_PER_WORKER = 4;
+    private static final int ROOMS = 3;
+    private static final int MAX_REPORTED_VIOLATIONS = 20;
+
+    private RoomRepository roomRepository;
+    private RoomService roomService;
+    private HashedWheelTimer roundTimer;
+
+    private final Queue<String> violations = new ConcurrentLinkedQueue<>();
+    private final LongAdder violationCount = new LongAdder();
+
+    @BeforeEach
+    void setUp() {
+        GameProperties gameProperties = new GameProperties();
+        gameProperties.getRoom().setMaxPlayers(WORKERS * PLAYERS_PER_WORKER / 2);
+        // 단계 시간 초과도 요청과 겹치도록 제한 시간을 짧게 둔다
+        gameProperties.getRound().setConfessionSeconds(1);
+        gameProperties.getRound().setExplanationSeconds(1);
+        gameProperties.getRound().setVotingSeconds(1);
+        gameProperties.getRound().setSelectionSeconds(1);
+
+        roundTimer = new HashedWheelTimer(10, 512);
+        roundTimer.start();
+
+        roomRepository = new RoomRepository();
+        roomService = new RoomService(roomRepository, gameProperties, new TextSlabPool(gameProperties),
+                event -> {
+                }, roundTimer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        roundTimer.stop();
+    }
+
+    @Test
+    @DisplayName("무작위 동시 요청에도 방 불변식이 유지된다")
+    void invariantsHoldUnderConcurrentRequests() throws Exception {
+        long durationMillis = Long.getLong("stress.durationMillis", 2_000);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch ready = new CountDownLatch(WORKERS);
+        CountDownLatch start = new CountDownLatch(1);
+        LongAdder operations = new LongAdder();
+        LongAdder rejected = new LongAdder();
+
+        List<Worker> workers = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < WORKERS; i++) {
+            Worker worker = new Worker(i, running, operations, rejected);
+            workers.add(worker);
+            threads.add(new Thread(() -> {
+                ready.countDown();
+                await(start);
+                worker.run();
+            }, "stress-worker-" + i));
+        }
+        Thread checker = new Thread(() -> {
+            while (running.get()) {
+                checkRooms();
+                Thread.onSpinWait();
+            }
+        }, "stress-checker");
+
+        threads.forEach(Thread::start);
+        ready.await();
+        checker.start();
+        long startedAt = System.nanoTime();
+        start.countDown();
+
+        Thread.sleep(durationMillis);
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        checker.join(TimeUnit.SECONDS.toMillis(10));
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+        // 모든 요청이 끝난 뒤: 참가 기록과 저장소의 방 구성이 일치해야 한다
+        checkRooms();
+        checkMembership(workers);
+
+        System.out.printf("스트레스 테스트: %d 스레드, %.1f초, 요청 %d건 (%.0f ops/s), 거절 %d건, 불변식 위반 %d건%n",
+                WORKERS, elapsedSeconds, operations.sum(), operations.sum() / elapsedSeconds,
+                rejected.sum(), violationCount.sum());
+        violations.forEach(violation -> System.out.println("  위반: " + violation));
+
+        assertThat(operations.sum()).isPositive();
+        assertThat(violations).isEmpty();
+    }
+
+    private void checkRooms() {
+        for (Room room : roomRepository.findAll()) {
+            synchronized (room) {
+                String roomId = room.getRoomId();
+                if (room.isClosed()) {
+                    report("닫힌 방이 저장소에 남아 있음: " + roomId);
+                    continue;
+                }
+
+                String target = room.getCurrentTarget();
+                Map<String, Boolean> votes = room.getVotes();
+                if (room.getGameState() == Room.GameState.PLAYING) {
+                    if (target == null || !room.getPlayers().containsKey(target)) {
+                        report("게임 중인 방 " + roomId + "의 대상자가 방에 없음: " + target);
+                    }
+                } else {
+                    if (target != null) {
+                        report("대기 중인 방 " + roomId + "에 대상자가 있음: " + target);
+                    }
+                    if (!votes.isEmpty()) {
+                        report("대기 중인 방 " + roomId + "에 투표가 남아 있음: " + votes.size());
+                    }
+                }
+
+                int required = Math.max(room.getPlayers().size() - 1, 0);
+                if (room.getVoteCount() > required) {
+                    report("방 " + roomId + " 투표 수 " + room.getVoteCount() + " > 필요 인원 " + required);
+                }
+                if (room.getVoteCount() != votes.size()) {
+                    report("방 " + roomId + " 투표 수 " + room.getVoteCount() + " != 투표자 " + votes.size());
+                }
+                if (target != null && votes.containsKey(target)) {
+                    report("방 " + roomId + " 대상자 " + target + "가 투표함");
+                }
+            }
+        }
+    }
+
+    private void checkMembership(List<Worker> workers) {
+        Map<String, Set<String>> expected = new HashMap<>();
+        for (Worker worker : workers) {
+            worker.joined.forEach((playerId, roomId) ->
+                    expected.computeIfAbsent(roomId, key -> new HashSet<>()).add(playerId));
+        }
+
+        Map<String, Set<String>> actual = new HashMap<>();
+        for (Room room : roomRepository.findAll()) {
+            if (room.isEmpty()) {
+                report("빈 방이 저장소에 남아 있음: " + room.getRoomId());
+            }
+            actual.put(room.getRoomId(), new HashSet<>(room.getPlayers().keySet()));
+        }
+
+        for (String roomId : union(expected.keySet(), actual.keySet())) {
+            Set<String> expectedPlayers = expected.getOrDefault(roomId, Set.of());
+            Set<String> actualPlayers = actual.getOrDefault(roomId, Set.of());
+            if (!expectedPlayers.equals(actualPlayers)) {
+                report("방 " + roomId + " 구성 불일치: 기대 " + expectedPlayers + ", 실제 " + actualPlayers);
+            }
+        }
+    }
+
+    private void report(String violation) {
+        violationCount.increment();
+        if (violations.size() < MAX_REPORTED_VIOLATIONS) {
+            violations.add(violation);
+        }
+    }
+
+    private static Set<String> union(Set<String> first, Set<String> second) {
+        Set<String> union = new HashSet<>(first);
+        union.addAll(second);
+        return union;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 자기 플레이어만 움직이므로 참가 기록(joined)은 이 스레드만 쓴다.
+     */
+    private class Worker implements Runnable {
+
+        private final String[] playerIds = new String[PLAYERS_PER_WORKER];
+        // playerId -> roomId (참가 중인 플레이어만)
+        private final Map<String, String> joined = new HashMap<>();
+        private final AtomicBoolean running;
+        private final LongAdder operations;
+        private final LongAdder rejected;
+
+        Worker(int index, AtomicBoolean running, LongAdder operations, LongAdder rejected) {
+            for (int i = 0; i < PLAYERS_PER_WORKER; i++) {
+                playerIds[i] = "w" + index + "-p" + i;
+            }
+            this.running = running;
+            this.operations = operations;
+            this.rejected = rejected;
+        }
+
+        @Override
+        public void run() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (running.get()) {
+                String playerId = playerIds[random.nextInt(playerIds.length)];
+                String roomId = joined.get(playerId);
+                try {
+                    if (roomId == null) {
+                        String target = "stress-room-" + random.nextInt(ROOMS);
+                        roomService.joinRoom(target, playerId, playerId, "session-" + playerId);
+                        joined.put(playerId, target);
+                    } else {
+                        act(random, playerId, roomId);
+                    }
+                } catch (IllegalArgumentException | IllegalStateException | AdmissionRejectedException e) {
+                    // 방이 가득 찼거나 대상이 아닌 등, 규칙상 거절된 요청
+                    rejected.increment();
+                }
+                operations.increment();
+            }
+        }
+
+        private void act(ThreadLocalRandom random, String playerId, String roomId) {
+            int action = random.nextInt(100);
+            if (action < 10) {
+                roomService.leaveRoom(roomId, playerId);
+                joined.remove(playerId);
+            } else if (action < 20) {
+                roomService.startGame(roomId);
+            } else if (action < 45) {
+                roomService.sendConfession(roomId, playerId, "고해성사");
+            } else if (action < 80) {
+                roomService.vote(roomId, playerId, random.nextBoolean());
+            } else {
+                Room room = roomService.getRoom(roomId);
+                List<String> candidates = room.getPlayers().values().stream()
+                        .map(Player::getId)
+                        .toList();
+                if (candidates.isEmpty()) {
+                    return;
+                }
+                roomService.selectNextTarget(roomId, playerId, candidates.get(random.nextInt(candidates.size())));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 서로 다른 방을 만들어도 노드의 방 개수 한도를 넘지 않는다")
+    void keepRoomLimitUnderConcurrentCreates() throws Exception {
+        // given
+        GameProperties gameProperties = new GameProperties();
+        gameProperties.getNode().setMaxRooms(10);
+        RoomRepository repository = new RoomRepository();
+        RoomService service = new RoomService(repository, gameProperties, null, event -> {
+        }, roundTimer);
+        int threads = 32;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        LongAdder joined = new LongAdder();
+        LongAdder rejected = new LongAdder();
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            String roomId = "room-" + t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    service.joinRoom(roomId, roomId + "-player", "플레이어", roomId + "-session");
+                    joined.increment();
+                } catch (AdmissionRejectedException e) {
+                    rejected.increment();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+            worker.start();
+        }
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(joined.sum()).isEqualTo(10);
+        assertThat(rejected.sum()).isEqualTo(threads - 10);
+        assertThat(repository.count()).isEqualTo(10);
+        assertThat(repository.findAll()).hasSize(10);
+    }
+}
@@ -3,20 +3,28 @@ package com.confession.game.domain.room.service;
 import com.confession.game.domain.confession.entity.Confession;
 import com.confession.game.domain.player.entity.Player;
 import com.confession.game.domain.room.entity.Room;
+import com.confession.game.domain.room.event.RoomEvent;
 import com.confession.game.domain.room.repository.RoomRepository;
+import com.confession.game.global.config.GameProperties;
+import com.confession.game.global.exception.AdmissionRejectedException;
+import com.confession.game.global.timer.HashedWheelTimer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -27,6 +35,15 @@ class RoomServiceTest {
     @Mock
     private RoomRepository roomRepository;
 
+    @Spy
+    private GameProperties gameProperties = new GameProperties();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private HashedWheelTimer roundTimer;
+
     @InjectMocks
     private RoomService roomService;
 
@@ -67,7 +84,7 @@ class RoomServiceTest {
         void createNewRoom() {
             // given
             when(roomRepository.findById(testRoomId)).thenReturn(Optional.empty());
-            when(roomRepository.save(any(Room.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(roomRepository.create(any(Room.class), anyInt())).thenAnswer(invocation -> invocation.getArgument(0));
 
             // when
             Room result = roomService.getOrCreateRoom(testRoomId);
@@ -75,7 +92,7 @@ class RoomServiceTest {
             // then
             assertThat(result).isNotNull();
             assertThat(result.getRoomId()).isEqualTo(testRoomId);
-            verify(roomRepository).save(any(Room.class));
+            verify(roomRepository).create(any(Room.class), eq(gameProperties.getNode().getMaxRooms()));
         }
     }
 
@@ -157,6 +174,7 @@ class RoomServiceTest {
         void joinAndCreateRoom() {
             // given
             when(roomRepository.findById(testRoomId)).thenReturn(Optional.empty());
+            when(roomRepository.create(any(Room.class), anyInt())).thenAnswer(invocation -> invocation.getArgument(0));
             when(roomRepository.save(any(Room.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
             // when
@@ -164,7 +182,58 @@ class RoomServiceTest {
 
             // then
             assertThat(result).isNotNull();
-            verify(roomRepository, times(2)).save(any(Room.class)); // create + join
+            verify(roomRepository).create(any(Room.class), anyInt());
+            verify(roomRepository).save(any(Room.class));
+        }
+
+        @Test
+        @DisplayName("방 인원이 가득 차면 room-full 로 거절한다")
+        void rejectWhenRoomFull() {
+            // given
+            gameProperties.getRoom().setMaxPlayers(2);
+            Room room = Room.builder().roomId(testRoomId).build();
+            room.addPlayer("player-a", "플레이어A", "session-a");
+            room.addPlayer("player-b", "플레이어B", "session-b");
+            when(roomRepository.findById(testRoomId)).thenReturn(Optional.of(room));
+
+            // when & then
+            assertThatThrownBy(() -> roomService.joinRoom(testRoomId, testPlayerId, testPlayerName, testSessionId))
+                    .isInstanceOf(AdmissionRejectedException.class)
+                    .extracting("reason")
+                    .isEqualTo(AdmissionRejectedException.Reason.ROOM_FULL);
+            assertThat(room.getPlayers()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("방이 가득 차도 기존 플레이어는 재접속할 수 있다")
+        void allowRejoinWhenRoomFull() {
+            // given
+            gameProperties.getRoom().setMaxPlayers(1);
+            Room room = Room.builder().roomId(testRoomId).build();
+            room.addPlayer(testPlayerId, testPlayerName, "old-session");
+            when(roomRepository.findById(testRoomId)).thenReturn(Optional.of(room));
+            when(roomRepository.save(any(Room.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            Player result = roomService.joinRoom(testRoomId, testPlayerId, testPlayerName, testSessionId);
+
+            // then
+            assertThat(result.getSessionId()).isEqualTo(testSessionId);
+        }
+
+        @Test
+        @DisplayName("노드의 방 개수가 한도에 도달하면 server-busy 로 거절한다")
+        void rejectWhenNodeRoomLimitReached() {
+            // given
+            gameProperties.getNode().setMaxRooms(1);
+            when(roomRepository.findById(testRoomId)).thenReturn(Optional.empty());
+            when(roomRepository.create(any(Room.class), eq(1))).thenReturn(null);
+
+            // when & then
+            assertThatThrownBy(() -> roomService.joinRoom(testRoomId, testPlayerId, testPlayerName, testSessionId))
+                    .isInstanceOf(AdmissionRejectedException.class)
+                    .extracting("reason")
+                    .isEqualTo(AdmissionRejectedException.Reason.SERVER_BUSY);
         }
     }
 
@@ -188,7 +257,7 @@ class RoomServiceTest {
             // then
             assertThat(room.getPlayers()).doesNotContainKey(testPlayerId);
             verify(roomRepository).save(room);
-            verify(roomRepository, never()).deleteById(anyString());
+            verify(roomRepository, never()).delete(any());
         }
 
         @Test
@@ -203,7 +272,7 @@ class RoomServiceTest {
             roomService.leaveRoom(testRoomId, testPlayerId);
 
             // then
-            verify(roomRepository).deleteById(testRoomId);
+            verify(roomRepository).delete(room);
             verify(roomRepository, never()).save(any());
         }
 
@@ -295,6 +364,33 @@ class RoomServiceTest {
             verify(roomRepository).save(room);
         }
 
+        @Test
+        @DisplayName("고해성사 이벤트에는 보낸 사람을 담지 않는다")
+        void publishAnonymousConfessionEvent() {
+            // given
+            Room room = Room.builder().roomId(testRoomId).build();
+            room.addPlayer(testPlayerId, testPlayerName, testSessionId);
+            room.addPlayer("player-2", "플레이어2", "session-2");
+            room.startGame();
+            String senderId = room.getCurrentTarget().equals(testPlayerId) ? "player-2" : testPlayerId;
+            when(roomRepository.findById(testRoomId)).thenReturn(Optional.of(room));
+
+            // when
+            Confession result = roomService.sendConfession(testRoomId, senderId, "익명 고해성사");
+
+            // then
+            ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+            verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+            assertThat(events.getAllValues())
+                    .filteredOn(event -> event instanceof RoomEvent roomEvent && roomEvent.type() == RoomEvent.Type.CONFESSION)
+                    .singleElement()
+                    .satisfies(event -> {
+                        RoomEvent confession = (RoomEvent) event;
+                        assertThat(confession.playerId()).isNull();
+                        assertThat(confession.confessionId()).isEqualTo(result.getId());
+                    });
+        }
+
         @Test
         @DisplayName("대상자가 고해성사를 보내면 예외를 발생시킨다")
         void throwExceptionWhenTargetSendsConfession() {
@@ -427,6 +523,22 @@ class RoomServiceTest {
                     .hasMessage("대상자는 투표할 수 없습니다.");
         }
 
+        @Test
+        @DisplayName("게임이 진행 중이 아니면 투표할 수 없다")
+        void throwExceptionWhenNotPlaying() {
+            // given
+            Room room = Room.builder().roomId(testRoomId).build();
+            room.addPlayer(testPlayerId, testPlayerName, testSessionId);
+            room.addPlayer("player-2", "플레이어2", "session-2");
+            when(roomRepository.findById(testRoomId)).thenReturn(Optional.of(room));
+
+            // when & then
+            assertThatThrownBy(() -> roomService.vote(testRoomId, testPlayerId, true))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("게임이 진행 중이 아닙니다.");
+            assertThat(room.getVotes()).isEmpty();
+        }
+
         @Test
         @DisplayName("모든 플레이어가 동의하면 투표가 완료된다")
         void voteCompleteAllAgree() {
@@ -585,4 +697,51 @@ class RoomServiceTest {
                     .hasMessage("존재하지 않는 플레이어입니다.");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("라운드 고정(드레인) 테스트")
+    class FreezeRoundsTest {
+
+        private Room selectionRoom() {
+            Room room = Room.builder().roomId(testRoomId).build();
+            room.addPlayer(testPlayerId, testPlayerName, testSessionId);
+            room.addPlayer("player-2", "플레이어2", "session-2");
+            room.startGame();
+            String nonTarget = testPlayerId.equals(room.getCurrentTarget()) ? "player-2" : testPlayerId;
+            room.vote(nonTarget, true);
+            return room;
+        }
+
+        @Test
+        @DisplayName("고정된 뒤에는 다음 대상을 선택해 새 라운드를 시작할 수 없다")
+        void rejectSelectNextTargetWhenFrozen() {
+            // given
+            roomService.freezeRounds();
+
+            // when & then
+            assertThatThrownBy(() -> roomService.selectNextTarget(testRoomId, testPlayerId, "player-2"))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> roomService.startGame(testRoomId))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("고정된 뒤에는 대상 선택 시간이 지나도 다음 대상을 자동으로 고르지 않는다")
+        void skipSelectionExpiryWhenFrozen() {
+            // given
+            Room room = selectionRoom();
+            assertThat(room.getRoundPhase()).isEqualTo(Room.RoundPhase.SELECTION);
+            String target = room.getCurrentTarget();
+            when(roomRepository.findById(testRoomId)).thenReturn(Optional.of(room));
+            roomService.freezeRounds();
+
+            // when
+            roomService.expirePhase(testRoomId, room.phaseSnapshot().version());
+
+            // then
+            assertThat(room.getRoundPhase()).isEqualTo(Room.RoundPhase.SELECTION);
+            assertThat(room.getCurrentTarget()).isEqualTo(target);
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+    }
+}
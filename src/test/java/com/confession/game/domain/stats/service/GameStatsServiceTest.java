@@ -0,0 +1,128 @@
+package com.confession.game.domain.stats.service;
+
+import com.confession.game.domain.room.event.RoomEvent;
+import com.confession.game.domain.stats.dto.GameStatsResponse;
+import com.confession.game.domain.stats.dto.RoomStatsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GameStatsService 테스트")
+class GameStatsServiceTest {
+
+    private GameStatsService gameStatsService;
+
+    @BeforeEach
+    void setUp() {
+        gameStatsService = new GameStatsService();
+    }
+
+    private RoomEvent event(RoomEvent.Type type, long timestamp, String roomId, String confessionId, Boolean agree) {
+        return new RoomEvent(type, timestamp, roomId, "player-1", null, confessionId, agree, null);
+    }
+
+    @Test
+    @DisplayName("라운드가 끝나면 고해성사 수를 히스토그램에 기록한다")
+    void completeRound() {
+        // given
+        long now = System.currentTimeMillis();
+        gameStatsService.onRoomEvent(RoomEvent.joined("room-1", "player-1"));
+        gameStatsService.onRoomEvent(event(RoomEvent.Type.START, now, "room-1", null, null));
+        gameStatsService.onRoomEvent(event(RoomEvent.Type.CONFESSION, now, "room-1", "c-1", null));
+        gameStatsService.onRoomEvent(event(RoomEvent.Type.CONFESSION, now, "room-1", "c-2", null));
+
+        // when
+        gameStatsService.onRoomEvent(event(RoomEvent.Type.TARGET_CHANGE, now, "room-1", null, null));
+        gameStatsService.onRoomEvent(event(RoomEvent.Type.CONFESSION, now, "room-1", "c-3", null));
+
+        // then
+        GameStatsResponse stats = gameStatsService.getStats();
+        assertThat(stats.getRoundsCompleted()).isEqualTo(1);
+        assertThat(stats.getRoundsLastHour()).isEqualTo(1);
+        assertThat(stats.getConfessions()).isEqualTo(3);
+        assertThat(stats.getConfessionsPerRound().getCount()).isEqualTo(1);
+        assertThat(stats.getConfessionsPerRound().getMax()).isEqualTo(2);
+
+        RoomStatsResponse room = gameStatsService.getRoomStats("room-1");
+        assertThat(room.getRoundsCompleted()).isEqualTo(1);
+        assertThat(room.getCurrentRoundConfessions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("고해성사를 받고 해명하기까지 걸린 시간을 기록한다")
+    void explanationLatency() {
+        // given
+        gameStatsService.onRoomEvent(RoomEvent.joined("room-1", "player-1"));
+        gameStatsService.onRoomEvent(event(RoomEvent.Type.START, 1_000, "room-1", null, null));
+        gameStatsService.onRoomEvent(event(RoomEvent.Type.CONFESSION, 2_000, "room-1", "c-1", null));
+        gameStatsService.onRoomEvent(event(RoomEvent.Type.CONFESSION, 3_000, "room-1", "c-2", null));
+
+        // when
+        gameStatsService.onRoomEvent(event(RoomEvent.Type.EXPLANATION, 6_000, "room-1", "c-1", null));
+        gameStatsService.onRoomEvent(event(RoomEvent.Type.EXPLANATION, 9_000, "room-1", "c-2", null));
+
+        // then
+        assertThat(gameStatsService.getRoomStats("room-1").getAverageExplanationLatencyMillis()).isEqualTo(5_000);
+        GameStatsResponse stats = gameStatsService.getStats();
+        assertThat(stats.getExplanations()).isEqualTo(2);
+        assertThat(stats.getExplanationLatencyMillis().getCount()).isEqualTo(2);
+        assertThat(stats.getExplanationLatencyMillis().getMax()).isEqualTo(6_000);
+    }
+
+    @Test
+    @DisplayName("투표 동의율을 방별, 전체로 계산한다")
+    void agreeRate() {
+        // given
+        long now = System.currentTimeMillis();
+        gameStatsService.onRoomEvent(RoomEvent.joined("room-1", "player-1"));
+        gameStatsService.onRoomEvent(RoomEvent.joined("room-2", "player-2"));
+
+        // when
+        gameStatsService.onRoomEvent(event(RoomEvent.Type.VOTE, now, "room-1", null, true));
+        gameStatsService.onRoomEvent(event(RoomEvent.Type.VOTE, now, "room-1", null, true));
+        gameStatsService.onRoomEvent(event(RoomEvent.Type.VOTE, now, "room-1", null, false));
+        gameStatsService.onRoomEvent(event(RoomEvent.Type.VOTE, now, "room-2", null, false));
+
+        // then
+        assertThat(gameStatsService.getStats().getVotes()).isEqualTo(4);
+        assertThat(gameStatsService.getStats().getAgreeRate()).isEqualTo(0.5);
+        assertThat(gameStatsService.getRoomStats("room-1").getAgreeRate()).isCloseTo(2.0 / 3, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("방이 삭제되면 방별 통계를 지우고 전체 누적값은 유지한다")
+    void removeDeletedRoom() {
+        // given
+        long now = System.currentTimeMillis();
+        gameStatsService.onRoomEvent(RoomEvent.joined("room-1", "player-1"));
+        gameStatsService.onRoomEvent(event(RoomEvent.Type.CONFESSION, now, "room-1", "c-1", null));
+
+        // when
+        gameStatsService.onRoomEvent(RoomEvent.roomDeleted("room-1"));
+
+        // then
+        assertThat(gameStatsService.getStats().getTrackedRooms()).isZero();
+        assertThat(gameStatsService.getStats().getConfessions()).isEqualTo(1);
+        assertThatThrownBy(() -> gameStatsService.getRoomStats("room-1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("삭제 뒤 늦게 도착한 이벤트는 방별 통계를 다시 만들지 않는다")
+    void ignoreLateEventAfterDelete() {
+        // given
+        long now = System.currentTimeMillis();
+        gameStatsService.onRoomEvent(RoomEvent.joined("room-1", "player-1"));
+        gameStatsService.onRoomEvent(RoomEvent.roomDeleted("room-1"));
+
+        // when
+        gameStatsService.onRoomEvent(event(RoomEvent.Type.CONFESSION, now, "room-1", "c-1", null));
+        gameStatsService.onRoomEvent(event(RoomEvent.Type.VOTE, now, "room-1", null, true));
+
+        // then
+        assertThat(gameStatsService.getStats().getTrackedRooms()).isZero();
+        assertThat(gameStatsService.getStats().getConfessions()).isEqualTo(1);
+    }
+}
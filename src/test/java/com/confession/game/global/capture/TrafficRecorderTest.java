@@ -0,0 +1,141 @@
+package com.confession.game.global.capture;
+
+import com.confession.game.global.config.GameProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TrafficRecorder 테스트")
+class TrafficRecorderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GameProperties gameProperties;
+
+    @BeforeEach
+    void setUp() {
+        gameProperties = new GameProperties();
+        gameProperties.getCapture().setEnabled(true);
+        gameProperties.getCapture().setDirectory(tempDir.toString());
+    }
+
+    private WebSocketSession session(String sessionId, String uri) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.getUri()).thenReturn(URI.create(uri));
+        return session;
+    }
+
+    private List<CaptureRecord> readCapture() throws Exception {
+        Path file;
+        try (Stream<Path> files = Files.list(tempDir)) {
+            file = files.findFirst().orElseThrow();
+        }
+
+        List<CaptureRecord> records = new ArrayList<>();
+        try (CaptureReader reader = new CaptureReader(file)) {
+            CaptureRecord record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    @Test
+    @DisplayName("연결, 명령, 종료를 순서와 시각대로 기록한다")
+    void recordConnectionLifecycle() throws Exception {
+        // given
+        TrafficRecorder recorder = new TrafficRecorder(gameProperties);
+        recorder.start();
+        WebSocketSession session = session("session-1", "ws://localhost/ws?multiplex=true");
+
+        // when
+        recorder.opened(session);
+        recorder.received(session, objectMapper.readTree("{\"type\":\"vote\",\"data\":{\"agree\":true}}"));
+        recorder.closed(session);
+        recorder.stop();
+
+        // then
+        List<CaptureRecord> records = readCapture();
+        assertThat(records).extracting(CaptureRecord::kind).containsExactly(
+                CaptureRecord.Kind.OPEN, CaptureRecord.Kind.MESSAGE, CaptureRecord.Kind.CLOSE);
+        assertThat(records).extracting(CaptureRecord::connection).containsOnly(0);
+        assertThat(records.get(0).value()).isEqualTo("multiplex=true");
+        assertThat(objectMapper.readTree(records.get(1).value()).get("type").asText()).isEqualTo("vote");
+        assertThat(records.get(1).offsetNanos()).isGreaterThanOrEqualTo(records.get(0).offsetNanos());
+        assertThat(recorder.writtenCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("본문은 같은 길이의 대체 문자로 바꿔 기록한다")
+    void redactText() throws Exception {
+        // given
+        TrafficRecorder recorder = new TrafficRecorder(gameProperties);
+        recorder.start();
+        WebSocketSession session = session("session-1", "ws://localhost/ws");
+        recorder.opened(session);
+
+        // when
+        recorder.received(session, objectMapper.readTree("["
+                + "{\"type\":\"send-chat-message\",\"data\":{\"message\":\"안녕하세요\"}},"
+                + "{\"type\":\"send-explanation\",\"data\":{\"confessionId\":\"1\",\"explanation\":\"사실은\"}}]"));
+        recorder.stop();
+
+        // then
+        String recorded = readCapture().get(1).value();
+        assertThat(recorded).doesNotContain("안녕하세요", "사실은");
+        assertThat(objectMapper.readTree(recorded).get(0).get("data").get("message").asText()).isEqualTo("xxxxx");
+        assertThat(objectMapper.readTree(recorded).get(1).get("data").get("confessionId").asText()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("캡처 시작 전에 열린 연결의 명령은 기록하지 않는다")
+    void skipUnknownSessions() throws Exception {
+        // given
+        TrafficRecorder recorder = new TrafficRecorder(gameProperties);
+        recorder.start();
+
+        // when
+        recorder.received(session("synthetic-1", "ws://localhost/ws"),
+                objectMapper.readTree("{\"type\":\"start-game\",\"data\":{}}"));
+        recorder.stop();
+
+        // then
+        assertThat(readCapture()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 파일을 만들지 않는다")
+    void disabled() throws Exception {
+        // given
+        gameProperties.getCapture().setEnabled(false);
+        TrafficRecorder recorder = new TrafficRecorder(gameProperties);
+
+        // when
+        recorder.start();
+        recorder.opened(session("session-1", "ws://localhost/ws"));
+        recorder.stop();
+
+        // then
+        assertThat(recorder.isRecording()).isFalse();
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.confession.game.global.cluster;
+
+import com.confession.game.domain.room.repository.RoomRepository;
+import com.confession.game.domain.room.service.RoomService;
+import com.confession.game.global.config.GameProperties;
+import com.confession.game.global.handler.WebSocketHandler;
+import com.confession.game.global.handler.WebSocketHandlerFixture;
+import com.confession.game.global.timer.HashedWheelTimer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RoomBroadcastBus 테스트")
+class RoomBroadcastBusTest {
+
+    private LoopbackTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        transport = new LoopbackTransport();
+    }
+
+    @Test
+    @DisplayName("구독한 다른 노드에만 노드당 한 번 전달하고 발행한 노드 자신은 받지 않는다")
+    void deliverOncePerSubscribedNode() {
+        // given
+        List<Object> received1 = new ArrayList<>();
+        List<Object> received2 = new ArrayList<>();
+        List<Object> received3 = new ArrayList<>();
+        RoomBroadcastBus node1 = new RoomBroadcastBus("node-1", transport, received1::add);
+        RoomBroadcastBus node2 = new RoomBroadcastBus("node-2", transport, received2::add);
+        RoomBroadcastBus node3 = new RoomBroadcastBus("node-3", transport, received3::add);
+        node1.refresh("room-1", () -> true);
+        node2.refresh("room-1", () -> true);
+        node3.refresh("room-2", () -> true);
+
+        RoomFrame frame = RoomFrame.toRoom("room-1", "{}", true);
+
+        // when
+        node1.publish(frame);
+
+        // then
+        assertThat(received1).isEmpty();
+        assertThat(received2).containsExactly(frame);
+        assertThat(received3).isEmpty();
+        assertThat(transport.deliveredCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로컬 연결이 없어지면 방 구독을 해제한다")
+    void unsubscribeWhenNoLocalSessions() {
+        // given
+        List<Object> received = new ArrayList<>();
+        RoomBroadcastBus node1 = new RoomBroadcastBus("node-1", transport, event -> {
+        });
+        RoomBroadcastBus node2 = new RoomBroadcastBus("node-2", transport, received::add);
+        node2.refresh("room-1", () -> true);
+
+        // when
+        node2.refresh("room-1", () -> false);
+        node1.publish(RoomFrame.toRoom("room-1", "{}", false));
+
+        // then
+        assertThat(node2.isSubscribed("room-1")).isFalse();
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전송 계층이 없으면 단일 노드로 동작한다")
+    void standaloneWithoutTransport() {
+        // given
+        RoomBroadcastBus bus = new RoomBroadcastBus("node-1", null, event -> {
+        });
+
+        // when
+        bus.refresh("room-1", () -> true);
+        bus.publish(RoomFrame.toRoom("room-1", "{}", false));
+
+        // then
+        assertThat(bus.isClustered()).isFalse();
+        assertThat(bus.subscribedRoomCount()).isZero();
+    }
+
+    @Nested
+    @DisplayName("노드 간 방 이벤트")
+    class CrossNodeTest {
+
+        private WebSocketHandler handler1;
+        private WebSocketHandler handler2;
+        private RoomBroadcastBus bus2;
+
+        @BeforeEach
+        void setUp() {
+            // 방 상태는 두 노드가 같은 저장소를 본다고 가정한다
+            GameProperties gameProperties = new GameProperties();
+            RoomService roomService = new RoomService(new RoomRepository(), gameProperties, null, event -> {
+            }, mock(HashedWheelTimer.class));
+
+            handler1 = WebSocketHandlerFixture.create(roomService, gameProperties,
+                    new RoomBroadcastBus("node-1", transport, event -> handler1.onRemoteFrame((RoomFrame) event)));
+            bus2 = new RoomBroadcastBus("node-2", transport, event -> handler2.onRemoteFrame((RoomFrame) event));
+            handler2 = WebSocketHandlerFixture.create(roomService, gameProperties, bus2);
+        }
+
+
+        private WebSocketSession openSession(String sessionId) {
+            WebSocketSession session = mock(WebSocketSession.class);
+            when(session.getId()).thenReturn(sessionId);
+            when(session.isOpen()).thenReturn(true);
+            return session;
+        }
+
+        private void join(WebSocketHandler handler, WebSocketSession session, String playerId) throws Exception {
+            handler.handleMessage(session, new TextMessage("{\"type\":\"join-room\",\"data\":{\"roomId\":\"room-1\","
+                    + "\"playerId\":\"" + playerId + "\",\"playerName\":\"" + playerId + "\"}}"));
+        }
+
+        private List<String> payloads(WebSocketSession session) throws Exception {
+            ArgumentCaptor<WebSocketMessage<?>> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+            verify(session, atLeast(0)).sendMessage(captor.capture());
+            return captor.getAllValues().stream()
+                    .map(message -> ((TextMessage) message).getPayload())
+                    .toList();
+        }
+
+        @Test
+        @DisplayName("다른 노드에 있는 같은 방 플레이어들도 채팅을 받는다")
+        void chatReachesRemotePlayers() throws Exception {
+            // given
+            WebSocketSession sender = openSession("s1");
+            WebSocketSession remote1 = openSession("s2");
+            WebSocketSession remote2 = openSession("s3");
+            join(handler1, sender, "p1");
+            join(handler2, remote1, "p2");
+            join(handler2, remote2, "p3");
+            long deliveredBefore = transport.deliveredCount();
+
+            // when
+            handler1.handleMessage(sender, new TextMessage(
+                    "{\"type\":\"send-chat-message\",\"data\":{\"message\":\"안녕\"}}"));
+
+            // then
+            assertThat(payloads(remote1)).filteredOn(payload -> payload.contains("chat-message")).hasSize(1);
+            assertThat(payloads(remote2)).filteredOn(payload -> payload.contains("chat-message")).hasSize(1);
+            // 두 플레이어가 있는 노드에도 한 번만 전달된다
+            assertThat(transport.deliveredCount() - deliveredBefore).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("노드의 마지막 연결이 나가면 그 방 이벤트를 더 받지 않는다")
+        void stopReceivingAfterLastLocalLeave() throws Exception {
+            // given
+            WebSocketSession local = openSession("s1");
+            WebSocketSession remote = openSession("s2");
+            join(handler1, local, "p1");
+            join(handler2, remote, "p2");
+
+            // when
+            handler2.afterConnectionClosed(remote, null);
+
+            // then
+            assertThat(bus2.isSubscribed("room-1")).isFalse();
+        }
+    }
+}
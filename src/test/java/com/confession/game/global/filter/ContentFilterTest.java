@@ -0,0 +1,106 @@
+package com.confession.game.global.filter;
+
+import com.confession.game.global.config.GameProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ContentFilter 테스트")
+class ContentFilterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private GameProperties gameProperties;
+    private ContentFilter contentFilter;
+
+    @BeforeEach
+    void setUp() {
+        gameProperties = new GameProperties();
+        gameProperties.getContentFilter().setTermsFile(tempDir.resolve("banned-terms.txt").toString());
+        contentFilter = new ContentFilter(gameProperties);
+    }
+
+    @Test
+    @DisplayName("겹치거나 포함된 금지어를 한 번에 모두 가린다")
+    void maskOverlappingTerms() {
+        // given
+        contentFilter.reload(List.of("바보", "바보야", "abcd", "bc", "she", "he"));
+
+        // when
+        String masked = contentFilter.apply("이 바보야 xabcdx ushers");
+
+        // then
+        assertThat(masked).isEqualTo("이 *** x****x u***rs");
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않는다")
+    void ignoreCase() {
+        // given
+        contentFilter.reload(List.of("Spam"));
+
+        // when
+        String masked = contentFilter.apply("SPAM and spam");
+
+        // then
+        assertThat(masked).isEqualTo("**** and ****");
+    }
+
+    @Test
+    @DisplayName("금지어가 없으면 같은 문자열을 그대로 반환한다")
+    void passThroughCleanText() {
+        // given
+        contentFilter.reload(List.of("바보"));
+        String text = "좋은 하루 되세요";
+
+        // when
+        String result = contentFilter.apply(text);
+
+        // then
+        assertThat(result).isSameAs(text);
+    }
+
+    @Test
+    @DisplayName("거절 모드에서는 금지어가 있는 메시지를 거절한다")
+    void rejectMode() {
+        // given
+        gameProperties.getContentFilter().setAction(GameProperties.ContentFilterConfig.Action.REJECT);
+        contentFilter.reload(List.of("바보"));
+
+        // when & then
+        assertThatThrownBy(() -> contentFilter.apply("너 바보"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("금지어가 포함된 메시지는 보낼 수 없습니다.");
+        assertThat(contentFilter.apply("안녕")).isEqualTo("안녕");
+    }
+
+    @Test
+    @DisplayName("목록 파일이 바뀌면 다시 읽어 새 목록으로 교체한다")
+    void reloadChangedFile() throws Exception {
+        // given
+        Path file = tempDir.resolve("banned-terms.txt");
+        Files.writeString(file, "# 주석\n바보\n\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_000));
+        contentFilter.reloadIfChanged();
+
+        // when
+        Files.writeString(file, "바보\n멍청이\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(2_000));
+        boolean reloaded = contentFilter.reloadIfChanged();
+
+        // then
+        assertThat(reloaded).isTrue();
+        assertThat(contentFilter.termCount()).isEqualTo(2);
+        assertThat(contentFilter.apply("멍청이")).isEqualTo("***");
+        assertThat(contentFilter.reloadIfChanged()).isFalse();
+    }
+}
@@ -0,0 +1,75 @@
+package com.confession.game.global.handler;
+
+import com.confession.game.global.config.GameProperties;
+import com.confession.game.global.exception.AdmissionRejectedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AdmissionController 테스트")
+class AdmissionControllerTest {
+
+    private GameProperties gameProperties;
+    private AdmissionController admissionController;
+
+    @BeforeEach
+    void setUp() {
+        gameProperties = new GameProperties();
+        admissionController = new AdmissionController(gameProperties);
+    }
+
+    @Test
+    @DisplayName("부하가 없으면 참가를 허용한다")
+    void admitWhenIdle() {
+        assertThatCode(() -> admissionController.checkAdmission(0))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("세션 수가 한도에 도달하면 server-busy 로 거절한다")
+    void rejectWhenSessionLimitReached() {
+        // given
+        gameProperties.getNode().setMaxSessions(10);
+
+        // when & then
+        assertThatThrownBy(() -> admissionController.checkAdmission(10))
+                .isInstanceOf(AdmissionRejectedException.class)
+                .extracting("reason")
+                .isEqualTo(AdmissionRejectedException.Reason.SERVER_BUSY);
+        assertThat(admissionController.rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 시간 이동평균이 임계값을 넘으면 혼잡으로 판단한다")
+    void overloadedBySlowHandler() {
+        // given
+        gameProperties.getAdmission().setLatencyThresholdMillis(10);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            admissionController.begin();
+            admissionController.end(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+
+        // then
+        assertThat(admissionController.isOverloaded()).isTrue();
+        assertThatThrownBy(() -> admissionController.checkAdmission(0))
+                .isInstanceOf(AdmissionRejectedException.class);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 처리 시간과 무관하게 허용한다")
+    void ignoreLatencyWhenDisabled() {
+        // given
+        gameProperties.getAdmission().setEnabled(false);
+        admissionController.begin();
+        admissionController.end(TimeUnit.SECONDS.toNanos(10));
+
+        // when & then
+        assertThat(admissionController.isOverloaded()).isFalse();
+    }
+}
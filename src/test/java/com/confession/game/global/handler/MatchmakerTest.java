@@ -0,0 +1,162 @@
+package com.confession.game.global.handler;
+
+import com.confession.game.domain.room.service.RoomService;
+import com.confession.game.global.config.GameProperties;
+import com.confession.game.global.exception.AdmissionRejectedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Matchmaker 테스트")
+class MatchmakerTest {
+
+    private RoomService roomService;
+    private GameProperties gameProperties;
+    private List<Object> events;
+    private Matchmaker matchmaker;
+
+    @BeforeEach
+    void setUp() {
+        roomService = mock(RoomService.class);
+        gameProperties = new GameProperties();
+        gameProperties.getMatchmaking().setMatchSize(3);
+        gameProperties.getMatchmaking().setMaxWaitMillis(1_000);
+        events = new ArrayList<>();
+        matchmaker = new Matchmaker(roomService, gameProperties, events::add);
+    }
+
+    private WebSocketSession openSession(String sessionId) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+
+    private void enqueuePlayers(int count) {
+        for (int i = 0; i < count; i++) {
+            matchmaker.enqueue(openSession("session-" + i), "player-" + i, "플레이어" + i);
+        }
+    }
+
+    @Test
+    @DisplayName("대기자를 matchSize 명씩 묶어 방을 만든다")
+    void formRoomsInBatches() {
+        // given
+        enqueuePlayers(7);
+
+        // when
+        matchmaker.runMatching(System.currentTimeMillis());
+
+        // then
+        assertThat(events).hasSize(2);
+        Matchmaker.MatchFoundEvent first = (Matchmaker.MatchFoundEvent) events.get(0);
+        assertThat(first.tickets()).extracting(Matchmaker.Ticket::playerId)
+                .containsExactly("player-0", "player-1", "player-2");
+        verify(roomService, times(6)).joinRoom(anyString(), anyString(), anyString(), anyString());
+        assertThat(matchmaker.waitingCount()).isEqualTo(1);
+        assertThat(matchmaker.matchedCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("오래 기다리면 최소 인원만으로도 방을 만든다")
+    void formSmallRoomAfterMaxWait() {
+        // given
+        enqueuePlayers(2);
+        matchmaker.runMatching(System.currentTimeMillis());
+        assertThat(events).isEmpty();
+
+        // when
+        matchmaker.runMatching(System.currentTimeMillis() + 2_000);
+
+        // then
+        assertThat(events).hasSize(1);
+        assertThat(((Matchmaker.MatchFoundEvent) events.get(0)).tickets()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("취소한 대기자는 매칭하지 않는다")
+    void skipCancelledTicket() {
+        // given
+        enqueuePlayers(4);
+
+        // when
+        matchmaker.cancel("session-1");
+        matchmaker.runMatching(System.currentTimeMillis());
+
+        // then
+        assertThat(events).hasSize(1);
+        assertThat(((Matchmaker.MatchFoundEvent) events.get(0)).tickets()).extracting(Matchmaker.Ticket::playerId)
+                .containsExactly("player-0", "player-2", "player-3");
+    }
+
+    @Test
+    @DisplayName("같은 세션은 중복으로 대기할 수 없다")
+    void rejectDuplicateTicket() {
+        // given
+        WebSocketSession session = openSession("session-1");
+
+        // when & then
+        assertThat(matchmaker.enqueue(session, "player-1", "플레이어1")).isTrue();
+        assertThat(matchmaker.enqueue(session, "player-1", "플레이어1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("방 생성이 거절되면 대기자를 다시 대기열에 넣는다")
+    void requeueWhenRoomCreationRejected() {
+        // given
+        enqueuePlayers(3);
+        when(roomService.joinRoom(anyString(), anyString(), anyString(), anyString()))
+                .thenThrow(new AdmissionRejectedException(AdmissionRejectedException.Reason.SERVER_BUSY, "한도 도달"));
+
+        // when
+        matchmaker.runMatching(System.currentTimeMillis());
+
+        // then
+        assertThat(events).isEmpty();
+        assertThat(matchmaker.waitingCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("일부만 참가한 뒤 방 생성이 실패하면 먼저 들어간 플레이어를 빼고 다시 대기열에 넣는다")
+    void rollbackPartialRoomWhenJoinFails() {
+        // given
+        enqueuePlayers(3);
+        when(roomService.joinRoom(anyString(), eq("player-2"), anyString(), anyString()))
+                .thenThrow(new AdmissionRejectedException(AdmissionRejectedException.Reason.ROOM_FULL, "방 인원 초과"));
+
+        // when
+        matchmaker.runMatching(System.currentTimeMillis());
+
+        // then
+        assertThat(events).isEmpty();
+        verify(roomService).leaveRoom(anyString(), eq("player-0"));
+        verify(roomService).leaveRoom(anyString(), eq("player-1"));
+        verify(roomService, never()).leaveRoom(anyString(), eq("player-2"));
+        assertThat(matchmaker.waitingCount()).isEqualTo(3);
+        assertThat(matchmaker.isClaimed("session-0")).isFalse();
+    }
+
+    @Test
+    @DisplayName("매칭이 확정된 티켓은 release 전까지 취소할 수 없다")
+    void claimedTicketCannotBeCancelled() {
+        // given
+        enqueuePlayers(3);
+        matchmaker.runMatching(System.currentTimeMillis());
+        Matchmaker.MatchFoundEvent event = (Matchmaker.MatchFoundEvent) events.get(0);
+
+        // when & then
+        assertThat(matchmaker.cancel("session-0")).isFalse();
+        assertThat(matchmaker.isClaimed("session-0")).isTrue();
+
+        event.tickets().forEach(matchmaker::release);
+        assertThat(matchmaker.isClaimed("session-0")).isFalse();
+    }
+}
@@ -0,0 +1,125 @@
+package com.confession.game.global.handler;
+
+import com.confession.game.global.config.GameProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import org.springframework.web.socket.TextMessage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ReactiveWebSocketHandler 테스트")
+class ReactiveWebSocketHandlerTest {
+
+    private WebSocketHandler webSocketHandler;
+    private GameProperties gameProperties;
+    private WebSocketSession session;
+    private final List<String> sentFrames = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        webSocketHandler = mock(WebSocketHandler.class);
+        gameProperties = new GameProperties();
+
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("reactive-1");
+        when(session.textMessage(anyString())).thenAnswer(invocation -> textMessage(invocation.getArgument(0)));
+        when(session.send(any())).thenAnswer(invocation -> {
+            Publisher<WebSocketMessage> frames = invocation.getArgument(0);
+            return Flux.from(frames).doOnNext(frame -> sentFrames.add(frame.getPayloadAsText())).then();
+        });
+        when(session.close(any())).thenReturn(Mono.empty());
+    }
+
+    private static WebSocketMessage textMessage(String payload) {
+        return new WebSocketMessage(WebSocketMessage.Type.TEXT,
+                DefaultDataBufferFactory.sharedInstance.wrap(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("받은 프레임을 순서대로 공용 핸들러에 넘기고, 연결이 끝나면 종료 처리를 맡긴다")
+    void dispatchFramesInOrder() throws Exception {
+        // given
+        when(session.receive()).thenReturn(Flux.just(textMessage("first"), textMessage("second")));
+        doAnswer(invocation -> {
+            org.springframework.web.socket.WebSocketSession adapter = invocation.getArgument(0);
+            TextMessage message = invocation.getArgument(1);
+            adapter.sendMessage(new TextMessage("echo:" + message.getPayload()));
+            return null;
+        }).when(webSocketHandler).handleMessage(any(), any());
+        ReactiveWebSocketHandler handler = new ReactiveWebSocketHandler(webSocketHandler, gameProperties);
+
+        // when
+        handler.handle(session).block(Duration.ofSeconds(5));
+
+        // then
+        ArgumentCaptor<org.springframework.web.socket.WebSocketMessage<?>> messages =
+                ArgumentCaptor.forClass(org.springframework.web.socket.WebSocketMessage.class);
+        InOrder inOrder = inOrder(webSocketHandler);
+        inOrder.verify(webSocketHandler).afterConnectionEstablished(any());
+        inOrder.verify(webSocketHandler, times(2)).handleMessage(any(), messages.capture());
+        inOrder.verify(webSocketHandler).afterConnectionClosed(any(), any());
+        assertThat(messages.getAllValues()).extracting(message -> message.getPayload())
+                .containsExactly("first", "second");
+        assertThat(sentFrames).containsExactly("echo:first", "echo:second");
+    }
+
+    @Test
+    @DisplayName("송신 대기열이 넘치면 수신이 느린 연결로 보고 끊는다")
+    void closeSlowConsumer() {
+        // given
+        when(session.isOpen()).thenReturn(true);
+        ReactiveSessionAdapter adapter = new ReactiveSessionAdapter(session, 2, 1);
+
+        // when
+        adapter.sendMessage(new TextMessage("1"));
+        adapter.sendMessage(new TextMessage("2"));
+        adapter.sendMessage(new TextMessage("3"));
+
+        // then
+        ArgumentCaptor<CloseStatus> status = ArgumentCaptor.forClass(CloseStatus.class);
+        verify(session).close(status.capture());
+        assertThat(status.getValue().getCode())
+                .isEqualTo(org.springframework.web.socket.CloseStatus.SESSION_NOT_RELIABLE.getCode());
+        assertThat(adapter.isOpen()).isFalse();
+        assertThat(adapter.backlog()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("송신 대기열이 밀려 있으면 빠질 때까지 다음 수신을 미룬다")
+    void pauseReadsWhileBacklogged() {
+        // given
+        ReactiveSessionAdapter adapter = new ReactiveSessionAdapter(session, 8, 1);
+        adapter.sendMessage(new TextMessage("1"));
+        adapter.sendMessage(new TextMessage("2"));
+        adapter.sendMessage(new TextMessage("3"));
+        AtomicBoolean readable = new AtomicBoolean();
+
+        // when
+        adapter.whenWritable().subscribe(null, null, () -> readable.set(true));
+        boolean readableBeforeDrain = readable.get();
+        adapter.frames().take(2).subscribe();
+
+        // then
+        assertThat(readableBeforeDrain).isFalse();
+        assertThat(readable).isTrue();
+        assertThat(adapter.backlog()).isEqualTo(1);
+    }
+}
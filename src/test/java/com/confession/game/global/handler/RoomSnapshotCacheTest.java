@@ -0,0 +1,90 @@
+package com.confession.game.global.handler;
+
+import com.confession.game.domain.room.entity.Room;
+import com.confession.game.domain.room.event.RoomEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RoomSnapshotCache 테스트")
+class RoomSnapshotCacheTest {
+
+    private RoomSnapshotCache snapshotCache;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        snapshotCache = new RoomSnapshotCache();
+        room = Room.builder().roomId("room-1").build();
+        room.addPlayer("player-1", "플레이어1", "session-1");
+        room.addPlayer("player-2", "플레이어2", "session-2");
+    }
+
+    @Test
+    @DisplayName("방이 바뀌지 않았으면 인코딩 결과를 재사용한다")
+    void reuseUntilMutation() {
+        // given
+        Object first = snapshotCache.fullState(room).rawValue();
+
+        // when
+        Object second = snapshotCache.fullState(room).rawValue();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(snapshotCache.hitCount()).isEqualTo(1);
+        assertThat(snapshotCache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("방 상태가 바뀌면 다시 인코딩한다")
+    void invalidateOnMutation() {
+        // given
+        String before = (String) snapshotCache.fullState(room).rawValue();
+
+        // when
+        room.startGame();
+        String after = (String) snapshotCache.fullState(room).rawValue();
+
+        // then
+        assertThat(after).isNotEqualTo(before);
+        assertThat(after).contains("PLAYING");
+    }
+
+    @Test
+    @DisplayName("관전자용 상태에는 고해성사가 포함되지 않는다")
+    void publicStateHidesConfessions() {
+        // given
+        room.startGame();
+        String sender = room.getPlayers().keySet().stream()
+                .filter(id -> !id.equals(room.getCurrentTarget()))
+                .findFirst()
+                .orElseThrow();
+        room.addConfession(sender, "비밀 고해성사");
+
+        // when
+        String full = (String) snapshotCache.fullState(room).rawValue();
+        String publicState = (String) snapshotCache.publicState(room).rawValue();
+
+        // then
+        assertThat(full).contains("비밀 고해성사");
+        assertThat(publicState).doesNotContain("비밀 고해성사");
+    }
+
+    @Test
+    @DisplayName("같은 ID 로 새로 만든 방은 이전 스냅샷을 쓰지 않는다")
+    void distinguishRecreatedRoom() {
+        // given
+        snapshotCache.fullState(room);
+        snapshotCache.onRoomEvent(RoomEvent.roomDeleted("room-1"));
+        Room recreated = Room.builder().roomId("room-1").build();
+
+        // when
+        String state = (String) snapshotCache.fullState(recreated).rawValue();
+
+        // then
+        assertThat(state).doesNotContain("player-1");
+        assertThat(snapshotCache.missCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,78 @@
+package com.confession.game.global.handler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SessionIndex 테스트")
+class SessionIndexTest {
+
+    private SessionIndex sessionIndex;
+
+    @BeforeEach
+    void setUp() {
+        sessionIndex = new SessionIndex();
+    }
+
+    private WebSocketSession session(String sessionId) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        return session;
+    }
+
+    @Test
+    @DisplayName("한 연결이 여러 방에 참가하고 방과 플레이어로 연결을 찾는다")
+    void joinManyRooms() {
+        // given
+        WebSocketSession session = session("session-1");
+
+        // when
+        sessionIndex.join(session, "room-1", "player-1");
+        sessionIndex.join(session, "room-2", "player-1");
+
+        // then
+        assertThat(sessionIndex.memberships("session-1")).containsOnlyKeys("room-1", "room-2");
+        assertThat(sessionIndex.member("room-2", "player-1").session()).isSameAs(session);
+        assertThat(sessionIndex.members("room-1")).hasSize(1);
+        assertThat(sessionIndex.sessionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("방 하나에서 나가도 다른 방 참가는 유지되고, 모두 나가면 연결이 사라진다")
+    void leaveRooms() {
+        // given
+        WebSocketSession session = session("session-1");
+        sessionIndex.join(session, "room-1", "player-1");
+        sessionIndex.join(session, "room-2", "player-1");
+
+        // when
+        sessionIndex.leave("session-1", "room-1");
+
+        // then
+        assertThat(sessionIndex.members("room-1")).isEmpty();
+        assertThat(sessionIndex.roomIds()).containsExactly("room-2");
+        assertThat(sessionIndex.leaveAll("session-1")).hasSize(1);
+        assertThat(sessionIndex.isMember("session-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 플레이어가 다른 연결로 다시 참가하면 이전 연결의 참가는 지워진다")
+    void rejoinFromAnotherSession() {
+        // given
+        WebSocketSession previous = session("session-1");
+        WebSocketSession current = session("session-2");
+        sessionIndex.join(previous, "room-1", "player-1");
+
+        // when
+        sessionIndex.join(current, "room-1", "player-1");
+
+        // then
+        assertThat(sessionIndex.isMember("session-1")).isFalse();
+        assertThat(sessionIndex.leaveAll("session-1")).isEmpty();
+        assertThat(sessionIndex.member("room-1", "player-1").session()).isSameAs(current);
+    }
+}
@@ -0,0 +1,117 @@
+package com.confession.game.global.handler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SpectatorRegistry 테스트")
+class SpectatorRegistryTest {
+
+    private SpectatorRegistry spectatorRegistry;
+
+    @BeforeEach
+    void setUp() {
+        spectatorRegistry = new SpectatorRegistry();
+    }
+
+    private WebSocketSession openSession(String sessionId) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+
+    @Test
+    @DisplayName("관전자에게 같은 프레임을 전송한다")
+    void publishSharedFrame() throws Exception {
+        // given
+        WebSocketSession first = openSession("spectator-1");
+        WebSocketSession second = openSession("spectator-2");
+        spectatorRegistry.subscribe("room-1", first);
+        spectatorRegistry.subscribe("room-1", second);
+        TextMessage message = new TextMessage("{\"type\":\"game-started\"}");
+
+        // when
+        spectatorRegistry.publish("room-1", session -> session.sendMessage(message));
+
+        // then
+        verify(first).sendMessage(same(message));
+        verify(second).sendMessage(same(message));
+    }
+
+    @Test
+    @DisplayName("한 관전자에게 전송이 실패해도 나머지 관전자에게 계속 보낸다")
+    void continueAfterSendFailure() throws Exception {
+        // given
+        WebSocketSession broken = openSession("spectator-1");
+        WebSocketSession healthy = openSession("spectator-2");
+        spectatorRegistry.subscribe("room-1", broken);
+        spectatorRegistry.subscribe("room-1", healthy);
+        TextMessage message = new TextMessage("{\"type\":\"game-started\"}");
+        doThrow(new IOException("closed")).when(broken).sendMessage(any());
+
+        // when
+        spectatorRegistry.publish("room-1", session -> session.sendMessage(message));
+
+        // then
+        verify(healthy).sendMessage(same(message));
+    }
+
+    @Test
+    @DisplayName("다른 방을 관전하면 이전 방 구독이 해제된다")
+    void moveToAnotherRoom() {
+        // given
+        WebSocketSession session = openSession("spectator-1");
+        spectatorRegistry.subscribe("room-1", session);
+
+        // when
+        spectatorRegistry.subscribe("room-2", session);
+
+        // then
+        assertThat(spectatorRegistry.countSpectators("room-1")).isZero();
+        assertThat(spectatorRegistry.countSpectators("room-2")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다중 방 연결은 여러 방을 함께 관전하고 방별로 해제할 수 있다")
+    void subscribeMultipleRooms() {
+        // given
+        WebSocketSession session = openSession("spectator-1");
+        spectatorRegistry.addSubscription("room-1", session);
+        spectatorRegistry.addSubscription("room-2", session);
+
+        // when
+        boolean removed = spectatorRegistry.unsubscribe(session, "room-1");
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(spectatorRegistry.isSpectating("spectator-1", "room-1")).isFalse();
+        assertThat(spectatorRegistry.isSpectating("spectator-1", "room-2")).isTrue();
+        assertThat(spectatorRegistry.countSpectators("room-2")).isEqualTo(1);
+        assertThat(spectatorRegistry.totalSpectators()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구독을 해제하면 더 이상 관전자로 취급하지 않는다")
+    void unsubscribe() {
+        // given
+        WebSocketSession session = openSession("spectator-1");
+        spectatorRegistry.subscribe("room-1", session);
+
+        // when
+        Set<String> roomIds = spectatorRegistry.unsubscribe(session);
+
+        // then
+        assertThat(roomIds).containsExactly("room-1");
+        assertThat(spectatorRegistry.isSpectator("spectator-1")).isFalse();
+        assertThat(spectatorRegistry.countSpectators("room-1")).isZero();
+    }
+}
@@ -0,0 +1,38 @@
+package com.confession.game.global.handler;
+
+import com.confession.game.domain.room.service.RoomService;
+import com.confession.game.global.capture.TrafficRecorder;
+import com.confession.game.global.cluster.RoomBroadcastBus;
+import com.confession.game.global.config.GameProperties;
+import com.confession.game.global.filter.ContentFilter;
+
+/**
+ * 테스트와 벤치마크에서 스프링 없이 WebSocketHandler 를 조립한다.
+ * 핸들러에 협력 객체가 늘면 이 파일만 고친다.
+ */
+public final class WebSocketHandlerFixture {
+
+    private WebSocketHandlerFixture() {
+    }
+
+    /**
+     * 단일 노드(다른 노드로 중계하지 않는 브로드캐스트 버스)용 핸들러.
+     */
+    public static WebSocketHandler create(RoomService roomService, GameProperties gameProperties) {
+        return create(roomService, gameProperties, new RoomBroadcastBus("node-1", null, event -> {
+        }));
+    }
+
+    public static WebSocketHandler create(RoomService roomService, GameProperties gameProperties,
+                                          RoomBroadcastBus roomBroadcastBus) {
+        return create(roomService, gameProperties, roomBroadcastBus, new AdmissionController(gameProperties));
+    }
+
+    public static WebSocketHandler create(RoomService roomService, GameProperties gameProperties,
+                                          RoomBroadcastBus roomBroadcastBus, AdmissionController admissionController) {
+        return new WebSocketHandler(roomService, new SpectatorRegistry(), admissionController,
+                gameProperties, new ConfessionFrameEncoder(), new Matchmaker(roomService, gameProperties, event -> {
+        }), new RoomSnapshotCache(), roomBroadcastBus, new ContentFilter(gameProperties),
+                new TrafficRecorder(gameProperties));
+    }
+}
@@ -0,0 +1,637 @@
+package com.confession.game.global.handler;
+
+import com.confession.game.domain.room.entity.Room;
+import com.confession.game.domain.room.event.RoomEvent;
+import com.confession.game.domain.room.repository.RoomRepository;
+import com.confession.game.domain.room.service.RoomService;
+import com.confession.game.global.cluster.RoomBroadcastBus;
+import com.confession.game.global.config.GameProperties;
+import com.confession.game.global.timer.HashedWheelTimer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("WebSocketHandler 테스트")
+class WebSocketHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GameProperties gameProperties;
+    private WebSocketHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        gameProperties = new GameProperties();
+        RoomService roomService = new RoomService(new RoomRepository(), gameProperties, null, event -> {
+        }, mock(HashedWheelTimer.class));
+        handler = WebSocketHandlerFixture.create(roomService, gameProperties);
+    }
+
+    private WebSocketSession openSession(String sessionId) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+
+    private WebSocketSession multiplexedSession(String sessionId) {
+        WebSocketSession session = openSession(sessionId);
+        when(session.getUri()).thenReturn(URI.create("ws://localhost/ws?multiplex=true&coalesce=true"));
+        return session;
+    }
+
+    private WebSocketSession coalescingSession(String sessionId) {
+        WebSocketSession session = openSession(sessionId);
+        when(session.getUri()).thenReturn(URI.create("ws://localhost/ws?coalesce=true"));
+        return session;
+    }
+
+    private String joinRoom(String roomId, String playerId) {
+        return "{\"type\":\"join-room\",\"data\":{\"roomId\":\"" + roomId + "\",\"playerId\":\"" + playerId
+                + "\",\"playerName\":\"" + playerId + "\"}}";
+    }
+
+    private List<JsonNode> sentFrames(WebSocketSession session) throws Exception {
+        ArgumentCaptor<WebSocketMessage<?>> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(session, atLeast(0)).sendMessage(captor.capture());
+
+        List<JsonNode> frames = new ArrayList<>();
+        for (WebSocketMessage<?> message : captor.getAllValues()) {
+            frames.add(objectMapper.readTree(((TextMessage) message).getPayload()));
+        }
+        return frames;
+    }
+
+    private List<String> batchTypes(JsonNode batch) {
+        List<String> types = new ArrayList<>();
+        batch.get("data").forEach(node -> types.add(node.get("type").asText()));
+        return types;
+    }
+
+    private void send(WebSocketSession session, String payload) throws Exception {
+        handler.handleMessage(session, new TextMessage(payload));
+    }
+
+    @Test
+    @DisplayName("워밍업용으로 예약된 방 ID 로는 참가할 수 없다")
+    void rejectReservedSyntheticRoomId() throws Exception {
+        // given
+        WebSocketSession session = openSession("session-1");
+
+        // when
+        send(session, joinRoom(RoomEvent.SYNTHETIC_ROOM_PREFIX + "1", "player-1"));
+
+        // then
+        List<JsonNode> frames = sentFrames(session);
+        assertThat(frames).hasSize(1);
+        assertThat(frames.get(0).get("type").asText()).isEqualTo("error");
+    }
+
+    @Nested
+    @DisplayName("송신 프레임 병합 테스트")
+    class OutboundCoalescingTest {
+
+        @Test
+        @DisplayName("이벤트가 하나뿐이면 batch 로 감싸지 않는다")
+        void sendSingleFrameAsIs() throws Exception {
+            // given
+            WebSocketSession session = openSession("session-1");
+
+            // when
+            send(session, "{\"type\":\"start-game\",\"data\":{}}");
+
+            // then
+            List<JsonNode> frames = sentFrames(session);
+            assertThat(frames).hasSize(1);
+            assertThat(frames.get(0).get("type").asText()).isEqualTo("error");
+        }
+
+        @Test
+        @DisplayName("coalesce=true 로 연결하면 한 번의 호출에서 같은 세션으로 가는 이벤트를 한 프레임으로 묶는다")
+        void coalesceFramesPerSession() throws Exception {
+            // given
+            WebSocketSession first = openSession("session-1");
+            WebSocketSession second = coalescingSession("session-2");
+
+            // when
+            send(first, "{\"type\":\"join-room\",\"data\":{\"roomId\":\"room-1\",\"playerId\":\"player-1\",\"playerName\":\"플레이어1\"}}");
+            send(second, "{\"type\":\"join-room\",\"data\":{\"roomId\":\"room-1\",\"playerId\":\"player-2\",\"playerName\":\"플레이어2\"}}");
+
+            // then
+            List<JsonNode> frames = sentFrames(second);
+            assertThat(frames).hasSize(1);
+            assertThat(frames.get(0).get("type").asText()).isEqualTo("batch");
+            assertThat(batchTypes(frames.get(0))).containsExactly("join-room-success", "player-list-updated");
+        }
+
+        @Test
+        @DisplayName("coalesce 를 요청하지 않은 세션에는 이벤트를 한 프레임씩 보낸다")
+        void sendFramesSeparatelyByDefault() throws Exception {
+            // given
+            WebSocketSession first = openSession("session-1");
+            WebSocketSession second = openSession("session-2");
+
+            // when
+            send(first, joinRoom("room-1", "player-1"));
+            send(second, joinRoom("room-1", "player-2"));
+
+            // then
+            assertThat(sentFrames(second)).extracting(frame -> frame.get("type").asText())
+                    .containsExactly("join-room-success", "player-list-updated");
+        }
+    }
+
+    @Nested
+    @DisplayName("배치 명령 테스트")
+    class BatchTest {
+
+        @Test
+        @DisplayName("배치 명령을 순서대로 실행하고 발신자 응답을 프레임 하나로 묶는다")
+        void executeBatchInOrder() throws Exception {
+            // given
+            WebSocketSession first = coalescingSession("session-1");
+            WebSocketSession second = openSession("session-2");
+            send(first, "{\"type\":\"join-room\",\"data\":{\"roomId\":\"room-1\",\"playerId\":\"player-1\",\"playerName\":\"플레이어1\"}}");
+            clearInvocations(first);
+
+            // when
+            send(second, "["
+                    + "{\"type\":\"join-room\",\"data\":{\"roomId\":\"room-1\",\"playerId\":\"player-2\",\"playerName\":\"플레이어2\"}},"
+                    + "{\"type\":\"send-chat-message\",\"data\":{\"message\":\"안녕하세요\"}},"
+                    + "{\"type\":\"fetch-chat-history\",\"data\":{}}"
+                    + "]");
+
+            // then
+            List<JsonNode> frames = sentFrames(second);
+            assertThat(frames).hasSize(1);
+            assertThat(frames.get(0).get("type").asText()).isEqualTo("batch");
+            assertThat(batchTypes(frames.get(0)))
+                    .containsExactly("join-room-success", "player-list-updated", "chat-message", "chat-history");
+
+            // 다른 플레이어가 받을 이벤트도 같은 호출 안에서 한 프레임으로 묶인다
+            List<JsonNode> otherFrames = sentFrames(first);
+            assertThat(otherFrames).hasSize(1);
+            assertThat(batchTypes(otherFrames.get(0))).containsExactly("player-list-updated", "chat-message");
+        }
+
+        @Test
+        @DisplayName("실패한 명령의 에러도 같은 위치에 담고 나머지 명령을 계속 실행한다")
+        void continueAfterFailedCommand() throws Exception {
+            // given
+            WebSocketSession session = openSession("session-1");
+
+            // when
+            send(session, "["
+                    + "{\"type\":\"start-game\",\"data\":{}},"
+                    + "{\"type\":\"join-room\",\"data\":{\"roomId\":\"room-1\",\"playerId\":\"player-1\",\"playerName\":\"플레이어1\"}}"
+                    + "]");
+
+            // then
+            JsonNode batch = sentFrames(session).get(0);
+            assertThat(batch.get("data").get(0).get("type").asText()).isEqualTo("error");
+            assertThat(batch.get("data").get(1).get("type").asText()).isEqualTo("join-room-success");
+        }
+
+        @Test
+        @DisplayName("명령 수가 한도를 넘으면 실행하지 않는다")
+        void rejectOversizedBatch() throws Exception {
+            // given
+            WebSocketSession session = openSession("session-1");
+            StringBuilder payload = new StringBuilder("[");
+            for (int i = 0; i < 33; i++) {
+                payload.append(i == 0 ? "" : ",").append("{\"type\":\"cancel-match\",\"data\":{}}");
+            }
+            payload.append("]");
+
+            // when
+            send(session, payload.toString());
+
+            // then
+            List<JsonNode> frames = sentFrames(session);
+            assertThat(frames).hasSize(1);
+            assertThat(frames.get(0).get("type").asText()).isEqualTo("error");
+        }
+    }
+
+    @Nested
+    @DisplayName("다중 방 연결 테스트")
+    class MultiplexTest {
+
+        @Test
+        @DisplayName("한 연결로 여러 방에 참가하고 이벤트마다 방 ID 가 붙는다")
+        void joinMultipleRooms() throws Exception {
+            // given
+            WebSocketSession session = multiplexedSession("session-1");
+
+            // when
+            send(session, joinRoom("room-1", "player-1"));
+            send(session, joinRoom("room-2", "player-1"));
+
+            // then
+            List<JsonNode> frames = sentFrames(session);
+            assertThat(frames).hasSize(2);
+            assertThat(batchTypes(frames.get(1))).containsExactly("join-room-success", "player-list-updated");
+            assertThat(frames.get(0).get("data").get(0).get("roomId").asText()).isEqualTo("room-1");
+            assertThat(frames.get(1).get("data").get(0).get("roomId").asText()).isEqualTo("room-2");
+        }
+
+        @Test
+        @DisplayName("방 안 명령은 roomId 로 대상 방을 고르고, 없으면 거절한다")
+        void routeCommandByRoomId() throws Exception {
+            // given
+            WebSocketSession session = multiplexedSession("session-1");
+            WebSocketSession other = openSession("session-2");
+            send(session, joinRoom("room-1", "player-1"));
+            send(session, joinRoom("room-2", "player-1"));
+            send(other, joinRoom("room-2", "player-2"));
+            clearInvocations(session, other);
+
+            // when
+            send(session, "{\"type\":\"send-chat-message\",\"data\":{\"message\":\"안녕하세요\"}}");
+            send(session, "{\"type\":\"send-chat-message\",\"roomId\":\"room-2\",\"data\":{\"message\":\"안녕하세요\"}}");
+
+            // then
+            List<JsonNode> frames = sentFrames(session);
+            assertThat(frames.get(0).get("type").asText()).isEqualTo("error");
+            assertThat(frames.get(1).get("type").asText()).isEqualTo("chat-message");
+            assertThat(frames.get(1).get("roomId").asText()).isEqualTo("room-2");
+
+            List<JsonNode> otherFrames = sentFrames(other);
+            assertThat(otherFrames).hasSize(1);
+            assertThat(otherFrames.get(0).get("roomId").asText()).isEqualTo("room-2");
+        }
+
+        @Test
+        @DisplayName("roomId 를 지정한 leave-room 은 그 방에서만 나간다")
+        void leaveSingleRoom() throws Exception {
+            // given
+            WebSocketSession session = multiplexedSession("session-1");
+            WebSocketSession other = openSession("session-2");
+            send(session, joinRoom("room-1", "player-1"));
+            send(session, joinRoom("room-2", "player-1"));
+            send(other, joinRoom("room-1", "player-2"));
+            clearInvocations(session, other);
+
+            // when
+            send(session, "{\"type\":\"leave-room\",\"roomId\":\"room-1\",\"data\":{}}");
+            send(session, "{\"type\":\"fetch-chat-history\",\"data\":{}}");
+
+            // then
+            assertThat(sentFrames(other).get(0).get("type").asText()).isEqualTo("player-list-updated");
+            JsonNode history = sentFrames(session).get(0);
+            assertThat(history.get("type").asText()).isEqualTo("chat-history");
+            assertThat(history.get("roomId").asText()).isEqualTo("room-2");
+        }
+
+        @Test
+        @DisplayName("단일 방 연결은 다른 방에 참가하면 이전 방에서 나간다")
+        void singleRoomConnectionMoves() throws Exception {
+            // given
+            WebSocketSession session = openSession("session-1");
+            WebSocketSession other = openSession("session-2");
+            send(session, joinRoom("room-1", "player-1"));
+            send(other, joinRoom("room-1", "player-2"));
+            clearInvocations(other);
+
+            // when
+            send(session, joinRoom("room-2", "player-1"));
+
+            // then
+            JsonNode update = sentFrames(other).get(0);
+            assertThat(update.get("type").asText()).isEqualTo("player-list-updated");
+            assertThat(update.get("data").get("players").size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("조각 메시지 테스트")
+    class PartialMessageTest {
+
+        @Test
+        @DisplayName("조각으로 나뉜 메시지를 마지막 조각에서 실행한다")
+        void assembleFragments() throws Exception {
+            // given
+            WebSocketSession session = coalescingSession("session-1");
+            String payload = joinRoom("room-1", "player-1");
+            int third = payload.length() / 3;
+
+            // when
+            handler.handleMessage(session, new TextMessage(payload.substring(0, third), false));
+            handler.handleMessage(session, new TextMessage(payload.substring(third, third * 2), false));
+            List<JsonNode> beforeLast = sentFrames(session);
+            handler.handleMessage(session, new TextMessage(payload.substring(third * 2), true));
+
+            // then
+            assertThat(beforeLast).isEmpty();
+            assertThat(sentFrames(session).get(0).get("type").asText()).isEqualTo("batch");
+            assertThat(batchTypes(sentFrames(session).get(0))).containsExactly("join-room-success", "player-list-updated");
+        }
+
+        @Test
+        @DisplayName("전체 길이가 한도를 넘으면 바로 거절하고 나머지 조각은 버린다")
+        void rejectOversizedMessageEarly() throws Exception {
+            // given
+            gameProperties.getInbound().setMaxMessageChars(64);
+            WebSocketSession session = coalescingSession("session-1");
+            String chunk = "{\"type\":\"send-chat-message\",\"data\":{\"message\":\"" + "가".repeat(10);
+
+            // when
+            handler.handleMessage(session, new TextMessage(chunk, false));
+            handler.handleMessage(session, new TextMessage("가".repeat(40), false));
+            List<JsonNode> afterLimit = sentFrames(session);
+            handler.handleMessage(session, new TextMessage("\"}}", true));
+            handler.handleMessage(session, new TextMessage(joinRoom("room-1", "player-1")));
+
+            // then
+            assertThat(afterLimit).hasSize(1);
+            assertThat(afterLimit.get(0).get("data").get("message").asText()).startsWith("메시지가 너무 깁니다.");
+            // 버린 메시지 뒤의 다음 메시지는 정상 처리된다
+            List<JsonNode> frames = sentFrames(session);
+            assertThat(frames).hasSize(2);
+            assertThat(batchTypes(frames.get(1))).containsExactly("join-room-success", "player-list-updated");
+        }
+
+        @Test
+        @DisplayName("본문이 한도보다 길면 방에 전달하지 않는다")
+        void rejectLongText() throws Exception {
+            // given
+            gameProperties.getInbound().setMaxTextChars(10);
+            WebSocketSession session = openSession("session-1");
+            send(session, joinRoom("room-1", "player-1"));
+            clearInvocations(session);
+
+            // when
+            send(session, "{\"type\":\"send-chat-message\",\"data\":{\"message\":\"" + "가".repeat(11) + "\"}}");
+
+            // then
+            List<JsonNode> frames = sentFrames(session);
+            assertThat(frames).hasSize(1);
+            assertThat(frames.get(0).get("type").asText()).isEqualTo("error");
+            assertThat(frames.get(0).get("data").get("message").asText()).isEqualTo("내용은 최대 10자까지 보낼 수 있습니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("방 강제 종료 테스트")
+    class CloseRoomTest {
+
+        @Test
+        @DisplayName("참가자에게 알린 뒤 연결은 유지한 채 방에서 떼어 낸다")
+        void closeRoomAndDetachPlayers() throws Exception {
+            // given
+            WebSocketSession first = openSession("session-1");
+            WebSocketSession second = openSession("session-2");
+            send(first, joinRoom("room-1", "player-1"));
+            send(second, joinRoom("room-1", "player-2"));
+            clearInvocations(first, second);
+
+            // when
+            boolean closed = handler.closeRoom("room-1");
+
+            // then
+            assertThat(closed).isTrue();
+            assertThat(sentFrames(second)).extracting(frame -> frame.get("type").asText()).containsExactly("room-closed");
+            assertThat(handler.describeSessions("room-1")).isEmpty();
+            verify(second, never()).close(any());
+
+            clearInvocations(second);
+            send(second, "{\"type\":\"start-game\",\"data\":{}}");
+            assertThat(sentFrames(second).get(0).get("data").get("message").asText()).isEqualTo("세션 정보를 찾을 수 없습니다.");
+        }
+
+        @Test
+        @DisplayName("없는 방은 닫지 않는다")
+        void closeUnknownRoom() {
+            // when
+            boolean closed = handler.closeRoom("room-unknown");
+
+            // then
+            assertThat(closed).isFalse();
+        }
+
+        @Test
+        @DisplayName("마지막 플레이어가 나가 방이 삭제되면 관전자에게 알리고 구독을 지운다")
+        void clearSpectatorsWhenRoomDeleted() throws Exception {
+            // given
+            WebSocketHandler[] holder = new WebSocketHandler[1];
+            RoomService roomService = new RoomService(new RoomRepository(), gameProperties, null, event -> {
+                if (event instanceof RoomEvent roomEvent) {
+                    holder[0].onRoomEvent(roomEvent);
+                }
+            }, mock(HashedWheelTimer.class));
+            WebSocketHandler listening = WebSocketHandlerFixture.create(roomService, gameProperties);
+            holder[0] = listening;
+            WebSocketSession player = openSession("session-1");
+            WebSocketSession spectator = openSession("session-2");
+            listening.handleMessage(player, new TextMessage(joinRoom("room-1", "player-1")));
+            listening.handleMessage(spectator, new TextMessage("{\"type\":\"spectate-room\",\"data\":{\"roomId\":\"room-1\"}}"));
+            clearInvocations(spectator);
+
+            // when
+            listening.handleMessage(player, new TextMessage("{\"type\":\"leave-room\",\"data\":{}}"));
+            listening.handleMessage(openSession("session-3"), new TextMessage(joinRoom("room-1", "player-2")));
+
+            // then
+            assertThat(sentFrames(spectator)).extracting(frame -> frame.get("type").asText())
+                    .containsExactly("room-closed");
+        }
+    }
+
+    @Nested
+    @DisplayName("수신 파이프라인 테스트")
+    class PipelineTest {
+
+        @BeforeEach
+        void enablePipeline() {
+            gameProperties.getPipeline().setEnabled(true);
+            gameProperties.getPipeline().setRingSize(64);
+            gameProperties.getPipeline().setRoomWorkers(2);
+            handler.startPipeline();
+        }
+
+        private List<String> frameTypes(WebSocketSession session) throws Exception {
+            List<String> types = new ArrayList<>();
+            for (JsonNode frame : sentFrames(session)) {
+                if (frame.get("type").asText().equals("batch")) {
+                    types.addAll(batchTypes(frame));
+                } else {
+                    types.add(frame.get("type").asText());
+                }
+            }
+            return types;
+        }
+
+        @Test
+        @DisplayName("명령은 단계 스레드가 처리하고 응답은 송신 단계가 보낸다")
+        void processOnStageThreads() throws Exception {
+            // given
+            WebSocketSession first = openSession("session-1");
+            WebSocketSession second = openSession("session-2");
+            List<String> senderThreads = new CopyOnWriteArrayList<>();
+            doAnswer(invocation -> {
+                senderThreads.add(Thread.currentThread().getName());
+                return null;
+            }).when(second).sendMessage(any());
+
+            // when
+            send(first, joinRoom("room-1", "player-1"));
+            send(second, joinRoom("room-1", "player-2"));
+            handler.stopPipeline();
+
+            // then
+            assertThat(frameTypes(second)).containsExactly("join-room-success", "player-list-updated");
+            assertThat(senderThreads).isNotEmpty().allMatch(name -> name.startsWith("pipeline-send-"));
+            assertThat(handler.describeSessions("room-1")).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("관전자에게 가는 방 이벤트도 송신 단계가 보낸다")
+        void sendToSpectatorsOnSenderThreads() throws Exception {
+            // given
+            WebSocketSession player = openSession("session-1");
+            WebSocketSession spectator = openSession("session-2");
+            List<String> senderThreads = new CopyOnWriteArrayList<>();
+            doAnswer(invocation -> {
+                senderThreads.add(Thread.currentThread().getName());
+                return null;
+            }).when(spectator).sendMessage(any());
+            send(player, joinRoom("room-1", "player-1"));
+            send(spectator, "{\"type\":\"spectate-room\",\"data\":{\"roomId\":\"room-1\"}}");
+            // 다른 연결의 명령은 다른 파티션에서 처리되므로 관전 등록이 끝난 뒤 참가시킨다
+            verify(spectator, timeout(5_000)).sendMessage(any());
+
+            // when
+            send(openSession("session-3"), joinRoom("room-1", "player-2"));
+            handler.stopPipeline();
+
+            // then
+            assertThat(frameTypes(spectator)).containsExactly("spectate-room-success", "player-list-updated");
+            assertThat(senderThreads).hasSize(2).allMatch(name -> name.startsWith("pipeline-send-"));
+        }
+
+        @Test
+        @DisplayName("명령마다 송신 슬롯을 따로 발행해 연속으로 보낸 명령의 응답을 한 프레임으로 묶지 않는다")
+        void publishPerCommand() throws Exception {
+            // given
+            WebSocketSession session = coalescingSession("session-1");
+
+            // when
+            send(session, joinRoom("room-1", "player-1"));
+            send(session, "{\"type\":\"start-game\",\"data\":{}}");
+            handler.stopPipeline();
+
+            // then
+            List<JsonNode> frames = sentFrames(session);
+            assertThat(frames).hasSize(2);
+            assertThat(batchTypes(frames.get(0))).containsExactly("join-room-success", "player-list-updated");
+            assertThat(frames.get(1).get("type").asText()).isEqualTo("error");
+        }
+
+        @Test
+        @DisplayName("다른 방 처리 스레드가 같은 방을 바꿔도 받는 쪽은 바뀐 순서대로 받는다")
+        void deliverRoomEventsInChangeOrder() throws Exception {
+            // given
+            WebSocketSession first = openSession("session-1");
+            WebSocketSession second = openSession("session-2");
+            send(first, joinRoom("room-1", "player-1"));
+            verify(first, timeout(5_000).times(2)).sendMessage(any());
+            send(second, joinRoom("room-1", "player-2"));
+            verify(second, timeout(5_000).times(2)).sendMessage(any());
+
+            // when
+            for (int i = 0; i < 50; i++) {
+                send(first, "{\"type\":\"send-chat-message\",\"data\":{\"message\":\"a" + i + "\"}}");
+                send(second, "{\"type\":\"send-chat-message\",\"data\":{\"message\":\"b" + i + "\"}}");
+            }
+            handler.stopPipeline();
+
+            // then
+            List<Long> sequences = new ArrayList<>();
+            for (JsonNode frame : sentFrames(first)) {
+                if (frame.get("type").asText().equals("chat-message")) {
+                    sequences.add(frame.get("data").get("sequence").asLong());
+                }
+            }
+            assertThat(sequences).hasSize(100).isSorted().doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("링에서 기다리는 메시지도 처리 중으로 세고, 기다린 시간까지 처리 시간에 넣는다")
+        void countQueuedMessagesAsInFlight() throws Exception {
+            // given
+            RoomService blockingRoomService = mock(RoomService.class);
+            when(blockingRoomService.getOrCreateRoom(any())).thenReturn(Room.builder().roomId("room-1").build());
+            CountDownLatch release = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            }).when(blockingRoomService).joinRoom(any(), any(), any(), any());
+            AdmissionController admissionController = new AdmissionController(gameProperties);
+            WebSocketHandler pipelined = WebSocketHandlerFixture.create(blockingRoomService, gameProperties,
+                    new RoomBroadcastBus("node-1", null, event -> {
+                    }), admissionController);
+            pipelined.startPipeline();
+            WebSocketSession session = openSession("session-1");
+
+            // when
+            pipelined.handleMessage(session, new TextMessage(joinRoom("room-1", "player-1")));
+            pipelined.handleMessage(session, new TextMessage("{\"type\":\"start-game\",\"data\":{}}"));
+            int queued = admissionController.inFlight();
+            Thread.sleep(50);
+            release.countDown();
+            pipelined.stopPipeline();
+
+            // then
+            assertThat(queued).isEqualTo(2);
+            assertThat(admissionController.inFlight()).isZero();
+            assertThat(admissionController.averageLatencyMillis()).isGreaterThanOrEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("연결 종료는 같은 연결에서 앞서 받은 명령을 처리한 뒤 실행한다")
+        void closeAfterPendingCommands() throws Exception {
+            // given
+            WebSocketSession session = openSession("session-1");
+
+            // when
+            send(session, joinRoom("room-1", "player-1"));
+            handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+            handler.stopPipeline();
+
+            // then
+            assertThat(frameTypes(session)).contains("join-room-success");
+            assertThat(handler.describeSessions("room-1")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("파이프라인을 멈춘 뒤에는 호출 스레드에서 바로 처리한다")
+        void processDirectlyAfterStop() throws Exception {
+            // given
+            WebSocketSession session = openSession("session-1");
+            handler.stopPipeline();
+
+            // when
+            send(session, "{\"type\":\"start-game\",\"data\":{}}");
+
+            // then
+            assertThat(frameTypes(session)).containsExactly("error");
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.confession.game.global.journal;
+
+import com.confession.game.domain.room.event.RoomEvent;
+import com.confession.game.global.config.GameProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GameEventJournal 테스트")
+class GameEventJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private GameProperties propertiesWith(GameProperties.Journal.Format format) {
+        GameProperties gameProperties = new GameProperties();
+        gameProperties.getJournal().setDirectory(directory.toString());
+        gameProperties.getJournal().setFormat(format);
+        gameProperties.getJournal().setFlushIntervalMillis(10);
+        return gameProperties;
+    }
+
+    private List<Path> journalFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    @Test
+    @DisplayName("이벤트를 NDJSON 으로 기록한다")
+    void writeNdjson() throws Exception {
+        // given
+        GameEventJournal journal = new GameEventJournal(propertiesWith(GameProperties.Journal.Format.NDJSON));
+        journal.start();
+
+        // when
+        journal.append(RoomEvent.joined("room-1", "player-1"));
+        journal.append(RoomEvent.voted("room-1", "player-1", true));
+        journal.stop();
+
+        // then
+        List<String> lines = Files.readAllLines(journalFiles().get(0));
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("\"type\":\"JOIN\"", "\"roomId\":\"room-1\"")
+                .doesNotContain("confessionId");
+        assertThat(lines.get(1)).contains("\"agree\":true");
+        assertThat(journal.writtenCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("워밍업 가상 방의 이벤트는 기록하지 않는다")
+    void skipWarmupRooms() throws Exception {
+        // given
+        GameEventJournal journal = new GameEventJournal(propertiesWith(GameProperties.Journal.Format.NDJSON));
+        journal.start();
+
+        // when
+        journal.onRoomEvent(RoomEvent.joined(RoomEvent.SYNTHETIC_ROOM_PREFIX + "0", "player-1"));
+        journal.onRoomEvent(RoomEvent.joined("room-1", "player-1"));
+        journal.stop();
+
+        // then
+        List<String> lines = Files.readAllLines(journalFiles().get(0));
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).contains("\"roomId\":\"room-1\"");
+        assertThat(journal.writtenCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("바이너리 형식은 길이 접두 프레임으로 기록한다")
+    void writeLengthPrefixedBinary() throws Exception {
+        // given
+        GameEventJournal journal = new GameEventJournal(propertiesWith(GameProperties.Journal.Format.BINARY));
+        journal.start();
+
+        // when
+        journal.append(RoomEvent.confession("room-1", "c1", 12));
+        journal.stop();
+
+        // then
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(journalFiles().get(0)))) {
+            int length = in.readInt();
+            assertThat(length).isPositive();
+            assertThat(in.readByte()).isEqualTo((byte) RoomEvent.Type.CONFESSION.ordinal());
+            assertThat(in.skipBytes(length - 1)).isEqualTo(length - 1);
+            assertThat(in.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    @DisplayName("파일 크기 한도를 넘으면 새 파일로 교체한다")
+    void rotateFiles() throws Exception {
+        // given
+        GameProperties gameProperties = propertiesWith(GameProperties.Journal.Format.NDJSON);
+        gameProperties.getJournal().setMaxFileBytes(100);
+        GameEventJournal journal = new GameEventJournal(gameProperties);
+        journal.start();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            journal.append(RoomEvent.joined("room-1", "player-" + i));
+        }
+        journal.stop();
+
+        // then
+        assertThat(journalFiles().size()).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 이벤트를 버리고 개수를 센다")
+    void dropWhenQueueFull() {
+        // given
+        GameProperties gameProperties = propertiesWith(GameProperties.Journal.Format.NDJSON);
+        gameProperties.getJournal().setQueueCapacity(1);
+        GameEventJournal journal = new GameEventJournal(gameProperties);
+
+        // when
+        boolean first = journal.append(RoomEvent.joined("room-1", "player-1"));
+        boolean second = journal.append(RoomEvent.joined("room-1", "player-2"));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(journal.droppedCount()).isEqualTo(1);
+    }
+}
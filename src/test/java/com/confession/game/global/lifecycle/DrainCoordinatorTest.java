@@ -0,0 +1,153 @@
+package com.confession.game.global.lifecycle;
+
+import com.confession.game.domain.room.entity.Room;
+import com.confession.game.domain.room.repository.RoomRepository;
+import com.confession.game.domain.room.service.RoomService;
+import com.confession.game.global.config.GameProperties;
+import com.confession.game.global.exception.AdmissionRejectedException;
+import com.confession.game.global.handler.AdmissionController;
+import com.confession.game.global.timer.HashedWheelTimer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DrainCoordinator 테스트")
+class DrainCoordinatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private GameProperties gameProperties;
+    private HashedWheelTimer roundTimer;
+    private List<Object> events;
+
+    private RoomRepository roomRepository;
+    private RoomService roomService;
+    private AdmissionController admissionController;
+    private DrainCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        gameProperties = new GameProperties();
+        gameProperties.getRound().setEnabled(false);
+        gameProperties.getDrain().setTimeoutSeconds(0);
+        gameProperties.getDrain().setExportFile(tempDir.resolve("rooms.json").toString());
+        gameProperties.getDrain().setRestoreOnStartup(true);
+        roundTimer = mock(HashedWheelTimer.class);
+        events = new ArrayList<>();
+
+        roomRepository = new RoomRepository();
+        roomService = new RoomService(roomRepository, gameProperties, null, events::add, roundTimer);
+        admissionController = new AdmissionController(gameProperties);
+        coordinator = new DrainCoordinator(roomRepository, roomService, admissionController,
+                gameProperties, events::add, roundTimer);
+    }
+
+    /**
+     * 같은 내보내기 파일을 쓰는 새 프로세스를 흉내 낸다.
+     */
+    private DrainCoordinator nextProcess(RoomRepository repository) {
+        RoomService service = new RoomService(repository, gameProperties, null, event -> {}, roundTimer);
+        return new DrainCoordinator(repository, service, new AdmissionController(gameProperties),
+                gameProperties, event -> {}, roundTimer);
+    }
+
+    @Test
+    @DisplayName("드레인을 시작하면 신규 참가를 server-draining 으로 거절하고 재접속 시점을 알린다")
+    void rejectNewJoins() {
+        // when
+        coordinator.drain();
+
+        // then
+        assertThatThrownBy(() -> admissionController.checkNotDraining())
+                .isInstanceOf(AdmissionRejectedException.class)
+                .extracting("reason")
+                .isEqualTo(AdmissionRejectedException.Reason.DRAINING);
+        assertThat(admissionController.retryAfterMillis())
+                .isEqualTo(gameProperties.getDrain().getReconnectAfterMillis());
+        assertThat(events).hasAtLeastOneElementOfType(DrainCoordinator.DrainStartedEvent.class)
+                .hasAtLeastOneElementOfType(DrainCoordinator.DrainCompletedEvent.class);
+    }
+
+    @Test
+    @DisplayName("방 구성을 내보내고 소요 시간을 보고한다")
+    void exportRooms() throws Exception {
+        // given
+        roomService.joinRoom("room-1", "player-1", "플레이어1", "session-1");
+        roomService.joinRoom("room-1", "player-2", "플레이어2", "session-2");
+        roomService.joinRoom("room-2", "player-3", "플레이어3", "session-3");
+
+        // when
+        DrainCoordinator.DrainReport report = coordinator.drain();
+
+        // then
+        assertThat(report.roomsExported()).isEqualTo(2);
+        assertThat(report.roomsInterrupted()).isZero();
+        assertThat(report.durationMillis()).isGreaterThanOrEqualTo(0);
+        assertThat(coordinator.lastReport()).isSameAs(report);
+        assertThat(Files.readString(tempDir.resolve("rooms.json")))
+                .contains("room-1", "player-2", "플레이어3");
+    }
+
+    @Test
+    @DisplayName("마감 시각까지 끝나지 않은 라운드는 중단된 방으로 집계한다")
+    void countInterruptedRounds() {
+        // given
+        roomService.joinRoom("room-1", "player-1", "플레이어1", "session-1");
+        roomService.joinRoom("room-1", "player-2", "플레이어2", "session-2");
+        roomService.startGame("room-1");
+
+        // when
+        DrainCoordinator.DrainReport report = coordinator.drain();
+
+        // then
+        assertThat(report.roomsExported()).isEqualTo(1);
+        assertThat(report.roomsInterrupted()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다음 프로세스는 내보낸 방을 대기 상태로 복원하고 재접속하지 않은 플레이어를 내보낸다")
+    void restoreRooms() {
+        // given
+        roomService.joinRoom("room-1", "player-1", "플레이어1", "session-1");
+        roomService.joinRoom("room-1", "player-2", "플레이어2", "session-2");
+        roomService.startGame("room-1");
+        String target = roomService.getRoom("room-1").getCurrentTarget();
+        coordinator.drain();
+
+        RoomRepository nextRepository = new RoomRepository();
+        DrainCoordinator next = nextProcess(nextRepository);
+
+        // when
+        next.start();
+
+        // then
+        Room restored = nextRepository.findById("room-1").orElseThrow();
+        assertThat(restored.getGameState()).isEqualTo(Room.GameState.WAITING);
+        assertThat(restored.getPlayers()).containsOnlyKeys("player-1", "player-2");
+        assertThat(restored.getPlayers().get("player-1").getSessionId()).isNull();
+        assertThat(restored.getTargetHistory()).containsExactly(target);
+        assertThat(Files.exists(tempDir.resolve("rooms.json"))).isFalse();
+        verify(roundTimer).newTimeout(any(Runnable.class),
+                eq(gameProperties.getDrain().getReconnectGraceSeconds() * 1000));
+
+        // when: 한 명만 재접속한 뒤 유예 시간이 지남
+        RoomService nextService = new RoomService(nextRepository, gameProperties, null, event -> {}, roundTimer);
+        nextService.joinRoom("room-1", "player-1", "플레이어1", "session-9");
+        int evicted = nextService.evictUnclaimedPlayers("room-1");
+
+        // then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(restored.getPlayers()).containsOnlyKeys("player-1");
+    }
+}
@@ -0,0 +1,132 @@
+package com.confession.game.global.lifecycle;
+
+import com.confession.game.domain.room.event.RoomEvent;
+import com.confession.game.domain.room.repository.RoomRepository;
+import com.confession.game.domain.room.service.RoomService;
+import com.confession.game.domain.stats.dto.GameStatsResponse;
+import com.confession.game.domain.stats.service.GameStatsService;
+import com.confession.game.global.config.GameProperties;
+import com.confession.game.global.handler.WebSocketHandler;
+import com.confession.game.global.handler.WebSocketHandlerFixture;
+import com.confession.game.global.timer.HashedWheelTimer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("WarmupRunner 테스트")
+class WarmupRunnerTest {
+
+    private GameProperties gameProperties;
+    private RoomRepository roomRepository;
+    private List<Object> events;
+    private GameStatsService gameStatsService;
+    private LoggingSystem loggingSystem;
+    private WebSocketHandler handler;
+    private WarmupRunner warmupRunner;
+
+    @BeforeEach
+    void setUp() {
+        gameProperties = new GameProperties();
+        gameProperties.getWarmup().setRounds(20);
+        roomRepository = new RoomRepository();
+        events = new ArrayList<>();
+        gameStatsService = new GameStatsService();
+        loggingSystem = mock(LoggingSystem.class);
+
+        RoomService roomService = new RoomService(roomRepository, gameProperties, null, event -> {
+            events.add(event);
+            if (event instanceof RoomEvent roomEvent) {
+                gameStatsService.onRoomEvent(roomEvent);
+            }
+        }, mock(HashedWheelTimer.class));
+        handler = WebSocketHandlerFixture.create(roomService, gameProperties);
+        warmupRunner = new WarmupRunner(handler, roomService, gameProperties, loggingSystem);
+    }
+
+    @Test
+    @DisplayName("설정한 라운드 수만큼 전체 게임 흐름을 진행하고 가상 방을 남기지 않는다")
+    void playFullRounds() {
+        // when
+        warmupRunner.run(null);
+
+        // then
+        assertThat(warmupRunner.completedRounds()).isEqualTo(20);
+        assertThat(roomRepository.count()).isZero();
+        assertThat(events).filteredOn(RoomEvent.class::isInstance)
+                .extracting(event -> ((RoomEvent) event).type())
+                .contains(RoomEvent.Type.JOIN, RoomEvent.Type.START, RoomEvent.Type.CONFESSION,
+                        RoomEvent.Type.EXPLANATION, RoomEvent.Type.VOTE, RoomEvent.Type.TARGET_CHANGE,
+                        RoomEvent.Type.ROOM_DELETED);
+    }
+
+    @Test
+    @DisplayName("수신 파이프라인이 켜져 있어도 가상 세션은 바로 처리해 전체 라운드를 마친다")
+    void playFullRoundsWithPipeline() throws Exception {
+        // given
+        gameProperties.getPipeline().setEnabled(true);
+        gameProperties.getPipeline().setRingSize(64);
+        handler.startPipeline();
+
+        // when
+        warmupRunner.run(null);
+        handler.stopPipeline();
+
+        // then
+        assertThat(warmupRunner.completedRounds()).isEqualTo(20);
+        assertThat(roomRepository.count()).isZero();
+        assertThat(events).filteredOn(RoomEvent.class::isInstance)
+                .extracting(event -> ((RoomEvent) event).type())
+                .contains(RoomEvent.Type.EXPLANATION, RoomEvent.Type.TARGET_CHANGE);
+        assertThat(gameStatsService.getStats().getRoundsCompleted()).isZero();
+    }
+
+    @Test
+    @DisplayName("워밍업 라운드는 게임 통계에 남지 않는다")
+    void leaveStatsEmpty() {
+        // when
+        warmupRunner.run(null);
+
+        // then
+        GameStatsResponse stats = gameStatsService.getStats();
+        assertThat(stats.getTrackedRooms()).isZero();
+        assertThat(stats.getRoundsCompleted()).isZero();
+        assertThat(stats.getConfessions()).isZero();
+        assertThat(stats.getExplanations()).isZero();
+        assertThat(stats.getVotes()).isZero();
+    }
+
+    @Test
+    @DisplayName("워밍업 동안만 라운드 로그를 WARN 으로 올리고 끝나면 되돌린다")
+    void quietLoggersDuringWarmup() {
+        // given
+        String logger = RoomService.class.getName();
+
+        // when
+        warmupRunner.run(null);
+
+        // then
+        verify(loggingSystem).setLogLevel(logger, LogLevel.WARN);
+        verify(loggingSystem).setLogLevel(logger, null);
+    }
+
+    @Test
+    @DisplayName("제한 시간이 지나면 라운드를 다 채우지 않고 끝낸다")
+    void stopAtDeadline() {
+        // given
+        gameProperties.getWarmup().setMaxMillis(0);
+
+        // when
+        warmupRunner.run(null);
+
+        // then
+        assertThat(warmupRunner.completedRounds()).isZero();
+    }
+}
@@ -0,0 +1,121 @@
+package com.confession.game.global.memory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TextArena 테스트")
+class TextArenaTest {
+
+    private TextSlabPool pool;
+    private TextArena arena;
+
+    @BeforeEach
+    void setUp() {
+        pool = new TextSlabPool(32, 4);
+        arena = new TextArena(pool);
+    }
+
+    @Test
+    @DisplayName("저장한 텍스트를 그대로 읽는다")
+    void storeAndRead() {
+        // when
+        long first = arena.store("당신은 항상 늦어요");
+        long second = arena.store("hello");
+
+        // then
+        assertThat(arena.read(first, arena.generation())).isEqualTo("당신은 항상 늦어요");
+        assertThat(arena.read(second, arena.generation())).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("슬랩이 가득 차면 새 슬랩을 사용한다")
+    void allocateNewSlab() {
+        // when
+        long first = arena.store("a".repeat(20));
+        long second = arena.store("b".repeat(20));
+
+        // then
+        assertThat(arena.slabCount()).isEqualTo(2);
+        assertThat(arena.read(first, arena.generation())).isEqualTo("a".repeat(20));
+        assertThat(arena.read(second, arena.generation())).isEqualTo("b".repeat(20));
+    }
+
+    @Test
+    @DisplayName("슬랩보다 큰 텍스트는 저장하지 않는다")
+    void rejectOversizedText() {
+        assertThat(arena.store("x".repeat(33))).isEqualTo(TextArena.NO_REF);
+    }
+
+    @Test
+    @DisplayName("리셋하면 슬랩을 풀에 반납하고 이전 참조는 읽을 수 없다")
+    void resetReleasesSlabs() {
+        // given
+        long ref = arena.store("고해성사");
+        int generation = arena.generation();
+
+        // when
+        arena.reset();
+
+        // then
+        assertThat(arena.read(ref, generation)).isNull();
+        assertThat(arena.slabCount()).isZero();
+        assertThat(pool.pooledSlabs()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JSON 문자열로 기록할 때 특수문자를 이스케이프한다")
+    void writeEscapedJson() {
+        // given
+        long ref = arena.store("\"따옴표\"\n\\");
+        int length = arena.jsonStringLength(ref, arena.generation());
+        byte[] out = new byte[length];
+
+        // when
+        int end = arena.writeJsonString(ref, arena.generation(), out, 0);
+
+        // then
+        assertThat(end).isEqualTo(length);
+        assertThat(new String(out, StandardCharsets.UTF_8)).isEqualTo("\"\\\"따옴표\\\"\\n\\\\\"");
+    }
+
+    @Test
+    @DisplayName("중간 위치부터 배열 끝까지 정확히 채우는 JSON 문자열을 기록하고, 한 바이트라도 모자라면 거절한다")
+    void writeJsonExactlyFillingBuffer() {
+        // given
+        long ref = arena.store("a\"b");
+        int length = arena.jsonStringLength(ref, arena.generation());
+        byte[] exact = new byte[3 + length];
+        byte[] short1 = new byte[3 + length - 1];
+
+        // when
+        int end = arena.writeJsonString(ref, arena.generation(), exact, 3);
+        int rejected = arena.writeJsonString(ref, arena.generation(), short1, 3);
+
+        // then
+        assertThat(end).isEqualTo(exact.length);
+        assertThat(new String(exact, 3, length, StandardCharsets.UTF_8)).isEqualTo("\"a\\\"b\"");
+        assertThat(rejected).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("라운드가 바뀐 참조는 JSON 으로 기록하지 않는다")
+    void rejectStaleJsonWrite() {
+        // given
+        long ref = arena.store("지난 라운드");
+        int generation = arena.generation();
+        int length = arena.jsonStringLength(ref, generation);
+        arena.reset();
+
+        // when
+        int end = arena.writeJsonString(ref, generation, new byte[length], 0);
+
+        // then
+        assertThat(end).isEqualTo(-1);
+        assertThat(arena.jsonStringLength(ref, generation)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,119 @@
+package com.confession.game.global.pipeline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("EventRing 테스트")
+class EventRingTest {
+
+    private static final class Slot {
+        private long value;
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 발행한 슬롯을 단계들이 빠짐없이 순서대로 처리한다")
+    void consumeInOrderAcrossStages() throws Exception {
+        // given
+        int producers = 4;
+        int perProducer = 10_000;
+        EventRing<Slot> ring = new EventRing<>(64, Slot::new);
+        AtomicLong doubledSum = new AtomicLong();
+        List<Long> batchEnds = new CopyOnWriteArrayList<>();
+
+        RingStage<Slot> doubler = new RingStage<>(ring, (slot, sequence, endOfBatch) -> slot.value *= 2, 16);
+        RingStage<Slot> summer = new RingStage<>(ring, (slot, sequence, endOfBatch) -> {
+            doubledSum.addAndGet(slot.value);
+            if (endOfBatch) {
+                batchEnds.add(sequence);
+            }
+        }, 16, doubler.sequence());
+        ring.gateOn(summer.sequence());
+        doubler.start("test-doubler");
+        summer.start("test-summer");
+
+        // when
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            Thread producer = new Thread(() -> {
+                for (int i = 1; i <= perProducer; i++) {
+                    long sequence = ring.next();
+                    ring.get(sequence).value = i;
+                    ring.publish(sequence);
+                }
+                done.countDown();
+            });
+            producer.start();
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        long last = (long) producers * perProducer - 1;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (summer.sequence().get() < last && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        doubler.stop();
+        summer.stop();
+
+        // then
+        long expected = 2L * producers * ((long) perProducer * (perProducer + 1) / 2);
+        assertThat(summer.sequence().get()).isEqualTo(last);
+        assertThat(doubledSum.get()).isEqualTo(expected);
+        assertThat(batchEnds).isSorted();
+        assertThat(batchEnds).last().isEqualTo(last);
+    }
+
+    @Test
+    @DisplayName("링이 가득 차면 마지막 단계가 지나갈 때까지 예약을 기다린다")
+    void waitWhenFull() throws Exception {
+        // given
+        EventRing<Slot> ring = new EventRing<>(4, Slot::new);
+        AtomicLong consumed = new AtomicLong(EventRing.INITIAL_SEQUENCE);
+        ring.gateOn(consumed);
+        for (int i = 0; i < 4; i++) {
+            ring.publish(ring.next());
+        }
+
+        // when
+        CompletableFuture<Long> fifth = CompletableFuture.supplyAsync(ring::next);
+        Thread.sleep(100);
+        boolean claimedWhileFull = fifth.isDone();
+        long triedWhileFull = ring.tryNext();
+        consumed.set(0);
+
+        // then
+        assertThat(claimedWhileFull).isFalse();
+        assertThat(triedWhileFull).isEqualTo(-1);
+        assertThat(fifth.get(5, TimeUnit.SECONDS)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("멈춘 링은 새 예약을 거절한다")
+    void rejectAfterHalt() {
+        // given
+        EventRing<Slot> ring = new EventRing<>(4, Slot::new);
+        ring.halt();
+
+        // when & then
+        assertThatThrownBy(ring::next)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("링이 멈췄습니다.");
+        assertThat(ring.tryNext()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("링 크기가 2의 거듭제곱이 아니면 예외가 발생한다")
+    void rejectNonPowerOfTwo() {
+        // when & then
+        assertThatThrownBy(() -> new EventRing<>(100, Slot::new))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2의 거듭제곱");
+    }
+}
@@ -0,0 +1,129 @@
+package com.confession.game.global.timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HashedWheelTimer 테스트")
+class HashedWheelTimerTest {
+
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        timer = new HashedWheelTimer(10, 8);
+        timer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    @DisplayName("지연 시간이 지나면 작업을 실행한다")
+    void runAfterDelay() throws InterruptedException {
+        // given
+        CountDownLatch latch = new CountDownLatch(1);
+        long startedAt = System.nanoTime();
+
+        // when
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(latch::countDown, 50);
+
+        // then
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - startedAt).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(timeout.isExpired()).isTrue();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 긴 지연도 처리한다")
+    void runAfterMultipleRounds() throws InterruptedException {
+        // given: 10ms * 8칸 = 80ms 한 바퀴
+        CountDownLatch latch = new CountDownLatch(1);
+        long startedAt = System.nanoTime();
+
+        // when
+        timer.newTimeout(latch::countDown, 200);
+
+        // then
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - startedAt).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    @DisplayName("취소한 작업은 실행하지 않는다")
+    void cancel() throws InterruptedException {
+        // given
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        HashedWheelTimer.Timeout cancelled = timer.newTimeout(runs::incrementAndGet, 30);
+
+        // when
+        boolean result = cancelled.cancel();
+        timer.newTimeout(latch::countDown, 60);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(runs.get()).isZero();
+        assertThat(cancelled.isCancelled()).isTrue();
+        assertThat(timer.activeTimeouts()).isZero();
+    }
+
+    @Test
+    @DisplayName("작업에서 예외가 나도 다른 작업은 계속 실행된다")
+    void continueAfterTaskFailure() throws InterruptedException {
+        // given
+        CountDownLatch latch = new CountDownLatch(1);
+
+        // when
+        timer.newTimeout(() -> {
+            throw new IllegalStateException("실패");
+        }, 10);
+        timer.newTimeout(latch::countDown, 40);
+
+        // then
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(timer.expiredTimeouts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("작업을 실행기에 넘기면 막힌 작업이 있어도 다른 마감은 제때 실행된다")
+    void handOffBlockingTasks() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newCachedThreadPool();
+        HashedWheelTimer handOffTimer = new HashedWheelTimer(10, 8, executor);
+        handOffTimer.start();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch later = new CountDownLatch(1);
+
+        try {
+            // when
+            handOffTimer.newTimeout(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, 10);
+            handOffTimer.newTimeout(later::countDown, 40);
+
+            // then
+            assertThat(later.await(1, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+            handOffTimer.stop();
+            executor.shutdown();
+        }
+    }
+}
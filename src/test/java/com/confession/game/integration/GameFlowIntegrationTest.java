@@ -6,6 +6,7 @@ import com.confession.game.domain.player.entity.Player;
 import com.confession.game.domain.room.entity.Room;
 import com.confession.game.domain.room.repository.RoomRepository;
 import com.confession.game.domain.room.service.RoomService;
+import com.confession.game.global.exception.AdmissionRejectedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,7 +15,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 
 import static org.assertj.core.api.Assertions.*;
 
-@SpringBootTest
+@SpringBootTest(properties = {"game.drain.enabled=false", "game.warmup.enabled=false", "game.room.max-players=100"})
 @DisplayName("게임 플로우 통합 테스트")
 class GameFlowIntegrationTest {
 
@@ -386,4 +387,21 @@ class GameFlowIntegrationTest {
         assertThat(joinTime).isLessThan(1000);
         assertThat(startGameTime).isLessThan(100);
     }
+
+    @Test
+    @DisplayName("예외 상황: 설정한 최대 인원을 넘는 참가는 room-full 로 거절")
+    void exceptionRoomFull() {
+        // given
+        for (int i = 1; i <= 100; i++) {
+            roomService.joinRoom(roomId, "player-" + i, "플레이어" + i, "session-" + i);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> roomService.joinRoom(roomId, "player-101", "플레이어101", "session-101"))
+                .isInstanceOf(AdmissionRejectedException.class)
+                .hasMessage("방 인원이 가득 찼습니다.")
+                .extracting("reason")
+                .isEqualTo(AdmissionRejectedException.Reason.ROOM_FULL);
+        assertThat(roomService.getRoom(roomId).getPlayers()).hasSize(100);
+    }
 }